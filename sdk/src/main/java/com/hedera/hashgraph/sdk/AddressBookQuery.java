@@ -152,15 +152,21 @@ public class AddressBookQuery {
     public NodeAddressBook execute(Client client, Duration timeout) {
         var deadline = Deadline.after(timeout.toMillis(), TimeUnit.MILLISECONDS);
         for (int attempt = 1; true; attempt++) {
+            var node = getNextMirrorNode(client);
+            var startedAt = System.nanoTime();
             try {
                 var addressProtoIter =
-                        ClientCalls.blockingServerStreamingCall(buildCall(client, deadline), buildQuery());
+                        ClientCalls.blockingServerStreamingCall(buildCall(node, deadline), buildQuery());
                 List<NodeAddress> addresses = new ArrayList<>();
                 while (addressProtoIter.hasNext()) {
                     addresses.add(NodeAddress.fromProtobuf(addressProtoIter.next()));
                 }
+                client.mirrorNetwork.recordSuccess(node, Duration.ofNanos(System.nanoTime() - startedAt));
                 return new NodeAddressBook().setNodeAddresses(addresses);
             } catch (Throwable error) {
+                if (shouldRetry(error)) {
+                    client.mirrorNetwork.recordFailure(node);
+                }
                 if (!shouldRetry(error) || attempt >= maxAttempts) {
                     LOGGER.error("Error attempting to get address book at FileId {}", fileId, error);
                     throw error;
@@ -204,8 +210,10 @@ public class AddressBookQuery {
      */
     void executeAsync(Client client, Deadline deadline, CompletableFuture<NodeAddressBook> returnFuture, int attempt) {
         List<NodeAddress> addresses = new ArrayList<>();
+        var node = getNextMirrorNode(client);
+        var startedAt = System.nanoTime();
         ClientCalls.asyncServerStreamingCall(
-                buildCall(client, deadline),
+                buildCall(node, deadline),
                 buildQuery(),
                 new StreamObserver<com.hedera.hashgraph.sdk.proto.NodeAddress>() {
                     @Override
@@ -215,6 +223,9 @@ public class AddressBookQuery {
 
                     @Override
                     public void onError(Throwable error) {
+                        if (shouldRetry(error)) {
+                            client.mirrorNetwork.recordFailure(node);
+                        }
                         if (attempt >= maxAttempts || !shouldRetry(error)) {
                             LOGGER.error("Error attempting to get address book at FileId {}", fileId, error);
                             returnFuture.completeExceptionally(error);
@@ -227,6 +238,7 @@ public class AddressBookQuery {
 
                     @Override
                     public void onCompleted() {
+                        client.mirrorNetwork.recordSuccess(node, Duration.ofNanos(System.nanoTime() - startedAt));
                         returnFuture.complete(new NodeAddressBook().setNodeAddresses(addresses));
                     }
                 });
@@ -250,12 +262,14 @@ public class AddressBookQuery {
 
     private ClientCall<
                     com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery, com.hedera.hashgraph.sdk.proto.NodeAddress>
-            buildCall(Client client, Deadline deadline) {
+            buildCall(MirrorNode node, Deadline deadline) {
+        return node.getChannel()
+                .newCall(NetworkServiceGrpc.getGetNodesMethod(), CallOptions.DEFAULT.withDeadline(deadline));
+    }
+
+    private static MirrorNode getNextMirrorNode(Client client) {
         try {
-            return client.mirrorNetwork
-                    .getNextMirrorNode()
-                    .getChannel()
-                    .newCall(NetworkServiceGrpc.getGetNodesMethod(), CallOptions.DEFAULT.withDeadline(deadline));
+            return client.mirrorNetwork.getNextMirrorNode();
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signals that some of the queries run by a {@link BulkQueryExecutor} have failed.
+ * <p>
+ * The executor keeps going when a query fails, so this is only raised once every query has been run.
+ */
+public class BulkQueryException extends Exception {
+    /**
+     * The number of queries that succeeded.
+     */
+    public final long successCount;
+
+    /**
+     * The number of queries that failed, which can be larger than the number of failures kept.
+     */
+    public final long failureCount;
+
+    /**
+     * The first failures, in the order they happened.
+     */
+    public final List<Failure> failures;
+
+    /**
+     * Constructor.
+     *
+     * @param successCount              the number of queries that succeeded
+     * @param failureCount              the number of queries that failed
+     * @param failures                  the failures kept
+     */
+    BulkQueryException(long successCount, long failureCount, List<Failure> failures) {
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.failures = Collections.unmodifiableList(failures);
+
+        for (var failure : failures) {
+            addSuppressed(failure.error);
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return failureCount + " of " + (successCount + failureCount) + " queries failed";
+    }
+
+    /**
+     * A query that failed, and why.
+     */
+    public static final class Failure {
+        /**
+         * The query that failed.
+         */
+        public final Query<?, ?> query;
+
+        /**
+         * The error the query failed with.
+         */
+        public final Throwable error;
+
+        Failure(Query<?, ?> query, Throwable error) {
+            this.query = query;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,623 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * Runs a large number of queries with bounded parallelism, streaming out their results as they arrive.
+ * <p>
+ * Queries are pulled from an {@link Iterator} or {@link Stream} only when there is room to run them, so the queries
+ * and their results never have to be held in memory all at once. At most {@link #setMaxConcurrency(int)} queries are
+ * in flight or waiting to be delivered, and at most {@link #setMaxConcurrencyPerNode(int)} of them are sent to the
+ * same node first. Queries without explicit node account IDs are spread over the healthy nodes of the network, the
+ * least busy one first, and fail over to the others like any other query.
+ * <p>
+ * A failed query does not stop the others. Once every query has run, the failures are reported together as a
+ * {@link BulkQueryException}.
+ *
+ * @param <Q> the type of the queries
+ * @param <O> the type of their results
+ */
+public final class BulkQueryExecutor<Q extends Query<O, Q>, O> {
+    static final int DEFAULT_MAX_CONCURRENCY = 64;
+    static final int DEFAULT_MAX_CONCURRENCY_PER_NODE = 8;
+    static final int DEFAULT_MAX_RECORDED_FAILURES = 1000;
+
+    private static final Flow.Subscription EMPTY_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    };
+
+    private final Client client;
+
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private int maxConcurrencyPerNode = DEFAULT_MAX_CONCURRENCY_PER_NODE;
+    private int maxRecordedFailures = DEFAULT_MAX_RECORDED_FAILURES;
+
+    @Nullable
+    private Duration timeout = null;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client the queries are executed with
+     */
+    public BulkQueryExecutor(Client client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Extract the maximum number of queries in flight or waiting to be delivered.
+     *
+     * @return                          the maximum number of queries
+     */
+    public synchronized int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Assign the maximum number of queries in flight or waiting to be delivered.
+     *
+     * @param maxConcurrency            the maximum number of queries
+     * @return {@code this}
+     */
+    public synchronized BulkQueryExecutor<Q, O> setMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of queries in flight to the same node.
+     *
+     * @return                          the maximum number of queries per node
+     */
+    public synchronized int getMaxConcurrencyPerNode() {
+        return maxConcurrencyPerNode;
+    }
+
+    /**
+     * Assign the maximum number of queries in flight to the same node.
+     * <p>
+     * Only the first node of a query is counted, as a query only moves on to another node when the first one fails.
+     *
+     * @param maxConcurrencyPerNode     the maximum number of queries per node
+     * @return {@code this}
+     */
+    public synchronized BulkQueryExecutor<Q, O> setMaxConcurrencyPerNode(int maxConcurrencyPerNode) {
+        if (maxConcurrencyPerNode <= 0) {
+            throw new IllegalArgumentException("maxConcurrencyPerNode must be greater than zero");
+        }
+
+        this.maxConcurrencyPerNode = maxConcurrencyPerNode;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of failures kept in the {@link BulkQueryException}.
+     *
+     * @return                          the maximum number of failures
+     */
+    public synchronized int getMaxRecordedFailures() {
+        return maxRecordedFailures;
+    }
+
+    /**
+     * Assign the maximum number of failures kept in the {@link BulkQueryException}. Failures beyond it are only
+     * counted.
+     *
+     * @param maxRecordedFailures       the maximum number of failures
+     * @return {@code this}
+     */
+    public synchronized BulkQueryExecutor<Q, O> setMaxRecordedFailures(int maxRecordedFailures) {
+        if (maxRecordedFailures < 0) {
+            throw new IllegalArgumentException("maxRecordedFailures must not be negative");
+        }
+
+        this.maxRecordedFailures = maxRecordedFailures;
+        return this;
+    }
+
+    /**
+     * Extract the timeout of each query.
+     *
+     * @return                          the timeout, or {@code null} to use the request timeout of the client
+     */
+    @Nullable
+    public synchronized Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Assign the timeout of each query.
+     *
+     * @param timeout                   the timeout, or {@code null} to use the request timeout of the client
+     * @return {@code this}
+     */
+    public synchronized BulkQueryExecutor<Q, O> setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Run the queries, passing every result to the callback as it arrives.
+     * <p>
+     * The callback is never invoked concurrently, but not always from the same thread. If it throws, the query is
+     * counted as failed. Cancelling the returned future stops the run and cancels the queries in flight.
+     *
+     * @param queries                   the queries to run
+     * @param onResult                  the callback receiving each query and its result
+     * @return                          a future completing once every query has run, exceptionally with a
+     *                                  {@link BulkQueryException} if any of them failed
+     */
+    public CompletableFuture<Void> execute(Iterator<? extends Q> queries, BiConsumer<? super Q, ? super O> onResult) {
+        Objects.requireNonNull(queries);
+        Objects.requireNonNull(onResult);
+
+        var future = new CompletableFuture<Void>();
+        var run = new Run(queries, new Sink<Q, O>() {
+            @Override
+            public void onResult(Q query, O result) {
+                onResult.accept(query, result);
+            }
+
+            @Override
+            public void onComplete(@Nullable Throwable error) {
+                if (error == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(error);
+                }
+            }
+        });
+
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                run.cancel();
+            }
+        });
+
+        run.request(Long.MAX_VALUE);
+        return future;
+    }
+
+    /**
+     * Run the queries, passing every result to the callback as it arrives, and close the stream once done.
+     *
+     * @param queries                   the queries to run
+     * @param onResult                  the callback receiving each query and its result
+     * @return                          a future completing once every query has run
+     * @see #execute(Iterator, BiConsumer)
+     */
+    public CompletableFuture<Void> execute(Stream<? extends Q> queries, BiConsumer<? super Q, ? super O> onResult) {
+        var future = execute(queries.iterator(), onResult);
+        future.whenComplete((result, error) -> queries.close());
+        return future;
+    }
+
+    /**
+     * Create a publisher that runs the queries once subscribed to, publishing their results as they arrive.
+     * <p>
+     * No more queries are started than the subscriber has requested results for. The publisher completes once every
+     * query has run, or signals a {@link BulkQueryException} if any of them failed. The queries can only be consumed
+     * once, so the publisher accepts a single subscriber.
+     *
+     * @param queries                   the queries to run
+     * @return                          the publisher of the results
+     */
+    public Flow.Publisher<O> publish(Iterator<? extends Q> queries) {
+        return publish(queries, () -> {});
+    }
+
+    /**
+     * Create a publisher that runs the queries once subscribed to, and closes the stream once done.
+     *
+     * @param queries                   the queries to run
+     * @return                          the publisher of the results
+     * @see #publish(Iterator)
+     */
+    public Flow.Publisher<O> publish(Stream<? extends Q> queries) {
+        return publish(queries.iterator(), queries::close);
+    }
+
+    private Flow.Publisher<O> publish(Iterator<? extends Q> queries, Runnable onClose) {
+        Objects.requireNonNull(queries);
+
+        var subscribed = new AtomicBoolean();
+
+        return subscriber -> {
+            Objects.requireNonNull(subscriber);
+
+            if (!subscribed.compareAndSet(false, true)) {
+                subscriber.onSubscribe(EMPTY_SUBSCRIPTION);
+                subscriber.onError(new IllegalStateException("the publisher accepts a single subscriber"));
+                return;
+            }
+
+            var run = new Run(queries, new Sink<Q, O>() {
+                @Override
+                public void onResult(Q query, O result) {
+                    subscriber.onNext(result);
+                }
+
+                @Override
+                public void onComplete(@Nullable Throwable error) {
+                    onClose.run();
+
+                    if (error == null) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(error);
+                    }
+                }
+            });
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        run.fail(new IllegalArgumentException("the number of requested results must be positive"));
+                    } else {
+                        run.request(n);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    if (run.cancel()) {
+                        onClose.run();
+                    }
+                }
+            });
+        };
+    }
+
+    private interface Sink<Q, O> {
+        void onResult(Q query, O result);
+
+        void onComplete(@Nullable Throwable error);
+    }
+
+    private static final class Result<Q, O> {
+        private final Q query;
+        private final O output;
+
+        private Result(Q query, O output) {
+            this.query = query;
+            this.output = output;
+        }
+    }
+
+    /**
+     * One run over a source of queries.
+     * <p>
+     * Launching queries and delivering results only ever happens on one thread at a time: whichever thread finds
+     * {@link #drainers} at zero drains, the others leave their work to it.
+     */
+    private final class Run {
+        private final Iterator<? extends Q> queries;
+        private final Sink<Q, O> sink;
+        private final int maxConcurrency;
+        private final int maxConcurrencyPerNode;
+        private final int maxRecordedFailures;
+        private final Duration timeout;
+
+        private final Map<AccountId, Integer> runningPerNode = new HashMap<>();
+        private final Set<CompletableFuture<O>> futures = new HashSet<>();
+        private final Queue<Result<Q, O>> results = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final List<BulkQueryException.Failure> failures = new ArrayList<>();
+
+        private long demand = 0;
+        private int running = 0;
+        private int queued = 0;
+        private long successCount = 0;
+        private long failureCount = 0;
+        private boolean exhausted = false;
+        private boolean terminated = false;
+
+        @Nullable
+        private Q pending = null;
+
+        @Nullable
+        private Throwable fatalError = null;
+
+        private Run(Iterator<? extends Q> queries, Sink<Q, O> sink) {
+            this.queries = queries;
+            this.sink = sink;
+
+            synchronized (BulkQueryExecutor.this) {
+                maxConcurrency = BulkQueryExecutor.this.maxConcurrency;
+                maxConcurrencyPerNode = BulkQueryExecutor.this.maxConcurrencyPerNode;
+                maxRecordedFailures = BulkQueryExecutor.this.maxRecordedFailures;
+                timeout = BulkQueryExecutor.this.timeout != null
+                        ? BulkQueryExecutor.this.timeout
+                        : client.getRequestTimeout();
+            }
+        }
+
+        void request(long n) {
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+
+            drain();
+        }
+
+        void fail(Throwable error) {
+            List<CompletableFuture<O>> inFlight;
+
+            synchronized (this) {
+                if (terminated || fatalError != null) {
+                    return;
+                }
+
+                fatalError = error;
+                inFlight = new ArrayList<>(futures);
+            }
+
+            for (var future : inFlight) {
+                future.cancel(true);
+            }
+
+            drain();
+        }
+
+        boolean cancel() {
+            List<CompletableFuture<O>> inFlight;
+
+            synchronized (this) {
+                if (terminated) {
+                    return false;
+                }
+
+                terminated = true;
+                pending = null;
+                results.clear();
+                inFlight = new ArrayList<>(futures);
+            }
+
+            for (var future : inFlight) {
+                future.cancel(true);
+            }
+
+            return true;
+        }
+
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                launchAll();
+                deliverAll();
+                completeIfDone();
+            } while (drainers.decrementAndGet() != 0);
+        }
+
+        private void launchAll() {
+            while (true) {
+                Q query;
+                AccountId nodeId;
+
+                synchronized (this) {
+                    if (terminated || fatalError != null) {
+                        return;
+                    }
+
+                    try {
+                        // checked before the limits so that the run completes once the last result is delivered,
+                        // even when no more results were requested
+                        if (pending == null && !queries.hasNext()) {
+                            exhausted = true;
+                            return;
+                        }
+
+                        if (running + queued >= maxConcurrency || running + queued >= demand) {
+                            return;
+                        }
+
+                        if (pending == null) {
+                            pending = queries.next();
+                        }
+                    } catch (RuntimeException e) {
+                        fatalError = e;
+                        return;
+                    }
+
+                    nodeId = selectNode(pending);
+                    if (nodeId == null) {
+                        // resumed once a query to one of the nodes completes
+                        return;
+                    }
+
+                    query = pending;
+                    pending = null;
+                    running++;
+                    runningPerNode.merge(nodeId, 1, Integer::sum);
+                }
+
+                launch(query, nodeId);
+            }
+        }
+
+        @Nullable
+        private AccountId selectNode(Q query) {
+            var nodeAccountIds = query.getNodeAccountIds();
+
+            if (nodeAccountIds != null) {
+                var nodeId = nodeAccountIds.get(0);
+                return runningPerNode.getOrDefault(nodeId, 0) < maxConcurrencyPerNode ? nodeId : null;
+            }
+
+            List<AccountId> healthyNodeIds;
+
+            try {
+                healthyNodeIds = client.network.getNodeAccountIdsForExecute();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fatalError = e;
+                return null;
+            } catch (RuntimeException e) {
+                // no healthy node right now; wait for a query in flight, or give up if there is none
+                if (running == 0) {
+                    fatalError = e;
+                }
+
+                return null;
+            }
+
+            AccountId leastBusy = null;
+            var leastRunning = maxConcurrencyPerNode;
+
+            for (var nodeId : healthyNodeIds) {
+                var nodeRunning = runningPerNode.getOrDefault(nodeId, 0);
+
+                if (nodeRunning < leastRunning) {
+                    leastBusy = nodeId;
+                    leastRunning = nodeRunning;
+                }
+            }
+
+            if (leastBusy == null) {
+                return null;
+            }
+
+            var orderedNodeIds = new ArrayList<AccountId>(healthyNodeIds.size());
+            orderedNodeIds.add(leastBusy);
+
+            for (var nodeId : healthyNodeIds) {
+                if (!nodeId.equals(leastBusy)) {
+                    orderedNodeIds.add(nodeId);
+                }
+            }
+
+            query.setNodeAccountIds(orderedNodeIds);
+            return leastBusy;
+        }
+
+        private void launch(Q query, AccountId nodeId) {
+            CompletableFuture<O> future;
+
+            try {
+                future = query.executeAsync(client, timeout);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            synchronized (this) {
+                futures.add(future);
+            }
+
+            var launched = future;
+            launched.whenComplete((output, error) -> onComplete(query, nodeId, launched, output, error));
+        }
+
+        private void onComplete(
+                Q query, AccountId nodeId, CompletableFuture<O> future, @Nullable O output, @Nullable Throwable error) {
+            synchronized (this) {
+                running--;
+                runningPerNode.computeIfPresent(nodeId, (key, count) -> count > 1 ? count - 1 : null);
+                futures.remove(future);
+
+                if (terminated) {
+                    return;
+                }
+
+                if (error != null) {
+                    addFailure(query, error);
+                } else {
+                    queued++;
+                    results.add(new Result<>(query, output));
+                }
+            }
+
+            drain();
+        }
+
+        private void deliverAll() {
+            Result<Q, O> result;
+
+            while ((result = results.poll()) != null) {
+                synchronized (this) {
+                    if (terminated) {
+                        return;
+                    }
+
+                    queued--;
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+
+                try {
+                    sink.onResult(result.query, result.output);
+
+                    synchronized (this) {
+                        successCount++;
+                    }
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        addFailure(result.query, e);
+                    }
+                }
+            }
+        }
+
+        private void completeIfDone() {
+            Throwable error;
+
+            synchronized (this) {
+                if (terminated || running > 0 || !results.isEmpty()) {
+                    return;
+                }
+
+                if (fatalError != null) {
+                    error = fatalError;
+                } else if (exhausted && pending == null) {
+                    error = failureCount > 0 ? new BulkQueryException(successCount, failureCount, failures) : null;
+                } else {
+                    return;
+                }
+
+                terminated = true;
+            }
+
+            sink.onComplete(error);
+        }
+
+        private void addFailure(Q query, Throwable error) {
+            failureCount++;
+
+            if (failures.size() < maxRecordedFailures) {
+                var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                failures.add(new BulkQueryException.Failure(query, cause));
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.hedera.hashgraph.sdk.proto.SignatureMap;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
+import io.grpc.MethodDescriptor;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,7 +17,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -214,8 +217,7 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
                         nodeAccountIds.get(nodeIndex),
                         hash(outerTransactions
                                 .get(offset + nodeIndex)
-                                .getSignedTransactionBytes()
-                                .toByteArray()));
+                                .getSignedTransactionBytes()));
             }
 
             transactionHashes.add(hashes);
@@ -311,6 +313,10 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
             throws PrecheckStatusException, TimeoutException {
         freezeAndSign(client);
 
+        if (getMaxConcurrentChunks() > 1 && transactionIds.size() > 1) {
+            return await(new ConcurrentChunks(client, timeoutPerChunk).start());
+        }
+
         var responses = new ArrayList<TransactionResponse>(transactionIds.size());
 
         for (var i = 0; i < transactionIds.size(); i++) {
@@ -349,6 +355,10 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     public CompletableFuture<List<TransactionResponse>> executeAllAsync(Client client, Duration timeoutPerChunk) {
         freezeAndSign(client);
 
+        if (getMaxConcurrentChunks() > 1 && transactionIds.size() > 1) {
+            return new ConcurrentChunks(client, timeoutPerChunk).start();
+        }
+
         CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> future =
                 CompletableFuture.supplyAsync(() -> new ArrayList<>(transactionIds.size()));
 
@@ -529,6 +539,15 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return false;
     }
 
+    /**
+     * How many chunks can be submitted at once, without waiting for the chunks before them.
+     *
+     * @return                          by default submit the chunks one after the other
+     */
+    int getMaxConcurrentChunks() {
+        return 1;
+    }
+
     /**
      * Get the body sizes for all chunks in a FileAppendTransaction.
      * For transactions with multiple chunks (like large file appends),
@@ -554,4 +573,178 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
 
         return list;
     }
+
+    /**
+     * Wait for the chunks submitted concurrently, rethrowing the error of the chunk that failed.
+     */
+    private static List<TransactionResponse> await(CompletableFuture<List<TransactionResponse>> future)
+            throws PrecheckStatusException, TimeoutException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+
+            if (cause instanceof PrecheckStatusException precheckStatusException) {
+                throw precheckStatusException;
+            } else if (cause instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Submits the chunks of a frozen transaction at most {@link #getMaxConcurrentChunks()} at a time, then waits for
+     * every chunk to reach consensus.
+     * <p>
+     * Each chunk is submitted as soon as there is room for it, and its receipt is tracked through the
+     * {@link ReceiptTracker} of the client as soon as a node accepted it. The chunks can therefore reach consensus in
+     * any order. Once a chunk failed its precheck, no further chunk is submitted.
+     */
+    private final class ConcurrentChunks {
+        private final Client client;
+        private final Duration timeoutPerChunk;
+
+        // by chunk number
+        private final TransactionResponse[] responses;
+        private final CompletableFuture<?>[] receipts;
+
+        private final CompletableFuture<List<TransactionResponse>> submitted = new CompletableFuture<>();
+
+        private int next = 0;
+        private int accepted = 0;
+
+        private ConcurrentChunks(Client client, Duration timeoutPerChunk) {
+            this.client = client;
+            this.timeoutPerChunk = timeoutPerChunk;
+            this.responses = new TransactionResponse[transactionIds.size()];
+            this.receipts = new CompletableFuture<?>[transactionIds.size()];
+        }
+
+        private CompletableFuture<List<TransactionResponse>> start() {
+            // the chunks only read the signed transactions from now on, so they can be submitted from any thread
+            buildAllTransactions();
+
+            for (var i = 0; i < Math.min(getMaxConcurrentChunks(), responses.length); i++) {
+                submitNext();
+            }
+
+            return submitted.thenCompose(list -> CompletableFuture.allOf(receipts).thenApply(v -> list));
+        }
+
+        private void submitNext() {
+            int chunk;
+
+            synchronized (this) {
+                if (submitted.isDone() || next == responses.length) {
+                    return;
+                }
+
+                chunk = next++;
+            }
+
+            new ChunkSubmission(chunk).executeAsync(client, timeoutPerChunk).whenComplete((response, error) -> {
+                if (error != null) {
+                    submitted.completeExceptionally(error);
+                    return;
+                }
+
+                var receipt =
+                        client.getReceiptTracker().track(response.transactionId, response.nodeId, timeoutPerChunk);
+                boolean done;
+
+                synchronized (this) {
+                    responses[chunk] = response;
+                    receipts[chunk] = receipt;
+                    done = ++accepted == responses.length;
+                }
+
+                if (done) {
+                    submitted.complete(List.of(responses));
+                } else {
+                    submitNext();
+                }
+            });
+        }
+    }
+
+    /**
+     * Submits one chunk of a frozen transaction, with execution state of its own so that several chunks can be
+     * submitted at once.
+     */
+    private final class ChunkSubmission
+            extends Executable<
+                    ChunkSubmission,
+                    com.hedera.hashgraph.sdk.proto.Transaction,
+                    com.hedera.hashgraph.sdk.proto.TransactionResponse,
+                    TransactionResponse> {
+        private final int chunk;
+
+        private ChunkSubmission(int chunk) {
+            this.chunk = chunk;
+
+            var transaction = ChunkedTransaction.this;
+            nodeAccountIds.setList(new ArrayList<>(transaction.nodeAccountIds.getList())).setLocked(true);
+            maxAttempts = transaction.maxAttempts;
+            maxBackoff = transaction.maxBackoff;
+            minBackoff = transaction.minBackoff;
+            grpcDeadline = transaction.grpcDeadline;
+            logger = transaction.logger;
+        }
+
+        @Override
+        protected boolean isBatchedAndNotBatchTransaction() {
+            return ChunkedTransaction.this.isBatchedAndNotBatchTransaction();
+        }
+
+        @Override
+        void onExecute(Client client) {}
+
+        @Override
+        CompletableFuture<Void> onExecuteAsync(Client client) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        com.hedera.hashgraph.sdk.proto.Transaction makeRequest() {
+            var transaction = ChunkedTransaction.this;
+            return transaction.outerTransactions.get(
+                    chunk * transaction.nodeAccountIds.size() + nodeAccountIds.getIndex());
+        }
+
+        @Override
+        TransactionResponse mapResponse(
+                com.hedera.hashgraph.sdk.proto.TransactionResponse response,
+                AccountId nodeId,
+                com.hedera.hashgraph.sdk.proto.Transaction request) {
+            return new TransactionResponse(
+                    nodeId,
+                    getTransactionIdInternal(),
+                    hash(request.getSignedTransactionBytes()),
+                    null,
+                    ChunkedTransaction.this);
+        }
+
+        @Override
+        Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.TransactionResponse response) {
+            return Status.valueOf(response.getNodeTransactionPrecheckCode());
+        }
+
+        @Override
+        MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse>
+                getMethodDescriptor() {
+            return ChunkedTransaction.this.getMethodDescriptor();
+        }
+
+        @Override
+        TransactionId getTransactionIdInternal() {
+            return transactionIds.get(chunk);
+        }
+    }
 }
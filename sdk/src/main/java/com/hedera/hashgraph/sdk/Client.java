@@ -64,6 +64,16 @@ public final class Client implements AutoCloseable {
     final ExecutorService executor;
     private final AtomicReference<Duration> grpcDeadline = new AtomicReference(DEFAULT_GRPC_DEADLINE);
     private final Set<SubscriptionHandle> subscriptions = ConcurrentHashMap.newKeySet();
+    private final QueryCostCache queryCostCache = new QueryCostCache();
+    private final QueryResponseCache queryResponseCache = new QueryResponseCache();
+    private final QueryCoalescer queryCoalescer = new QueryCoalescer();
+    private final EntityIdResolutionCache entityIdResolutionCache = new EntityIdResolutionCache();
+
+    @Nullable
+    private ReceiptTracker receiptTracker = null;
+
+    @Nullable
+    private MirrorRestClient mirrorRestClient = null;
 
     @Nullable
     Hbar defaultMaxTransactionFee = null;
@@ -1295,6 +1305,77 @@ public final class Client implements AutoCloseable {
         return setDefaultMaxQueryPayment(maxQueryPayment);
     }
 
+    /**
+     * Extract the cache of query costs shared by every query executed with this client.
+     * <p>
+     * When enabled, a query executed without an explicit {@link Query#setQueryPayment(Hbar)} reuses the cost of an
+     * identical query instead of requesting it from the node again.
+     *
+     * @return the query cost cache
+     */
+    public QueryCostCache getQueryCostCache() {
+        return queryCostCache;
+    }
+
+    /**
+     * Extract the cache of query responses shared by every query executed with this client.
+     * <p>
+     * Nothing is cached until a time to live is assigned to a query type with
+     * {@link QueryResponseCache#setTtl(Class, Duration)}.
+     *
+     * @return the query response cache
+     */
+    public QueryResponseCache getQueryResponseCache() {
+        return queryResponseCache;
+    }
+
+    /**
+     * Extract the coalescer that lets identical queries executed concurrently with this client share one request.
+     * <p>
+     * No query is coalesced until its type is enabled with {@link QueryCoalescer#setEnabled(Class, boolean)}.
+     *
+     * @return the query coalescer
+     */
+    public QueryCoalescer getQueryCoalescer() {
+        return queryCoalescer;
+    }
+
+    /**
+     * Extract the cache of entity IDs and EVM addresses resolved through the mirror node with this client.
+     *
+     * @return the entity ID resolution cache
+     */
+    public EntityIdResolutionCache getEntityIdResolutionCache() {
+        return entityIdResolutionCache;
+    }
+
+    /**
+     * Extract the HTTP client shared by every mirror node REST request made with this client.
+     *
+     * @return the mirror node REST client
+     */
+    public synchronized MirrorRestClient getMirrorRestClient() {
+        if (mirrorRestClient == null) {
+            mirrorRestClient = new MirrorRestClient(executor, mirrorNetwork);
+        }
+
+        return mirrorRestClient;
+    }
+
+    /**
+     * Extract the receipt tracker of this client, which polls for the receipts of many transactions on one shared
+     * schedule.
+     *
+     * @return the receipt tracker
+     */
+    public synchronized ReceiptTracker getReceiptTracker() {
+        if (receiptTracker == null) {
+            receiptTracker = new ReceiptTracker(this);
+        }
+
+        return receiptTracker;
+    }
+
     /**
      * Should the transaction id be regenerated?
      *
@@ -1527,6 +1608,16 @@ public final class Client implements AutoCloseable {
         cancelScheduledNetworkUpdate();
         cancelAllSubscriptions();
 
+        if (receiptTracker != null) {
+            receiptTracker.close();
+            receiptTracker = null;
+        }
+
+        if (mirrorRestClient != null) {
+            mirrorRestClient.close();
+            mirrorRestClient = null;
+        }
+
         network.beginClose();
         mirrorNetwork.beginClose();
 
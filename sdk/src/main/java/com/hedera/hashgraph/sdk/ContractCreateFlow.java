@@ -2,6 +2,10 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +67,9 @@ public class ContractCreateFlow {
 
     private String bytecode = "";
 
+    @Nullable
+    private FileChunkReader bytecodeReader = null;
+
     @Nullable
     private Integer maxChunks = null;
 
@@ -120,7 +127,7 @@ public class ContractCreateFlow {
     public ContractCreateFlow() {}
 
     /**
-     * Extract the hex-encoded bytecode of the contract.
+     * Extract the hex-encoded bytecode of the contract, which is empty if it is read from a stream or a file channel.
      *
      * @return the hex-encoded bytecode of the contract.
      */
@@ -137,6 +144,7 @@ public class ContractCreateFlow {
     public ContractCreateFlow setBytecode(String bytecode) {
         Objects.requireNonNull(bytecode);
         this.bytecode = bytecode;
+        this.bytecodeReader = null;
         return this;
     }
 
@@ -149,6 +157,7 @@ public class ContractCreateFlow {
     public ContractCreateFlow setBytecode(byte[] bytecode) {
         Objects.requireNonNull(bytecode);
         this.bytecode = Hex.toHexString(bytecode);
+        this.bytecodeReader = null;
         return this;
     }
 
@@ -163,6 +172,38 @@ public class ContractCreateFlow {
         return setBytecode(bytecode.toByteArray());
     }
 
+    /**
+     * Sets the bytecode of the contract in raw bytes, read from a stream until its end as the flow is executed.
+     * <p>
+     * The bytecode is hex-encoded and uploaded a chunk at a time, so it is never held in memory as a whole. The stream
+     * is not closed, and the flow can only be executed once.
+     *
+     * @param bytecode the stream of the bytecode
+     * @return {@code this}
+     */
+    public ContractCreateFlow setBytecode(InputStream bytecode) {
+        this.bytecodeReader = FileChunkReader.of(bytecode).setHexEncoded(true);
+        this.bytecode = "";
+        return this;
+    }
+
+    /**
+     * Sets the bytecode of the contract in raw bytes, read from the current position of a file channel to its end
+     * through memory-mapped windows of it as the flow is executed.
+     * <p>
+     * The bytecode is hex-encoded and uploaded a chunk at a time, so it is never held in memory as a whole. Neither the
+     * position of the channel is moved nor the channel closed.
+     *
+     * @param bytecode the file channel of the bytecode
+     * @return {@code this}
+     * @throws IOException if the position or the size of the channel cannot be read
+     */
+    public ContractCreateFlow setBytecode(FileChannel bytecode) throws IOException {
+        this.bytecodeReader = FileChunkReader.of(bytecode).setHexEncoded(true);
+        this.bytecode = "";
+        return this;
+    }
+
     /**
      * Get the maximum number of chunks
      *
@@ -175,6 +216,10 @@ public class ContractCreateFlow {
 
     /**
      * Set the maximal number of chunks
+     * <p>
+     * The chunks are those appended after the file is created, whether the bytecode is held in memory or read from a
+     * stream or a file channel. When it is not set, bytecode held in memory is limited to the default of
+     * {@link FileAppendTransaction#getMaxChunks()}, while streamed bytecode is not limited.
      *
      * @param maxChunks the maximum number of chunks
      * @return {@code this}
@@ -579,6 +624,32 @@ public class ContractCreateFlow {
         return fileAppendTx;
     }
 
+    private FileAppendFlow createFileAppendFlow(FileId fileId, FileChunkReader reader) {
+        var fileAppendFlow = new FileAppendFlow()
+                .setFileId(fileId)
+                .setChunkSize(FileAppendTransaction.DEFAULT_CHUNK_SIZE)
+                .setContents(reader);
+        if (maxChunks != null) {
+            fileAppendFlow.setMaxChunks(maxChunks);
+        }
+        if (nodeAccountIds != null) {
+            fileAppendFlow.setNodeAccountIds(nodeAccountIds);
+        }
+        return fileAppendFlow;
+    }
+
+    private static ByteString readFirstChunk(FileChunkReader reader) {
+        try {
+            var chunk = reader.next(FILE_CREATE_MAX_BYTES);
+            if (chunk == null) {
+                throw new IllegalArgumentException("bytecode cannot be empty");
+            }
+            return chunk;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private ContractCreateTransaction createContractCreateTransaction(FileId fileId) {
         var contractCreateTx = new ContractCreateTransaction()
                 .setBytecodeFileId(fileId)
@@ -657,15 +728,9 @@ public class ContractCreateFlow {
     public TransactionResponse execute(Client client, Duration timeoutPerTransaction)
             throws PrecheckStatusException, TimeoutException {
         try {
-            splitBytecode();
-            var fileId = createFileCreateTransaction(client)
-                    .execute(client, timeoutPerTransaction)
-                    .getReceipt(client, timeoutPerTransaction)
-                    .fileId;
-            Objects.requireNonNull(fileId);
-            if (!appendBytecode.isEmpty()) {
-                createFileAppendTransaction(fileId).execute(client, timeoutPerTransaction);
-            }
+            var fileId = bytecodeReader != null
+                    ? uploadBytecode(client, timeoutPerTransaction, bytecodeReader)
+                    : uploadBytecode(client, timeoutPerTransaction);
             var response = createContractCreateTransaction(fileId).execute(client, timeoutPerTransaction);
             response.getReceipt(client, timeoutPerTransaction);
             new FileDeleteTransaction().setFileId(fileId).execute(client, timeoutPerTransaction);
@@ -675,6 +740,61 @@ public class ContractCreateFlow {
         }
     }
 
+    private FileId uploadBytecode(Client client, Duration timeoutPerTransaction)
+            throws PrecheckStatusException, TimeoutException, ReceiptStatusException {
+        splitBytecode();
+        var fileId = createFileCreateTransaction(client)
+                .execute(client, timeoutPerTransaction)
+                .getReceipt(client, timeoutPerTransaction)
+                .fileId;
+        Objects.requireNonNull(fileId);
+        if (!appendBytecode.isEmpty()) {
+            createFileAppendTransaction(fileId).execute(client, timeoutPerTransaction);
+        }
+        return fileId;
+    }
+
+    private FileId uploadBytecode(Client client, Duration timeoutPerTransaction, FileChunkReader reader)
+            throws PrecheckStatusException, TimeoutException, ReceiptStatusException {
+        var fileId = createFileCreateTransaction(client)
+                .setContents(readFirstChunk(reader).toByteArray())
+                .execute(client, timeoutPerTransaction)
+                .getReceipt(client, timeoutPerTransaction)
+                .fileId;
+        Objects.requireNonNull(fileId);
+        createFileAppendFlow(fileId, reader).appendAll(client, timeoutPerTransaction);
+        return fileId;
+    }
+
+    private CompletableFuture<FileId> uploadBytecodeAsync(Client client, Duration timeoutPerTransaction) {
+        splitBytecode();
+        return createFileCreateTransaction(client)
+                .executeAsync(client, timeoutPerTransaction)
+                .thenCompose(fileCreateResponse -> createTransactionReceiptQuery(fileCreateResponse)
+                        .executeAsync(client, timeoutPerTransaction)
+                        .thenApply(receipt -> receipt.fileId))
+                .thenCompose(fileId -> appendBytecode.isEmpty()
+                        ? CompletableFuture.completedFuture(fileId)
+                        : createFileAppendTransaction(fileId)
+                                .executeAsync(client, timeoutPerTransaction)
+                                .thenApply(ignored -> fileId));
+    }
+
+    private CompletableFuture<FileId> uploadBytecodeAsync(
+            Client client, Duration timeoutPerTransaction, FileChunkReader reader) {
+        // reading the first chunk may block, so it is not done on the calling thread
+        return CompletableFuture.supplyAsync(() -> readFirstChunk(reader), client.executor)
+                .thenCompose(chunk -> createFileCreateTransaction(client)
+                        .setContents(chunk.toByteArray())
+                        .executeAsync(client, timeoutPerTransaction))
+                .thenCompose(fileCreateResponse -> createTransactionReceiptQuery(fileCreateResponse)
+                        .executeAsync(client, timeoutPerTransaction)
+                        .thenApply(receipt -> receipt.fileId))
+                .thenCompose(fileId -> createFileAppendFlow(fileId, reader)
+                        .appendAllAsync(client, timeoutPerTransaction)
+                        .thenApply(ignored -> fileId));
+    }
+
     /**
      * Execute the transactions in the flow with the passed in client asynchronously.
      *
@@ -693,31 +813,21 @@ public class ContractCreateFlow {
      * @return the response
      */
     public CompletableFuture<TransactionResponse> executeAsync(Client client, Duration timeoutPerTransaction) {
-        splitBytecode();
-        return createFileCreateTransaction(client)
+        var fileIdFuture = bytecodeReader != null
+                ? uploadBytecodeAsync(client, timeoutPerTransaction, bytecodeReader)
+                : uploadBytecodeAsync(client, timeoutPerTransaction);
+        return fileIdFuture.thenCompose(fileId -> createContractCreateTransaction(fileId)
                 .executeAsync(client, timeoutPerTransaction)
-                .thenCompose(fileCreateResponse -> createTransactionReceiptQuery(fileCreateResponse)
-                        .executeAsync(client, timeoutPerTransaction)
-                        .thenApply(receipt -> receipt.fileId))
-                .thenCompose(fileId -> {
-                    CompletableFuture<Void> appendFuture = appendBytecode.isEmpty()
-                            ? CompletableFuture.completedFuture(null)
-                            : createFileAppendTransaction(fileId)
-                                    .executeAsync(client, timeoutPerTransaction)
-                                    .thenApply(ignored -> null);
-                    return appendFuture.thenCompose(ignored -> createContractCreateTransaction(fileId)
+                .thenApply(contractCreateResponse -> {
+                    createTransactionReceiptQuery(contractCreateResponse)
                             .executeAsync(client, timeoutPerTransaction)
-                            .thenApply(contractCreateResponse -> {
-                                createTransactionReceiptQuery(contractCreateResponse)
-                                        .executeAsync(client, timeoutPerTransaction)
-                                        .thenRun(() -> {
-                                            new FileDeleteTransaction()
-                                                    .setFileId(fileId)
-                                                    .executeAsync(client, timeoutPerTransaction);
-                                        });
-                                return contractCreateResponse;
-                            }));
-                });
+                            .thenRun(() -> {
+                                new FileDeleteTransaction()
+                                        .setFileId(fileId)
+                                        .executeAsync(client, timeoutPerTransaction);
+                            });
+                    return contractCreateResponse;
+                }));
     }
 
     /**
@@ -1,10 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.net.URI;
-import java.net.http.HttpClient;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
@@ -263,8 +262,8 @@ public class EntityIdHelper {
      */
     static CompletableFuture<Long> getAccountNumFromMirrorNodeAsync(Client client, String evmAddress) {
         String apiEndpoint = "/accounts/" + evmAddress;
-        return performQueryToMirrorNodeAsync(client, apiEndpoint, null)
-                .thenApply(response -> parseNumFromMirrorNodeResponse(response, "account"));
+        return resolveThroughMirrorNodeAsync(
+                client, apiEndpoint, reader -> parseNumFromMirrorNodeResponse(reader, "account"));
     }
 
     /**
@@ -278,8 +277,10 @@ public class EntityIdHelper {
      */
     public static CompletableFuture<EvmAddress> getEvmAddressFromMirrorNodeAsync(Client client, long num) {
         String apiEndpoint = "/accounts/" + num;
-        return performQueryToMirrorNodeAsync(client, apiEndpoint, null)
-                .thenApply(response -> EvmAddress.fromString(parseStringMirrorNodeResponse(response, "evm_address")));
+        return resolveThroughMirrorNodeAsync(
+                client,
+                apiEndpoint,
+                reader -> EvmAddress.fromString(parseStringMirrorNodeResponse(reader, "evm_address")));
     }
 
     /**
@@ -294,57 +295,144 @@ public class EntityIdHelper {
     public static CompletableFuture<Long> getContractNumFromMirrorNodeAsync(Client client, String evmAddress) {
         String apiEndpoint = "/contracts/" + evmAddress;
 
-        CompletableFuture<String> responseFuture = performQueryToMirrorNodeAsync(client, apiEndpoint, null);
+        return resolveThroughMirrorNodeAsync(
+                client, apiEndpoint, reader -> parseNumFromMirrorNodeResponse(reader, "contract_id"));
+    }
 
-        return responseFuture.thenApply(response -> parseNumFromMirrorNodeResponse(response, "contract_id"));
+    /**
+     * Resolve an address or number through the resolution cache of the client, looking it up with the mirror node
+     * when it is not cached.
+     */
+    private static <T> CompletableFuture<T> resolveThroughMirrorNodeAsync(
+            Client client, String apiEndpoint, MirrorNodeResponseDecoder<T> decoder) {
+        var baseUrl = client.getMirrorRestBaseUrl();
+        var kind = apiEndpoint.substring(0, apiEndpoint.lastIndexOf('/'));
+        var id = apiEndpoint.substring(apiEndpoint.lastIndexOf('/') + 1);
+
+        return client.getEntityIdResolutionCache()
+                .resolve(
+                        baseUrl,
+                        kind,
+                        id,
+                        () -> performQueryToMirrorNodeAsync(client, baseUrl, apiEndpoint, null, decoder));
     }
 
-    static CompletableFuture<String> performQueryToMirrorNodeAsync(Client client, String apiEndpoint, String jsonBody) {
-        return performQueryToMirrorNodeAsync(client.getMirrorRestBaseUrl(), apiEndpoint, jsonBody);
+    static <T> CompletableFuture<T> performQueryToMirrorNodeAsync(
+            Client client, String apiEndpoint, @Nullable String jsonBody, MirrorNodeResponseDecoder<T> decoder) {
+        return performQueryToMirrorNodeAsync(client, client.getMirrorRestBaseUrl(), apiEndpoint, jsonBody, decoder);
     }
 
-    static CompletableFuture<String> performQueryToMirrorNodeAsync(
-            String baseUrl, String apiEndpoint, String jsonBody) {
+    /**
+     * Send a request to the mirror node REST API, decoding the response body as it is received.
+     *
+     * @param client                    the client
+     * @param baseUrl                   the base URL of the mirror node REST API
+     * @param apiEndpoint               the path of the endpoint
+     * @param jsonBody                  the body to POST, or {@code null} to GET
+     * @param decoder                   decodes the fields needed from the response, skipping the others
+     * @return                          a future of the decoded response
+     */
+    static <T> CompletableFuture<T> performQueryToMirrorNodeAsync(
+            Client client,
+            String baseUrl,
+            String apiEndpoint,
+            @Nullable String jsonBody,
+            MirrorNodeResponseDecoder<T> decoder) {
         String apiUrl = baseUrl + apiEndpoint;
 
-        HttpClient httpClient = HttpClient.newHttpClient();
-        var httpBuilder =
-                HttpRequest.newBuilder().timeout(MIRROR_NODE_CONNECTION_TIMEOUT).uri(URI.create(apiUrl));
+        var mirrorRestClient = client.getMirrorRestClient();
+        var httpBuilder = mirrorRestClient.newRequest(apiUrl, MIRROR_NODE_CONNECTION_TIMEOUT);
 
         if (jsonBody != null) {
             httpBuilder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(jsonBody));
         }
         var httpRequest = httpBuilder.build();
 
-        return httpClient
-                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+        return mirrorRestClient
+                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
                 .handle((response, ex) -> {
                     if (ex != null) {
-                        if (ex instanceof HttpTimeoutException) {
-                            throw new CompletionException(new RuntimeException("Request to Mirror Node timed out", ex));
+                        // the future of the response is a dependent one, so it fails with a wrapped error
+                        var cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                        if (cause instanceof HttpTimeoutException) {
+                            throw new CompletionException(
+                                    new RuntimeException("Request to Mirror Node timed out", cause));
                         } else {
                             throw new CompletionException(
-                                    new RuntimeException("Failed to send request to Mirror Node", ex));
+                                    new RuntimeException("Failed to send request to Mirror Node", cause));
                         }
                     }
 
-                    int statusCode = response.statusCode();
-                    if (statusCode != 200) {
+                    try (var body = response.body()) {
+                        int statusCode = response.statusCode();
+                        if (statusCode != 200) {
+                            var message = "Received non-200 response from Mirror Node: "
+                                    + MirrorRestClient.readString(body);
+                            throw new CompletionException(
+                                    statusCode == 404
+                                            ? new MirrorNodeNotFoundException(message)
+                                            : new RuntimeException(message));
+                        }
+
+                        try (var reader = MirrorRestClient.newJsonReader(body)) {
+                            return decoder.decode(reader);
+                        }
+                    } catch (IOException e) {
                         throw new CompletionException(
-                                new RuntimeException("Received non-200 response from Mirror Node: " + response.body()));
+                                new RuntimeException("Failed to read response from Mirror Node", e));
                     }
-                    return response.body();
                 });
     }
 
-    private static String parseStringMirrorNodeResponse(String responseBody, String memberName) {
-        JsonObject jsonObject = JsonParser.parseString(responseBody).getAsJsonObject();
-        String evmAddress = jsonObject.get(memberName).getAsString();
-        return evmAddress.substring(evmAddress.lastIndexOf(".") + 1);
+    /**
+     * Read one top-level member of a mirror node response as a string, skipping all the others.
+     *
+     * @param reader                    the reader positioned at the response object
+     * @param memberName                the name of the member
+     * @return                          the value of the member
+     * @throws IOException              when the response cannot be read
+     */
+    static String readStringMember(JsonReader reader, String memberName) throws IOException {
+        String value = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(memberName) && reader.peek() != JsonToken.NULL) {
+                value = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (value == null) {
+            throw new IllegalStateException("Mirror Node response has no `" + memberName + "` member");
+        }
+
+        return value;
+    }
+
+    private static String parseStringMirrorNodeResponse(JsonReader reader, String memberName) throws IOException {
+        String value = readStringMember(reader, memberName);
+        return value.substring(value.lastIndexOf(".") + 1);
     }
 
-    private static long parseNumFromMirrorNodeResponse(String responseBody, String memberName) {
-        return Long.parseLong(parseStringMirrorNodeResponse(responseBody, memberName));
+    private static long parseNumFromMirrorNodeResponse(JsonReader reader, String memberName) throws IOException {
+        return Long.parseLong(parseStringMirrorNodeResponse(reader, memberName));
+    }
+
+    /**
+     * The mirror node does not know the entity looked up, which may still be created later.
+     */
+    static final class MirrorNodeNotFoundException extends RuntimeException {
+        MirrorNodeNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @FunctionalInterface
+    interface MirrorNodeResponseDecoder<T> {
+        T decode(JsonReader reader) throws IOException;
     }
 
     @FunctionalInterface
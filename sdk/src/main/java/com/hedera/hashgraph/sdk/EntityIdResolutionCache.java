@@ -0,0 +1,280 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the entity IDs and EVM addresses resolved through the mirror node, such as by
+ * {@link AccountId#populateAccountNum(Client)}, {@link AccountId#populateAccountEvmAddress(Client)} and
+ * {@link ContractId#populateContractNum(Client)}.
+ * <p>
+ * Resolutions are keyed by the mirror node, the kind of lookup and the address or number looked up. Concurrent
+ * lookups of the same key share one request. An address the mirror node does not know (yet) is remembered for
+ * {@link #setNegativeTtl(Duration)}, which is kept short since the account or contract may be created at any time.
+ * <p>
+ * The least recently used resolutions are evicted once the cache holds {@link #setMaxSize(int)} of them.
+ */
+public final class EntityIdResolutionCache {
+    static final int DEFAULT_MAX_SIZE = 10_000;
+    static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(2);
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private boolean enabled = true;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private Duration ttl = DEFAULT_TTL;
+    private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Constructor.
+     */
+    EntityIdResolutionCache() {}
+
+    /**
+     * Extract whether resolutions are cached.
+     *
+     * @return whether the cache is enabled
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Assign whether resolutions are cached. Disabling the cache discards the resolutions already cached.
+     *
+     * @param enabled whether the cache is enabled
+     * @return {@code this}
+     */
+    public synchronized EntityIdResolutionCache setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            entries.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Extract how long a resolution is cached.
+     *
+     * @return the time to live
+     */
+    public synchronized Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Assign how long a resolution is cached.
+     *
+     * @param ttl the time to live
+     * @return {@code this}
+     */
+    public synchronized EntityIdResolutionCache setTtl(Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be a positive duration");
+        }
+
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Extract how long an address or number unknown to the mirror node is remembered as such.
+     *
+     * @return the negative time to live
+     */
+    public synchronized Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    /**
+     * Assign how long an address or number unknown to the mirror node is remembered as such. Zero disables negative
+     * caching.
+     *
+     * @param negativeTtl the negative time to live
+     * @return {@code this}
+     */
+    public synchronized EntityIdResolutionCache setNegativeTtl(Duration negativeTtl) {
+        if (negativeTtl == null || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("negativeTtl must not be a negative duration");
+        }
+
+        this.negativeTtl = negativeTtl;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of resolutions kept by the cache.
+     *
+     * @return the maximum number of entries
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Assign the maximum number of resolutions kept by the cache.
+     *
+     * @param maxSize the maximum number of entries
+     * @return {@code this}
+     */
+    public synchronized EntityIdResolutionCache setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+
+        this.maxSize = maxSize;
+        evict();
+        return this;
+    }
+
+    /**
+     * Discard every cached resolution. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Extract the number of resolutions currently cached or in flight, including those that have expired but were
+     * not evicted yet.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Extract how many resolutions were answered from the cache, or by joining a lookup already in flight.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Extract how many resolutions had to be sent to the mirror node.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Extract how many resolutions were evicted to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Resolve through the cache, looking up with the mirror node only when no live resolution of the key is cached
+     * or in flight.
+     *
+     * @param baseUrl                   the base URL of the mirror node REST API
+     * @param kind                      the kind of lookup, such as the endpoint
+     * @param id                        the address or number looked up
+     * @param lookup                    starts the lookup with the mirror node
+     * @return                          a future of the resolution, owned by the caller
+     */
+    <T> CompletableFuture<T> resolve(String baseUrl, String kind, String id, Supplier<CompletableFuture<T>> lookup) {
+        var key = baseUrl + "|" + kind + "|" + id.toLowerCase(Locale.ROOT);
+        Entry entry;
+
+        synchronized (this) {
+            if (enabled) {
+                entry = entries.get(key);
+                if (entry != null && !entry.isExpired()) {
+                    hitCount++;
+                    return entry.copy();
+                }
+
+                missCount++;
+                entry = new Entry();
+                entries.put(key, entry);
+                evict();
+            } else {
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            return lookup.get();
+        }
+
+        var leader = entry;
+        CompletableFuture<T> result;
+        try {
+            result = lookup.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((value, error) -> {
+            synchronized (this) {
+                var expiresAfter = error == null ? ttl : isNotFound(error) ? negativeTtl : Duration.ZERO;
+
+                if (expiresAfter.isZero()) {
+                    entries.remove(key, leader);
+                } else {
+                    leader.expiresAt = Instant.now().plus(expiresAfter);
+                }
+            }
+
+            if (error != null) {
+                leader.future.completeExceptionally(error);
+            } else {
+                leader.future.complete(value);
+            }
+        });
+
+        return entry.copy();
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof EntityIdHelper.MirrorNodeNotFoundException;
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        // null while the lookup is in flight
+        @Nullable
+        private Instant expiresAt = null;
+
+        private boolean isExpired() {
+            return expiresAt != null && !expiresAt.isAfter(Instant.now());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> CompletableFuture<T> copy() {
+            return (CompletableFuture<T>) future.copy();
+        }
+    }
+}
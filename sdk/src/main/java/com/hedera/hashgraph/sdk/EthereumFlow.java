@@ -1,8 +1,11 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -10,7 +13,6 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
-import org.bouncycastle.util.encoders.Hex;
 
 /**
  * Execute an Ethereum transaction on Hedera
@@ -39,30 +41,47 @@ public class EthereumFlow {
      */
     public EthereumFlow() {}
 
+    /**
+     * Read the call data hex-encoded, one chunk at a time rather than encoding all of it at once.
+     */
+    private static FileChunkReader callDataReader(byte[] callData) {
+        return FileChunkReader.of(ByteBuffer.wrap(callData)).setHexEncoded(true);
+    }
+
+    private static ByteString readChunk(FileChunkReader reader, int size) {
+        try {
+            return Objects.requireNonNull(reader.next(size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append the call data left after the file create, in chunks of the size a {@link FileAppendTransaction} uses.
+     */
+    private static FileAppendFlow createFileAppendFlow(FileId fileId, AccountId nodeId, FileChunkReader reader) {
+        return new FileAppendFlow()
+                .setFileId(fileId)
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setChunkSize(FileAppendTransaction.DEFAULT_CHUNK_SIZE)
+                .setMaxChunks(1000)
+                .setContents(reader);
+    }
+
     private static FileId createFile(
             byte[] callData, Client client, Duration timeoutPerTransaction, Transaction<?> ethereumTransaction)
             throws PrecheckStatusException, TimeoutException {
         try {
-            // Hex encode the call data
-            byte[] callDataHex = Hex.encode(callData);
+            var reader = callDataReader(callData);
 
             var transaction = new FileCreateTransaction()
                     .setKeys(Objects.requireNonNull(client.getOperatorPublicKey()))
-                    .setContents(Arrays.copyOfRange(
-                            callDataHex, 0, Math.min(FileAppendTransaction.DEFAULT_CHUNK_SIZE, callDataHex.length)))
+                    .setContents(readChunk(reader, FileAppendTransaction.DEFAULT_CHUNK_SIZE).toByteArray())
                     .execute(client, timeoutPerTransaction);
             var fileId = transaction.getReceipt(client, timeoutPerTransaction).fileId;
             var nodeId = transaction.nodeId;
-            if (callDataHex.length > FileAppendTransaction.DEFAULT_CHUNK_SIZE) {
-                new FileAppendTransaction()
-                        .setFileId(fileId)
-                        .setMaxChunks(1000)
-                        .setNodeAccountIds(Collections.singletonList(nodeId))
-                        .setContents(Arrays.copyOfRange(
-                                callDataHex, FileAppendTransaction.DEFAULT_CHUNK_SIZE, callDataHex.length))
-                        .execute(client, timeoutPerTransaction)
-                        .getReceipt(client);
-            }
+            createFileAppendFlow(Objects.requireNonNull(fileId), nodeId, reader)
+                    .appendAll(client, timeoutPerTransaction);
 
             ethereumTransaction.setNodeAccountIds(Collections.singletonList(nodeId));
 
@@ -74,37 +93,21 @@ public class EthereumFlow {
 
     private static CompletableFuture<FileId> createFileAsync(
             byte[] callData, Client client, Duration timeoutPerTransaction, Transaction<?> ethereumTransaction) {
-        // Hex encode the call data
-        byte[] callDataHex = Hex.encode(callData);
+        var reader = callDataReader(callData);
 
         return new FileCreateTransaction()
                 .setKeys(Objects.requireNonNull(client.getOperatorPublicKey()))
-                .setContents(Arrays.copyOfRange(
-                        callDataHex, 0, Math.min(FileAppendTransaction.DEFAULT_CHUNK_SIZE, callDataHex.length)))
+                .setContents(readChunk(reader, FileAppendTransaction.DEFAULT_CHUNK_SIZE).toByteArray())
                 .executeAsync(client, timeoutPerTransaction)
                 .thenCompose((response) -> {
                     var nodeId = response.nodeId;
                     ethereumTransaction.setNodeAccountIds(Collections.singletonList(nodeId));
 
                     return response.getReceiptAsync(client, timeoutPerTransaction)
-                            .thenCompose((receipt) -> {
-                                if (callDataHex.length > FileAppendTransaction.DEFAULT_CHUNK_SIZE) {
-                                    return new FileAppendTransaction()
-                                            .setFileId(receipt.fileId)
-                                            .setNodeAccountIds(Collections.singletonList(nodeId))
-                                            .setMaxChunks(1000)
-                                            .setContents(Arrays.copyOfRange(
-                                                    callDataHex,
-                                                    FileAppendTransaction.DEFAULT_CHUNK_SIZE,
-                                                    callDataHex.length))
-                                            .executeAsync(client, timeoutPerTransaction)
-                                            .thenCompose((appendResponse) ->
-                                                    appendResponse.getReceiptAsync(client, timeoutPerTransaction))
-                                            .thenApply((r) -> receipt.fileId);
-                                } else {
-                                    return CompletableFuture.completedFuture(receipt.fileId);
-                                }
-                            });
+                            .thenCompose((receipt) -> createFileAppendFlow(
+                                            Objects.requireNonNull(receipt.fileId), nodeId, reader)
+                                    .appendAllAsync(client, timeoutPerTransaction)
+                                    .thenApply((r) -> receipt.fileId));
                 });
     }
 
@@ -13,6 +13,10 @@ import io.grpc.MethodDescriptor;
 import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ClientCalls;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -95,18 +99,48 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
     Executable() {
         requestListener = request -> {
             if (logger.isEnabledForLevel(LogLevel.TRACE)) {
-                logger.trace("Sent protobuf {}", Hex.toHexString(request.toByteArray()));
+                logger.trace("Sent protobuf {}", toHexString(request));
             }
             return request;
         };
         responseListener = response -> {
             if (logger.isEnabledForLevel(LogLevel.TRACE)) {
-                logger.trace("Received protobuf {}", Hex.toHexString(response.toByteArray()));
+                logger.trace("Received protobuf {}", toHexString(response));
             }
             return response;
         };
     }
 
+    /**
+     * Hex-encode the serialized form of a protobuf message, encoding it as it is written instead of serializing it to
+     * an intermediate byte array first.
+     *
+     * @param message the message to encode
+     * @return the hex string
+     */
+    private static String toHexString(MessageLite message) {
+        var hex = new ByteArrayOutputStream(message.getSerializedSize() * 2);
+
+        try {
+            message.writeTo(new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    Hex.encode(new byte[] {(byte) b}, hex);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    Hex.encode(b, off, len, hex);
+                }
+            });
+        } catch (IOException e) {
+            // writing to memory cannot fail
+            throw new IllegalStateException(e);
+        }
+
+        return hex.toString(StandardCharsets.US_ASCII);
+    }
+
     /**
      * When execution is attempted, a single attempt will time out when this deadline is reached. (The SDK may
      * subsequently retry the execution.)
@@ -882,6 +916,11 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
      */
     abstract O mapResponse(ResponseT response, AccountId nodeId, ProtoRequestT request);
 
+    /**
+     * Called with every successful response just before it is mapped into the output type.
+     */
+    void onSuccessfulResponse(ResponseT response, AccountId nodeId, ProtoRequestT request) {}
+
     abstract Status mapResponseStatus(ResponseT response);
 
     /**
@@ -1021,6 +1060,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
 
         O mapResponse() {
             // successful response from Hedera
+            Executable.this.onSuccessfulResponse(response, node.getAccountId(), request);
             return Executable.this.mapResponse(response, node.getAccountId(), request);
         }
 
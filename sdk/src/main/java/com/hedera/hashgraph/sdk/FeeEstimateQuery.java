@@ -2,17 +2,14 @@
 package com.hedera.hashgraph.sdk;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import javax.annotation.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Query the mirror node for fee estimates for a transaction.
@@ -21,9 +18,6 @@ import org.slf4j.LoggerFactory;
  * submitting transactions to the network.
  */
 public class FeeEstimateQuery {
-    private static final Logger LOGGER = LoggerFactory.getLogger(FeeEstimateQuery.class);
-    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
-
     @Nullable
     private FeeEstimateMode mode = null;
 
@@ -39,19 +33,6 @@ public class FeeEstimateQuery {
      */
     public FeeEstimateQuery() {}
 
-    private static boolean shouldRetry(Throwable throwable) {
-        return throwable instanceof HttpTimeoutException || throwable instanceof IOException;
-    }
-
-    private static boolean shouldRetry(int statusCode) {
-        // Retry on common transient HTTP statuses
-        return statusCode == 408 || statusCode == 429 || (statusCode >= 500 && statusCode < 600);
-    }
-
-    private static boolean isSuccessfulResponse(int statusCode) {
-        return statusCode >= 200 && statusCode < 300;
-    }
-
     /**
      * Extract the fee estimate mode.
      *
@@ -205,60 +186,24 @@ public class FeeEstimateQuery {
      * @throws InterruptedException if the operation is interrupted
      */
     public FeeEstimateResponse execute(Client client, Duration timeout) throws IOException, InterruptedException {
-        var resolvedMode = mode != null ? mode : FeeEstimateMode.INTRINSIC;
-        var requestPayload = getRequestPayload();
-        var url = buildUrl(client, resolvedMode);
+        var future = executeAsync(client, timeout);
 
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                var response = HTTP_CLIENT.send(
-                        buildHttpRequest(url, timeout, requestPayload), HttpResponse.BodyHandlers.ofString());
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
 
-                var result = handleResponse(response, attempt);
-                if (result != null) {
-                    return result;
-                }
-            } catch (RuntimeException e) {
-                throw e;
-            } catch (Exception error) {
-                handleError(error, attempt);
+            if (cause instanceof TimeoutException) {
+                throw new HttpTimeoutException("Timed out fetching fee estimate");
             }
-        }
-        throw new IOException("Failed to fetch fee estimate after " + maxAttempts + " attempts");
-    }
-
-    /**
-     * Handle the HTTP response and return the result or null if retry is needed.
-     */
-    private FeeEstimateResponse handleResponse(HttpResponse<String> response, int attempt) {
-        if (isSuccessfulResponse(response.statusCode())) {
-            return FeeEstimateResponse.fromJson(response.body());
-        }
-
-        if (!shouldRetry(response.statusCode()) || attempt >= maxAttempts) {
-            throw new IllegalStateException("Failed to fetch fee estimate. HTTP status: " + response.statusCode()
-                    + " body: " + response.body());
-        }
-
-        warnAndDelay(attempt, new RuntimeException("HTTP status: " + response.statusCode()));
-        return null;
-    }
-
-    /**
-     * Handle errors during execution.
-     */
-    private void handleError(Exception error, int attempt) throws IOException, InterruptedException {
-        if (!shouldRetry(error) || attempt >= maxAttempts) {
-            LOGGER.error("Error attempting to get fee estimate", error);
-            if (error instanceof IOException ioException) {
+            if (cause instanceof RuntimeException && cause.getCause() instanceof IOException ioException) {
                 throw ioException;
             }
-            if (error instanceof InterruptedException interruptedException) {
-                throw interruptedException;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-            throw new IllegalStateException(error);
+            throw new IOException(cause);
         }
-        warnAndDelay(attempt, error);
     }
 
     /**
@@ -273,6 +218,9 @@ public class FeeEstimateQuery {
 
     /**
      * Execute the query with user supplied timeout asynchronously.
+     * <p>
+     * No thread is held while waiting between two attempts, and cancelling the returned future aborts the request
+     * in flight.
      *
      * @param client  the client object
      * @param timeout the user supplied timeout
@@ -280,82 +228,15 @@ public class FeeEstimateQuery {
      */
     public CompletableFuture<FeeEstimateResponse> executeAsync(Client client, Duration timeout) {
         var resolvedMode = mode != null ? mode : FeeEstimateMode.INTRINSIC;
-        CompletableFuture<FeeEstimateResponse> returnFuture = new CompletableFuture<>();
-        executeAsync(client, timeout, resolvedMode, returnFuture, 1);
-        return returnFuture;
-    }
-
-    /**
-     * Execute the query asynchronously (internal implementation).
-     *
-     * @param client       the client object
-     * @param returnFuture the future to complete with the result
-     * @param attempt      the current attempt number
-     */
-    void executeAsync(
-            Client client,
-            Duration timeout,
-            FeeEstimateMode resolvedMode,
-            CompletableFuture<FeeEstimateResponse> returnFuture,
-            int attempt) {
-        var requestPayload = getRequestPayload();
-        var url = buildUrl(client, resolvedMode);
-
-        HTTP_CLIENT
-                .sendAsync(buildHttpRequest(url, timeout, requestPayload), HttpResponse.BodyHandlers.ofString())
-                .whenComplete((response, error) -> {
-                    if (error != null) {
-                        handleAsyncError(client, timeout, resolvedMode, returnFuture, attempt, error);
-                        return;
-                    }
-                    handleAsyncResponse(client, timeout, resolvedMode, returnFuture, attempt, response);
-                });
-    }
-
-    /**
-     * Handle async error response.
-     */
-    private void handleAsyncError(
-            Client client,
-            Duration timeout,
-            FeeEstimateMode resolvedMode,
-            CompletableFuture<FeeEstimateResponse> returnFuture,
-            int attempt,
-            Throwable error) {
-        if (attempt >= maxAttempts || !shouldRetry(error)) {
-            LOGGER.error("Error attempting to get fee estimate", error);
-            returnFuture.completeExceptionally(error);
-            return;
-        }
-        warnAndDelay(attempt, error);
-        executeAsync(client, timeout, resolvedMode, returnFuture, attempt + 1);
-    }
-
-    /**
-     * Handle async success response.
-     */
-    private void handleAsyncResponse(
-            Client client,
-            Duration timeout,
-            FeeEstimateMode resolvedMode,
-            CompletableFuture<FeeEstimateResponse> returnFuture,
-            int attempt,
-            HttpResponse<String> response) {
-        if (isSuccessfulResponse(response.statusCode())) {
-            returnFuture.complete(FeeEstimateResponse.fromJson(response.body()));
-            return;
-        }
-
-        if (attempt >= maxAttempts || !shouldRetry(response.statusCode())) {
-            LOGGER.error(
-                    "Failed to fetch fee estimate.HTTP status: {} body: {}", response.statusCode(), response.body());
-            returnFuture.completeExceptionally(
-                    new RuntimeException("Failed to fetch fee estimate, status " + response.statusCode()));
-            return;
-        }
-
-        warnAndDelay(attempt, new RuntimeException("Transient HTTP status: " + response.statusCode()));
-        executeAsync(client, timeout, resolvedMode, returnFuture, attempt + 1);
+        var mirrorRestClient = client.getMirrorRestClient();
+
+        return mirrorRestClient.sendWithRetriesAsync(
+                "fee estimate",
+                buildRequest(client, timeout, resolvedMode),
+                maxAttempts,
+                maxBackoff,
+                MirrorRestClient.getTotalTimeout(client, timeout),
+                body -> FeeEstimateResponse.fromJson(MirrorRestClient.readString(body)));
     }
 
     /**
@@ -365,7 +246,7 @@ public class FeeEstimateQuery {
      */
     HttpRequest buildRequest(Client client, Duration timeout, FeeEstimateMode resolvedMode) {
         String url = buildUrl(client, resolvedMode);
-        return buildHttpRequest(url, timeout, getRequestPayload());
+        return buildHttpRequest(client.getMirrorRestClient(), url, timeout, getRequestPayload());
     }
 
     private byte[] getRequestPayload() {
@@ -385,27 +266,12 @@ public class FeeEstimateQuery {
         return url;
     }
 
-    private HttpRequest buildHttpRequest(String url, Duration timeout, byte[] payload) {
-        return HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(timeout)
+    private static HttpRequest buildHttpRequest(
+            MirrorRestClient mirrorRestClient, String url, Duration timeout, byte[] payload) {
+        return mirrorRestClient
+                .newRequest(url, timeout)
                 .header("Content-Type", "application/protobuf")
                 .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
                 .build();
     }
-
-    private void warnAndDelay(int attempt, Throwable error) {
-        var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-        LOGGER.warn(
-                "Error fetching fee estimate during attempt #{}. Waiting {} ms before next attempt: {}",
-                attempt,
-                delay,
-                error.getMessage());
-
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
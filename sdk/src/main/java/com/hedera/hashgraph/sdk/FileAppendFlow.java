@@ -0,0 +1,456 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nullable;
+
+/**
+ * Append contents read from a stream or a file channel to a file, one chunk at a time.
+ * <p>
+ * A {@link FileAppendTransaction} holds all its contents, and builds and signs the transactions of all its chunks when
+ * it is frozen. This flow instead reads each chunk only once the chunk before it reached consensus, and submits it in a
+ * {@link FileAppendTransaction} of its own, built and signed just then. Whatever the size of the contents, no more
+ * than a chunk of them is held on the heap at once; a file channel is read through memory-mapped windows of it.
+ * <p>
+ * The contents are read as the flow is executed, so a flow can only be executed once.
+ */
+public class FileAppendFlow {
+    static final int DEFAULT_CHUNK_SIZE = 2048;
+
+    @Nullable
+    private FileId fileId = null;
+
+    @Nullable
+    private FileChunkReader contents = null;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @Nullable
+    private Integer maxChunks = null;
+
+    @Nullable
+    private List<AccountId> nodeAccountIds = null;
+
+    @Nullable
+    private PrivateKey signPrivateKey = null;
+
+    @Nullable
+    private PublicKey signPublicKey = null;
+
+    @Nullable
+    private UnaryOperator<byte[]> transactionSigner = null;
+
+    /**
+     * Constructor
+     */
+    public FileAppendFlow() {}
+
+    /**
+     * Extract the file id.
+     *
+     * @return the file id
+     */
+    @Nullable
+    public FileId getFileId() {
+        return fileId;
+    }
+
+    /**
+     * Sets the ID of the file to append to.
+     *
+     * @param fileId the file id
+     * @return {@code this}
+     */
+    public FileAppendFlow setFileId(FileId fileId) {
+        Objects.requireNonNull(fileId);
+        this.fileId = fileId;
+        return this;
+    }
+
+    /**
+     * Sets the contents to append, read from a stream until its end. The stream is not closed.
+     *
+     * @param contents the stream of the contents
+     * @return {@code this}
+     */
+    public FileAppendFlow setContents(InputStream contents) {
+        this.contents = FileChunkReader.of(contents);
+        return this;
+    }
+
+    /**
+     * Sets the contents to append, read from the current position of a file channel to its end through memory-mapped
+     * windows of it. Neither the position of the channel is moved nor the channel closed.
+     *
+     * @param contents the file channel of the contents
+     * @return {@code this}
+     * @throws IOException if the position or the size of the channel cannot be read
+     */
+    public FileAppendFlow setContents(FileChannel contents) throws IOException {
+        this.contents = FileChunkReader.of(contents);
+        return this;
+    }
+
+    /**
+     * Sets the contents to append from a reader.
+     *
+     * @param contents the reader of the contents
+     * @return {@code this}
+     */
+    FileAppendFlow setContents(FileChunkReader contents) {
+        this.contents = Objects.requireNonNull(contents);
+        return this;
+    }
+
+    /**
+     * Extract the chunk size.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the size of the chunk appended by each transaction.
+     *
+     * @param chunkSize the chunk size
+     * @return {@code this}
+     */
+    public FileAppendFlow setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of chunks.
+     *
+     * @return the maximum number of chunks, or {@code null} if there is none
+     */
+    @Nullable
+    public Integer getMaxChunks() {
+        return maxChunks;
+    }
+
+    /**
+     * Sets the maximum number of chunks to append.
+     * <p>
+     * When the size of the contents is known, a flow with more chunks fails before anything is appended. Contents read
+     * from a stream fail once the chunk past the maximum is read, after the chunks before it were appended.
+     *
+     * @param maxChunks the maximum number of chunks
+     * @return {@code this}
+     */
+    public FileAppendFlow setMaxChunks(int maxChunks) {
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("maxChunks must be greater than zero");
+        }
+
+        this.maxChunks = maxChunks;
+        return this;
+    }
+
+    /**
+     * Extract the list of node account id's.
+     *
+     * @return the list of node account id's
+     */
+    @Nullable
+    public List<AccountId> getNodeAccountIds() {
+        return nodeAccountIds != null ? Collections.unmodifiableList(nodeAccountIds) : null;
+    }
+
+    /**
+     * Set the account IDs of the nodes that the transactions will be submitted to.
+     *
+     * @param nodeAccountIds The list of node AccountIds to be set
+     * @return {@code this}
+     */
+    public FileAppendFlow setNodeAccountIds(List<AccountId> nodeAccountIds) {
+        Objects.requireNonNull(nodeAccountIds);
+        this.nodeAccountIds = new ArrayList<>(nodeAccountIds);
+        return this;
+    }
+
+    /**
+     * Set the private key that the transactions will be signed with, besides the operator.
+     *
+     * @param privateKey the private key used for signing
+     * @return {@code this}
+     */
+    public FileAppendFlow sign(PrivateKey privateKey) {
+        this.signPrivateKey = privateKey;
+        this.signPublicKey = null;
+        this.transactionSigner = null;
+        return this;
+    }
+
+    /**
+     * Set the public key and signer that the transactions will be signed with, besides the operator.
+     *
+     * @param publicKey         the public key
+     * @param transactionSigner the signer
+     * @return {@code this}
+     */
+    public FileAppendFlow signWith(PublicKey publicKey, UnaryOperator<byte[]> transactionSigner) {
+        this.signPublicKey = publicKey;
+        this.transactionSigner = transactionSigner;
+        this.signPrivateKey = null;
+        return this;
+    }
+
+    private FileChunkReader requireContents() {
+        if (fileId == null) {
+            throw new IllegalStateException("Cannot execute a file append flow when the file ID was not provided");
+        }
+
+        if (contents == null) {
+            throw new IllegalStateException("Cannot execute a file append flow when the contents were not provided");
+        }
+
+        if (maxChunks != null) {
+            var requiredChunks = contents.countChunks(chunkSize);
+            if (requiredChunks > maxChunks) {
+                throw tooManyChunks(String.valueOf(requiredChunks));
+            }
+        }
+
+        return contents;
+    }
+
+    private IllegalArgumentException tooManyChunks(String requiredChunks) {
+        return new IllegalArgumentException("contents require " + requiredChunks
+                + " chunks but the maximum allowed chunks is " + maxChunks + ", try using setMaxChunks");
+    }
+
+    /**
+     * Read the chunk at an index of the contents.
+     *
+     * @param reader the reader of the contents
+     * @param index  the index of the chunk
+     * @return the chunk, or {@code null} once all the contents were read
+     */
+    @Nullable
+    private ByteString readChunk(FileChunkReader reader, int index) {
+        ByteString chunk;
+
+        try {
+            chunk = reader.next(chunkSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (chunk != null && maxChunks != null && index >= maxChunks) {
+            throw tooManyChunks("more than " + maxChunks);
+        }
+
+        return chunk;
+    }
+
+    private FileAppendTransaction createFileAppendTransaction(Client client, ByteString chunk) {
+        var fileAppendTx = new FileAppendTransaction()
+                .setFileId(Objects.requireNonNull(fileId))
+                .setChunkSize(chunkSize)
+                .setContents(chunk);
+        if (nodeAccountIds != null) {
+            fileAppendTx.setNodeAccountIds(nodeAccountIds);
+        }
+        if (signPrivateKey != null) {
+            fileAppendTx.freezeWith(client).sign(signPrivateKey);
+        } else if (signPublicKey != null && transactionSigner != null) {
+            fileAppendTx.freezeWith(client).signWith(signPublicKey, transactionSigner);
+        }
+        return fileAppendTx;
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client.
+     *
+     * @param client the client with the transaction to execute
+     * @return the response of the transaction of the last chunk
+     * @throws PrecheckStatusException when the precheck fails
+     * @throws TimeoutException        when the transaction times out
+     */
+    public TransactionResponse execute(Client client) throws PrecheckStatusException, TimeoutException {
+        return execute(client, client.getRequestTimeout());
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @return the response of the transaction of the last chunk
+     * @throws PrecheckStatusException when the precheck fails
+     * @throws TimeoutException        when the transaction times out
+     */
+    public TransactionResponse execute(Client client, Duration timeoutPerTransaction)
+            throws PrecheckStatusException, TimeoutException {
+        var response = appendAll(client, timeoutPerTransaction);
+
+        if (response == null) {
+            throw new IllegalArgumentException("contents cannot be empty");
+        }
+
+        return response;
+    }
+
+    /**
+     * Append every chunk of the contents.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @return the response of the transaction of the last chunk, or {@code null} if there were no contents left
+     * @throws PrecheckStatusException when the precheck fails
+     * @throws TimeoutException        when the transaction times out
+     */
+    @Nullable
+    TransactionResponse appendAll(Client client, Duration timeoutPerTransaction)
+            throws PrecheckStatusException, TimeoutException {
+        var reader = requireContents();
+        TransactionResponse response = null;
+
+        try {
+            var index = 0;
+            for (var chunk = readChunk(reader, index); chunk != null; chunk = readChunk(reader, ++index)) {
+                response = createFileAppendTransaction(client, chunk).execute(client, timeoutPerTransaction);
+                response.getReceipt(client, timeoutPerTransaction);
+            }
+        } catch (ReceiptStatusException e) {
+            throw new RuntimeException(e);
+        }
+
+        return response;
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client the client with the transaction to execute
+     * @return the response of the transaction of the last chunk
+     */
+    public CompletableFuture<TransactionResponse> executeAsync(Client client) {
+        return executeAsync(client, client.getRequestTimeout());
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @return the response of the transaction of the last chunk
+     */
+    public CompletableFuture<TransactionResponse> executeAsync(Client client, Duration timeoutPerTransaction) {
+        return appendAllAsync(client, timeoutPerTransaction)
+                .thenCompose(response -> response != null
+                        ? CompletableFuture.completedFuture(response)
+                        : CompletableFuture.failedFuture(new IllegalArgumentException("contents cannot be empty")));
+    }
+
+    /**
+     * Append every chunk of the contents asynchronously.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @return the response of the transaction of the last chunk, or {@code null} if there were no contents left
+     */
+    CompletableFuture<TransactionResponse> appendAllAsync(Client client, Duration timeoutPerTransaction) {
+        FileChunkReader reader;
+
+        try {
+            reader = requireContents();
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return appendNextAsync(client, timeoutPerTransaction, reader, 0, null);
+    }
+
+    private CompletableFuture<TransactionResponse> appendNextAsync(
+            Client client,
+            Duration timeoutPerTransaction,
+            FileChunkReader reader,
+            int index,
+            @Nullable TransactionResponse previous) {
+        // reading the stream may block, so it is not done on the thread that completed the previous chunk
+        return CompletableFuture.supplyAsync(() -> readChunk(reader, index), client.executor)
+                .thenCompose(chunk -> {
+                    if (chunk == null) {
+                        return CompletableFuture.completedFuture(previous);
+                    }
+
+                    return createFileAppendTransaction(client, chunk)
+                            .executeAsync(client, timeoutPerTransaction)
+                            .thenCompose(response -> response.getReceiptAsync(client, timeoutPerTransaction)
+                                    .thenCompose(receipt -> appendNextAsync(
+                                            client, timeoutPerTransaction, reader, index + 1, response)));
+                });
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client   the client with the transaction to execute
+     * @param callback a BiConsumer which handles the result or error.
+     */
+    public void executeAsync(Client client, BiConsumer<TransactionResponse, Throwable> callback) {
+        ConsumerHelper.biConsumer(executeAsync(client), callback);
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @param callback              a BiConsumer which handles the result or error.
+     */
+    public void executeAsync(
+            Client client, Duration timeoutPerTransaction, BiConsumer<TransactionResponse, Throwable> callback) {
+        ConsumerHelper.biConsumer(executeAsync(client, timeoutPerTransaction), callback);
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client    the client with the transaction to execute
+     * @param onSuccess a Consumer which consumes the result on success.
+     * @param onFailure a Consumer which consumes the error on failure.
+     */
+    public void executeAsync(Client client, Consumer<TransactionResponse> onSuccess, Consumer<Throwable> onFailure) {
+        ConsumerHelper.twoConsumers(executeAsync(client), onSuccess, onFailure);
+    }
+
+    /**
+     * Execute the transactions in the flow with the passed in client asynchronously.
+     *
+     * @param client                the client with the transaction to execute
+     * @param timeoutPerTransaction The timeout after which each transaction's execution attempt will be cancelled.
+     * @param onSuccess             a Consumer which consumes the result on success.
+     * @param onFailure             a Consumer which consumes the error on failure.
+     */
+    public void executeAsync(
+            Client client,
+            Duration timeoutPerTransaction,
+            Consumer<TransactionResponse> onSuccess,
+            Consumer<Throwable> onFailure) {
+        ConsumerHelper.twoConsumers(executeAsync(client, timeoutPerTransaction), onSuccess, onFailure);
+    }
+}
@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.bouncycastle.util.encoders.Hex;
+
+/**
+ * Reads the contents uploaded to a file one chunk at a time.
+ * <p>
+ * Contents are read from a stream, from a file channel through memory-mapped windows of it, or from a buffer already
+ * in memory. Only the chunk being read is held on the heap: a chunk read from a window or a buffer is not copied,
+ * unless it is hex-encoded on the way.
+ */
+final class FileChunkReader {
+    static final int MAP_WINDOW_SIZE = 1 << 20;
+
+    @Nullable
+    private final InputStream stream;
+
+    @Nullable
+    private final FileChannel channel;
+
+    // the end of the contents in the channel
+    private final long channelEnd;
+
+    // the part of the contents in memory, its position at the next byte to read
+    private ByteBuffer window;
+
+    // the position of the window in the channel
+    private long windowStart;
+
+    private boolean hexEncoded = false;
+
+    private FileChunkReader(
+            @Nullable InputStream stream, @Nullable FileChannel channel, long channelStart, long channelEnd) {
+        this.stream = stream;
+        this.channel = channel;
+        this.channelEnd = channelEnd;
+        this.window = ByteBuffer.allocate(0);
+        this.windowStart = channelStart;
+    }
+
+    /**
+     * Read the contents from a stream, which is left open.
+     *
+     * @param stream                    the stream
+     * @return                          the new reader
+     */
+    static FileChunkReader of(InputStream stream) {
+        return new FileChunkReader(Objects.requireNonNull(stream), null, 0, 0);
+    }
+
+    /**
+     * Read the contents from the current position of a file channel to its end, without moving its position. The
+     * channel is left open.
+     *
+     * @param channel                   the file channel
+     * @return                          the new reader
+     * @throws IOException              if the channel cannot be read
+     */
+    static FileChunkReader of(FileChannel channel) throws IOException {
+        Objects.requireNonNull(channel);
+        return new FileChunkReader(null, channel, channel.position(), channel.size());
+    }
+
+    /**
+     * Read the contents from a buffer, from its position to its limit, without moving its position.
+     *
+     * @param buffer                    the buffer
+     * @return                          the new reader
+     */
+    static FileChunkReader of(ByteBuffer buffer) {
+        var reader = new FileChunkReader(null, null, 0, 0);
+        reader.window = buffer.slice();
+        return reader;
+    }
+
+    /**
+     * Assign whether each chunk is hex-encoded, so that a chunk of a given size holds half as many bytes of the
+     * contents.
+     *
+     * @param hexEncoded                whether the chunks are hex-encoded
+     * @return {@code this}
+     */
+    FileChunkReader setHexEncoded(boolean hexEncoded) {
+        this.hexEncoded = hexEncoded;
+        return this;
+    }
+
+    /**
+     * Count the chunks left to read, when the size of the contents is known.
+     *
+     * @param size                      the size of each chunk, once hex-encoded if it is
+     * @return                          the number of chunks left, or {@code -1} if the contents are read from a stream
+     */
+    long countChunks(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be greater than zero");
+        }
+
+        if (stream != null) {
+            return -1;
+        }
+
+        var remaining = channel != null ? channelEnd - windowStart - window.position() : window.remaining();
+        var bytesPerChunk = hexEncoded ? Math.max(1, size / 2) : size;
+        return (remaining + bytesPerChunk - 1) / bytesPerChunk;
+    }
+
+    /**
+     * Read the next chunk.
+     *
+     * @param size                      the size of the chunk, once hex-encoded if it is; the last chunk may be smaller
+     * @return                          the chunk, or {@code null} once all the contents were read
+     * @throws IOException              if the contents cannot be read
+     */
+    @Nullable
+    ByteString next(int size) throws IOException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be greater than zero");
+        }
+
+        var contents = read(hexEncoded ? Math.max(1, size / 2) : size);
+        if (contents == null) {
+            return null;
+        }
+
+        if (!hexEncoded) {
+            return UnsafeByteOperations.unsafeWrap(contents);
+        }
+
+        var bytes = new byte[contents.remaining()];
+        contents.get(bytes);
+        return UnsafeByteOperations.unsafeWrap(Hex.encode(bytes));
+    }
+
+    @Nullable
+    private ByteBuffer read(int size) throws IOException {
+        if (stream != null) {
+            var bytes = stream.readNBytes(size);
+            return bytes.length == 0 ? null : ByteBuffer.wrap(bytes);
+        }
+
+        if (channel != null && window.remaining() < size) {
+            var position = windowStart + window.position();
+            var length = Math.min(Math.max(MAP_WINDOW_SIZE, size), channelEnd - position);
+
+            // map the next window, starting with what is left of this one so that chunks are not cut short
+            if (length > window.remaining()) {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                windowStart = position;
+            }
+        }
+
+        if (!window.hasRemaining()) {
+            return null;
+        }
+
+        var chunk = window.slice(window.position(), Math.min(size, window.remaining()));
+        window.position(window.position() + chunk.remaining());
+        return chunk;
+    }
+}
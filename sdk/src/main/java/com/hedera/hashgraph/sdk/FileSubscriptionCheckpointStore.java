@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the checkpoint of every topic in a file of its own, in one directory.
+ * <p>
+ * A checkpoint is written to a temporary file, flushed to disk and then renamed over the previous one, after which
+ * the directory is flushed too. A crash leaves either the previous checkpoint or the new one, never a partly written
+ * file. Each file holds:
+ * <pre>
+ * int    magic
+ * int    version
+ * long   consensusTimestamp seconds
+ * int    consensusTimestamp nanos
+ * long   sequenceNumber
+ * long   resumeTimestamp seconds
+ * int    resumeTimestamp nanos
+ * </pre>
+ */
+public final class FileSubscriptionCheckpointStore implements SubscriptionCheckpointStore {
+    static final int MAGIC = 0x48544350; // "HTCP"
+    static final int VERSION = 1;
+    static final int SIZE = 40;
+
+    private final Path directory;
+
+    /**
+     * Constructor.
+     *
+     * @param directory                 the directory of the checkpoint files, created if it does not exist
+     * @throws IOException              when the directory cannot be created
+     */
+    public FileSubscriptionCheckpointStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory, "directory must not be null"));
+    }
+
+    /**
+     * Extract the directory of the checkpoint files.
+     *
+     * @return                          the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Extract the file holding the checkpoint of a topic.
+     *
+     * @param topicId                   the topic
+     * @return                          the path of the file, which may not exist yet
+     */
+    public Path getPath(TopicId topicId) {
+        return directory.resolve(topicId + ".checkpoint");
+    }
+
+    @Override
+    @Nullable
+    public SubscriptionCheckpoint load(TopicId topicId) throws IOException {
+        var path = getPath(topicId);
+        byte[] bytes;
+
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        var buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length != SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("file " + path + " is not a subscription checkpoint");
+        }
+
+        var version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported subscription checkpoint version " + version + " in " + path);
+        }
+
+        try {
+            var consensusTimestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            var sequenceNumber = buffer.getLong();
+            var resumeTimestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+
+            return new SubscriptionCheckpoint(consensusTimestamp, sequenceNumber, resumeTimestamp);
+        } catch (DateTimeException e) {
+            throw new IOException("file " + path + " holds an invalid subscription checkpoint", e);
+        }
+    }
+
+    @Override
+    public synchronized void save(TopicId topicId, SubscriptionCheckpoint checkpoint) throws IOException {
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+
+        var path = getPath(topicId);
+        var temporary = directory.resolve(path.getFileName() + ".tmp");
+
+        var buffer = ByteBuffer.allocate(SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(checkpoint.consensusTimestamp.getEpochSecond())
+                .putInt(checkpoint.consensusTimestamp.getNano())
+                .putLong(checkpoint.sequenceNumber)
+                .putLong(checkpoint.resumeTimestamp.getEpochSecond())
+                .putInt(checkpoint.resumeTimestamp.getNano());
+        buffer.flip();
+
+        try (var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            TransactionBatchWriter.writeFully(channel, buffer, 0);
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory();
+    }
+
+    /**
+     * Flush the directory to disk, so the rename of a checkpoint survives a crash.
+     */
+    private void forceDirectory() {
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms, like Windows, cannot open or flush a directory, so the rename is left to the platform
+        }
+    }
+}
@@ -1,17 +1,29 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
 
 /**
  * Utility class.
+ * <p>
+ * Requests go to the healthy mirror node with the lowest {@link MirrorNode#getScore() score}, which combines its
+ * latency and error rate. A small share of them go to another healthy node at random, so that a node which got faster
+ * is noticed. A node whose request fails is taken out of rotation for its backoff, so the next attempt of that request
+ * fails over to another node; when no node is healthy, the one that will be readmitted first is used.
  */
 class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNode> {
+    /**
+     * Share of the requests sent to a random healthy node rather than the best one.
+     */
+    private static final double EXPLORATION_RATE = 0.05;
+
     private MirrorNetwork(ExecutorService executor, List<String> addresses) {
         super(executor);
         this.transportSecurity = true;
@@ -104,7 +116,85 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
      * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
     synchronized MirrorNode getNextMirrorNode() throws InterruptedException {
-        return getNumberOfMostHealthyNodes(1).get(0);
+        return getNextMirrorNode(null);
+    }
+
+    /**
+     * Extract the next mirror node to send a request to, preferring another node than the one that just failed it.
+     *
+     * @param exclude                   the node to avoid, if any other is healthy
+     * @return                          the next mirror node
+     * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    synchronized MirrorNode getNextMirrorNode(@Nullable MirrorNode exclude) throws InterruptedException {
+        readmitNodes();
+        removeDeadNodes();
+
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        var candidates = new ArrayList<MirrorNode>(healthyNodes.size());
+        for (var node : healthyNodes) {
+            if (node != exclude) {
+                candidates.add(node);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return getFirstReadmittedNode(exclude);
+        }
+
+        if (candidates.size() > 1 && random.nextDouble() < EXPLORATION_RATE) {
+            return candidates.get(random.nextInt(candidates.size()));
+        }
+
+        var best = candidates.get(0);
+        for (var node : candidates) {
+            if (node.getScore() < best.getScore()) {
+                best = node;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Extract the healthy mirror nodes, for requests to be spread over them; when none is healthy, the one readmitted
+     * first.
+     *
+     * @return                          the mirror nodes
+     * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    synchronized List<MirrorNode> getHealthyMirrorNodes() throws InterruptedException {
+        readmitNodes();
+        removeDeadNodes();
+
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        if (healthyNodes.isEmpty()) {
+            return List.of(getFirstReadmittedNode(null));
+        }
+
+        return new ArrayList<>(healthyNodes);
+    }
+
+    private MirrorNode getFirstReadmittedNode(@Nullable MirrorNode exclude) {
+        MirrorNode first = null;
+
+        for (var node : nodes) {
+            if (node == exclude && nodes.size() > 1) {
+                continue;
+            }
+
+            if (first == null || node.readmitTime.isBefore(first.readmitTime)) {
+                first = node;
+            }
+        }
+
+        return first;
     }
 
     /**
@@ -113,4 +203,42 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
     String getRestBaseUrl() throws InterruptedException {
         return getNextMirrorNode().getRestBaseUrl();
     }
+
+    /**
+     * Find the mirror node a REST request is sent to.
+     *
+     * @param url                       the URL of the request
+     * @return                          the mirror node, or {@code null} if the URL is not under the base URL of any
+     */
+    @Nullable
+    synchronized MirrorNode getMirrorNodeForRestUrl(String url) {
+        for (var node : nodes) {
+            if (!node.address.isInProcess() && url.startsWith(node.getRestBaseUrl())) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Record a request that a mirror node answered.
+     *
+     * @param node                      the mirror node
+     * @param latency                   how long the request took, or {@code null} when it is not meaningful
+     */
+    synchronized void recordSuccess(MirrorNode node, @Nullable Duration latency) {
+        node.recordSuccess(latency);
+        decreaseBackoff(node);
+    }
+
+    /**
+     * Record a request that failed because of a mirror node, taking the node out of rotation for its backoff.
+     *
+     * @param node                      the mirror node
+     */
+    synchronized void recordFailure(MirrorNode node) {
+        node.recordFailure();
+        increaseBackoff(node);
+    }
 }
@@ -1,12 +1,37 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 
 /**
  * An individual mirror node.
+ * <p>
+ * Besides the health shared by every node, a mirror node keeps moving averages of how long its requests take and of
+ * how often they fail, fed by both the gRPC and the REST requests sent to it, so that the fastest one can be preferred.
  */
 class MirrorNode extends BaseNode<MirrorNode, BaseNodeAddress> {
+    /**
+     * Weight of a new sample in the moving averages.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * How much slower than its latency a node is considered when all its requests fail.
+     */
+    private static final double ERROR_PENALTY = 4.0;
+
+    /**
+     * Moving average of the latency in nanoseconds, or zero until the first sample.
+     */
+    private double latencyNanos = 0;
+
+    /**
+     * Moving average of the share of failed requests.
+     */
+    private double errorRate = 0;
+
     /**
      * Constructor.
      *
@@ -37,6 +62,56 @@ class MirrorNode extends BaseNode<MirrorNode, BaseNodeAddress> {
         return address;
     }
 
+    /**
+     * Record a request that succeeded.
+     *
+     * @param latency                   how long the request took, or {@code null} when it is not meaningful, such as
+     *                                  for a stream
+     */
+    synchronized void recordSuccess(@Nullable Duration latency) {
+        if (latency != null) {
+            var sample = (double) latency.toNanos();
+            latencyNanos = latencyNanos == 0 ? sample : latencyNanos + SMOOTHING * (sample - latencyNanos);
+        }
+
+        errorRate -= SMOOTHING * errorRate;
+    }
+
+    /**
+     * Record a request that failed because of this node.
+     */
+    synchronized void recordFailure() {
+        errorRate += SMOOTHING * (1 - errorRate);
+    }
+
+    /**
+     * Extract the moving average of the latency of the requests sent to this node.
+     *
+     * @return                          the latency, zero until a request has completed
+     */
+    synchronized Duration getLatency() {
+        return Duration.ofNanos((long) latencyNanos);
+    }
+
+    /**
+     * Extract the moving average of the share of requests sent to this node that failed.
+     *
+     * @return                          the error rate, between 0 and 1
+     */
+    synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Extract the expected cost of sending a request to this node; the lower the better. A node never measured costs
+     * nothing, so that it is tried.
+     *
+     * @return                          the score
+     */
+    synchronized double getScore() {
+        return latencyNanos * (1 + ERROR_PENALTY * errorRate);
+    }
+
     /**
      * Build the REST base URL for this mirror node.
      *
@@ -2,8 +2,9 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.base.MoreObjects;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
 import java.util.Objects;
 import javax.annotation.Nullable;
 
@@ -35,29 +36,74 @@ public final class MirrorNodeAccountBalance {
      * account that exists but holds no HBAR is a populated entry with {@code "balance": 0} and is parsed
      * normally, so a genuine zero is never mistaken for a missing account.
      *
-     * @param root the JSON object returned by {@code GET /api/v1/balances}
+     * <p>The payload is read as a stream: only the {@code balance} of the first entry is decoded, and
+     * everything else, including the token balances, is skipped without being built into a tree.
+     *
+     * @param reader the reader positioned at the JSON object returned by {@code GET /api/v1/balances}
      * @return the new balance, or {@code null} if the mirror node knows no such account
+     * @throws IOException if the payload cannot be read or is not valid JSON
      * @throws IllegalStateException if the payload is not a well-formed balances response
      */
     @Nullable
-    static MirrorNodeAccountBalance fromJson(JsonObject root) {
-        if (!root.has("balances") || root.get("balances").isJsonNull()) {
+    static MirrorNodeAccountBalance fromJson(JsonReader reader) throws IOException {
+        var hasBalances = false;
+        var hasEntry = false;
+        Long balance = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("balances") || reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+
+            hasBalances = true;
+            reader.beginArray();
+
+            if (reader.hasNext()) {
+                hasEntry = true;
+                balance = readBalance(reader);
+            }
+
+            while (reader.hasNext()) {
+                reader.skipValue();
+            }
+
+            reader.endArray();
+        }
+        reader.endObject();
+
+        if (!hasBalances) {
             throw new IllegalStateException("Mirror Node returned a malformed response: no `balances` array");
         }
 
-        JsonArray balances = root.getAsJsonArray("balances");
-        if (balances.isEmpty()) {
+        if (!hasEntry) {
             return null;
         }
 
-        JsonObject balance = balances.get(0).getAsJsonObject();
-        if (!balance.has("balance") || balance.get("balance").isJsonNull()) {
+        if (balance == null) {
             throw new IllegalStateException(
                     "Mirror Node returned a malformed response: balances entry has no `balance` field");
         }
 
-        return new MirrorNodeAccountBalance(
-                Hbar.fromTinybars(balance.get("balance").getAsLong()));
+        return new MirrorNodeAccountBalance(Hbar.fromTinybars(balance));
+    }
+
+    @Nullable
+    private static Long readBalance(JsonReader reader) throws IOException {
+        Long balance = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("balance") && reader.peek() != JsonToken.NULL) {
+                balance = reader.nextLong();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return balance;
     }
 
     /**
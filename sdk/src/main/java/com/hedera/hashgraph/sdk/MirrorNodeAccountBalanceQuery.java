@@ -2,15 +2,12 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.io.BaseEncoding;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
 import java.io.IOException;
-import java.net.URI;
+import java.io.InputStream;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Objects;
@@ -18,8 +15,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Get the HBAR balance of an account from the mirror node REST API
@@ -50,9 +45,6 @@ import org.slf4j.LoggerFactory;
  * <p>This query is free.
  */
 public final class MirrorNodeAccountBalanceQuery {
-    private static final Logger LOGGER = LoggerFactory.getLogger(MirrorNodeAccountBalanceQuery.class);
-    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
-
     @Nullable
     private AccountId accountId = null;
 
@@ -137,14 +129,6 @@ public final class MirrorNodeAccountBalanceQuery {
         return this;
     }
 
-    private static boolean shouldRetry(Throwable throwable) {
-        return throwable instanceof HttpTimeoutException || throwable instanceof IOException;
-    }
-
-    private static boolean shouldRetry(int statusCode) {
-        return statusCode == 408 || statusCode == 429 || (statusCode >= 500 && statusCode < 600);
-    }
-
     /**
      * Executes the query with the user supplied client.
      *
@@ -165,7 +149,8 @@ public final class MirrorNodeAccountBalanceQuery {
      * Executes the query with the user supplied client and timeout.
      *
      * @param client the client with which this will be executed
-     * @param timeout the maximum duration for each individual HTTP request
+     * @param timeout the maximum duration for each individual HTTP request; all the attempts together
+     *        are bounded by the request timeout of the client, or by this timeout if longer
      * @return the retrieved {@link MirrorNodeAccountBalance}
      * @throws PrecheckStatusException with {@link Status#INVALID_ACCOUNT_ID} if the mirror node knows no
      *         such account
@@ -216,7 +201,8 @@ public final class MirrorNodeAccountBalanceQuery {
      * {@code get()}.
      *
      * @param client the client with which this will be executed
-     * @param timeout the maximum duration for each individual HTTP request
+     * @param timeout the maximum duration for each individual HTTP request; all the attempts together
+     *        are bounded by the request timeout of the client, or by this timeout if longer
      * @return a future representing the retrieved {@link MirrorNodeAccountBalance}
      */
     public CompletableFuture<MirrorNodeAccountBalance> executeAsync(Client client, Duration timeout) {
@@ -226,9 +212,15 @@ public final class MirrorNodeAccountBalanceQuery {
         // Validate before scheduling any work so a misconfigured query never reaches the network.
         String url = buildUrl(client);
 
-        return CompletableFuture.supplyAsync(
-                () -> {
-                    var balance = MirrorNodeAccountBalance.fromJson(fetch(url, timeout));
+        var mirrorRestClient = client.getMirrorRestClient();
+        return mirrorRestClient.sendWithRetriesAsync(
+                "account balance",
+                buildHttpRequest(mirrorRestClient, url, timeout),
+                maxAttempts,
+                maxBackoff,
+                MirrorRestClient.getTotalTimeout(client, timeout),
+                body -> {
+                    var balance = decode(body);
 
                     if (balance == null) {
                         // The mirror node answers HTTP 200 with an empty `balances` array for an account
@@ -237,54 +229,19 @@ public final class MirrorNodeAccountBalanceQuery {
                     }
 
                     return balance;
-                },
-                client.executor);
+                });
     }
 
-    private JsonObject fetch(String url, Duration timeout) {
-        String body = fetchBody(url, timeout);
-
-        try {
-            return JsonParser.parseString(body).getAsJsonObject();
-        } catch (RuntimeException e) {
+    @Nullable
+    private static MirrorNodeAccountBalance decode(InputStream body) throws IOException {
+        try (var reader = MirrorRestClient.newJsonReader(body)) {
+            return MirrorNodeAccountBalance.fromJson(reader);
+        } catch (EOFException | MalformedJsonException | NumberFormatException e) {
+            // a truncated body ends the document early, which is a malformed response rather than a failed request
             throw new IllegalStateException("Mirror Node returned a malformed JSON response", e);
         }
     }
 
-    private String fetchBody(String url, Duration timeout) {
-        int attempt = 0;
-        Exception lastException = null;
-
-        while (attempt < maxAttempts) {
-            attempt++;
-            try {
-                HttpResponse<String> response =
-                        HTTP_CLIENT.send(buildHttpRequest(url, timeout), HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    return response.body();
-                }
-
-                if (!shouldRetry(response.statusCode()) || attempt >= maxAttempts) {
-                    throw new IllegalStateException("Mirror Node error: HTTP " + response.statusCode());
-                }
-
-                lastException = new RuntimeException("HTTP " + response.statusCode());
-                warnAndDelay(attempt, lastException);
-            } catch (IllegalStateException e) {
-                throw e;
-            } catch (Exception e) {
-                lastException = e;
-                if (attempt >= maxAttempts || !shouldRetry(e)) {
-                    throw new RuntimeException("Failed to fetch account balance after " + attempt + " attempts", e);
-                }
-                warnAndDelay(attempt, lastException);
-            }
-        }
-
-        throw new RuntimeException("Failed to fetch account balance after " + maxAttempts + " attempts", lastException);
-    }
-
     private String buildUrl(Client client) {
         if (accountId == null) {
             throw new IllegalStateException("accountId must be set before executing MirrorNodeAccountBalanceQuery");
@@ -325,27 +282,8 @@ public final class MirrorNodeAccountBalanceQuery {
         return accountId.toString();
     }
 
-    private HttpRequest buildHttpRequest(String url, Duration timeout) {
-        return HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(timeout)
-                .GET()
-                .build();
-    }
-
-    private void warnAndDelay(int attempt, Throwable error) {
-        var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-        LOGGER.warn(
-                "Error fetching account balance during attempt #{}. Waiting {} ms before next attempt: {}",
-                attempt,
-                delay,
-                error.getMessage());
-
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private static HttpRequest buildHttpRequest(MirrorRestClient mirrorRestClient, String url, Duration timeout) {
+        return mirrorRestClient.newRequest(url, timeout).GET().build();
     }
 
     @Override
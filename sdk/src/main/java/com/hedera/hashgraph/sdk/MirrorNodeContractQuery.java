@@ -256,11 +256,11 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
     }
 
     private CompletableFuture<String> getContractCallResultFromMirrorNodeAsync(Client client) {
-        return executeMirrorNodeRequest(client, false).thenApply(MirrorNodeContractQuery::parseContractCallResult);
+        return executeMirrorNodeRequest(client, false);
     }
 
     private CompletableFuture<Long> getEstimateGasFromMirrorNodeAsync(Client client) {
-        return executeMirrorNodeRequest(client, true).thenApply(MirrorNodeContractQuery::parseHexEstimateToLong);
+        return executeMirrorNodeRequest(client, true).thenApply(MirrorNodeContractQuery::parseHexToLong);
     }
 
     private CompletableFuture<String> executeMirrorNodeRequest(Client client, boolean estimate) {
@@ -287,10 +287,16 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
             }
         }
 
-        return performQueryToMirrorNodeAsync(baseUrl, apiEndpoint, jsonPayload).exceptionally(ex -> {
-            client.getLogger().error("Error while performing post request to Mirror Node: " + ex.getMessage());
-            throw new CompletionException(ex);
-        });
+        return performQueryToMirrorNodeAsync(
+                        client,
+                        baseUrl,
+                        apiEndpoint,
+                        jsonPayload,
+                        reader -> EntityIdHelper.readStringMember(reader, "result"))
+                .exceptionally(ex -> {
+                    client.getLogger().error("Error while performing post request to Mirror Node: " + ex.getMessage());
+                    throw new CompletionException(ex);
+                });
     }
 
     static String createJsonPayload(
@@ -335,7 +341,11 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
     }
 
     static long parseHexEstimateToLong(String responseBody) {
-        return Integer.parseInt(parseContractCallResult(responseBody).substring(2), 16);
+        return parseHexToLong(parseContractCallResult(responseBody));
+    }
+
+    private static long parseHexToLong(String result) {
+        return Integer.parseInt(result.substring(2), 16);
     }
 
     @Override
@@ -0,0 +1,295 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over a collection of the mirror node REST API, one page at a time.
+ * <p>
+ * The mirror node returns collections in pages that link to the next one with {@code links.next}. Pages are only
+ * requested as the items are consumed, and the next page is requested while the items of the current one are being
+ * handled, so at most two pages are held in memory at any time. No thread is held by a page request, including while
+ * waiting to retry it. Stopping early, or {@link #close() closing} the iterator, aborts the page request in flight.
+ *
+ * @param <T> the type of the items
+ */
+public final class MirrorPage<T> implements Iterator<T>, AutoCloseable {
+    static final int DEFAULT_MAX_ATTEMPTS = 10;
+    static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(8L);
+
+    private final Client client;
+    private final String baseUrl;
+    private final String itemsMember;
+    private final Function<JsonObject, T> itemDecoder;
+
+    private Duration timeout;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+    private Iterator<T> items = Collections.emptyIterator();
+
+    @Nullable
+    private String nextPath;
+
+    @Nullable
+    private CompletableFuture<Page<T>> prefetch = null;
+
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client
+     * @param baseUrl                   the URL the paths of the pages are relative to
+     * @param firstPath                 the path of the first page
+     * @param itemsMember               the member of a page holding the array of items
+     * @param itemDecoder               decodes an item of the array
+     */
+    MirrorPage(
+            Client client,
+            String baseUrl,
+            String firstPath,
+            String itemsMember,
+            Function<JsonObject, T> itemDecoder) {
+        this.client = Objects.requireNonNull(client);
+        this.baseUrl = Objects.requireNonNull(baseUrl);
+        this.nextPath = Objects.requireNonNull(firstPath);
+        this.itemsMember = Objects.requireNonNull(itemsMember);
+        this.itemDecoder = Objects.requireNonNull(itemDecoder);
+        this.timeout = client.getRequestTimeout();
+    }
+
+    /**
+     * Assign the timeout of each page request.
+     *
+     * @param timeout                   the timeout
+     * @return {@code this}
+     */
+    MirrorPage<T> setTimeout(Duration timeout) {
+        this.timeout = Objects.requireNonNull(timeout);
+        return this;
+    }
+
+    /**
+     * Assign the maximum number of attempts to request each page.
+     *
+     * @param maxAttempts               the maximum number of attempts
+     * @return {@code this}
+     */
+    MirrorPage<T> setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Assign the longest wait between two attempts to request a page.
+     *
+     * @param maxBackoff                the maximum backoff
+     * @return {@code this}
+     */
+    MirrorPage<T> setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = Objects.requireNonNull(maxBackoff);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Blocks while the next page is requested, if its items are needed and it has not arrived yet.
+     */
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            if (closed) {
+                return false;
+            }
+
+            if (prefetch == null) {
+                if (nextPath == null) {
+                    return false;
+                }
+
+                prefetch = fetchPageAsync(nextPath);
+            }
+
+            var page = await(prefetch);
+            items = page.items.iterator();
+            nextPath = page.next;
+            prefetch = nextPath != null ? fetchPageAsync(nextPath) : null;
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return items.next();
+    }
+
+    /**
+     * Create a sequential stream over the remaining items. Closing the stream closes this iterator.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop iterating, discarding the page being requested in advance.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        items = Collections.emptyIterator();
+
+        if (prefetch != null) {
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+    }
+
+    /**
+     * Collect the remaining items without blocking, one page after the other.
+     * <p>
+     * Cancelling the returned future aborts the page request in flight.
+     *
+     * @return a future of the items
+     */
+    CompletableFuture<List<T>> collectAsync() {
+        var result = new CompletableFuture<List<T>>();
+        var collected = new ArrayList<T>();
+        items.forEachRemaining(collected::add);
+
+        if (closed || nextPath == null) {
+            result.complete(collected);
+        } else {
+            collectAsync(nextPath, collected, result);
+        }
+
+        return result;
+    }
+
+    private void collectAsync(String path, List<T> collected, CompletableFuture<List<T>> result) {
+        var page = fetchPageAsync(path);
+        result.whenComplete((value, error) -> page.cancel(false));
+
+        page.whenComplete((fetched, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else if (fetched.next == null) {
+                collected.addAll(fetched.items);
+                result.complete(collected);
+            } else {
+                collected.addAll(fetched.items);
+                collectAsync(fetched.next, collected, result);
+            }
+        });
+    }
+
+    private CompletableFuture<Page<T>> fetchPageAsync(String path) {
+        var mirrorRestClient = client.getMirrorRestClient();
+
+        return mirrorRestClient.sendWithRetriesAsync(
+                "page",
+                mirrorRestClient.newRequest(baseUrl + path, timeout).GET().build(),
+                maxAttempts,
+                maxBackoff,
+                MirrorRestClient.getTotalTimeout(client, timeout),
+                this::decodePage);
+    }
+
+    private static <T> Page<T> await(CompletableFuture<Page<T>> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private Page<T> decodePage(InputStream body) throws IOException {
+        var page = new Page<T>();
+
+        try (var reader = MirrorRestClient.newJsonReader(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                var name = reader.nextName();
+
+                if (name.equals(itemsMember) && reader.peek() != JsonToken.NULL) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        page.items.add(itemDecoder.apply(JsonParser.parseReader(reader).getAsJsonObject()));
+                    }
+                    reader.endArray();
+                } else if (name.equals("links") && reader.peek() != JsonToken.NULL) {
+                    page.next = readNextLink(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (MalformedJsonException e) {
+            // not worth retrying, unlike the other I/O errors
+            throw new IllegalStateException("Mirror Node returned a malformed JSON response", e);
+        }
+
+        return page;
+    }
+
+    @Nullable
+    private static String readNextLink(JsonReader reader) throws IOException {
+        String next = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("next") && reader.peek() != JsonToken.NULL) {
+                next = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return next;
+    }
+
+    private static final class Page<T> {
+        private final List<T> items = new ArrayList<>();
+
+        @Nullable
+        private String next = null;
+    }
+}
@@ -0,0 +1,592 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The HTTP client shared by every mirror node REST request made with a {@link Client}.
+ * <p>
+ * Creating an HTTP client per request means a new connection pool, and a new TLS handshake, for every request. This
+ * keeps the connections open instead. Requests over TLS use HTTP/2, so concurrent requests are multiplexed over the
+ * same connection; {@link #setMaxConnections(int)} spreads them over more connections when one is not enough.
+ * <p>
+ * Asynchronous responses are handed over to the executor of the client. The HTTP client itself keeps its own threads
+ * for the I/O, since the mirror node queries that block on a response run on the executor of the client too, and
+ * would otherwise starve it.
+ * <p>
+ * It also holds the retry policy shared by the mirror node REST queries: which failures are worth retrying, and how
+ * long to wait before the next attempt. {@link #sendWithRetriesAsync} applies it without holding a thread during the
+ * backoff.
+ */
+public final class MirrorRestClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MirrorRestClient.class);
+
+    static final int DEFAULT_MAX_CONNECTIONS = 1;
+    static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final long INITIAL_BACKOFF_MILLIS = 500;
+
+    private final Executor executor;
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    @Nullable
+    private final MirrorNetwork mirrorNetwork;
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private HttpClient[] httpClients;
+
+    // Lambda responsible for waiting the backoff between two attempts. Pluggable for unit testing.
+    @VisibleForTesting
+    LongFunction<CompletableFuture<Void>> backoffDelayer = delayMillis -> Delayer.delayFor(delayMillis, executor);
+
+    /**
+     * Constructor.
+     *
+     * @param executor                  the executor completing asynchronous requests
+     */
+    MirrorRestClient(Executor executor) {
+        this(executor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor                  the executor completing asynchronous requests
+     * @param mirrorNetwork             the mirror network told how its nodes answer, and failed over within
+     */
+    MirrorRestClient(Executor executor, @Nullable MirrorNetwork mirrorNetwork) {
+        this.executor = executor;
+        this.mirrorNetwork = mirrorNetwork;
+        this.httpClients = createHttpClients();
+    }
+
+    /**
+     * Extract the number of connections opened to each mirror node.
+     *
+     * @return                          the number of connections
+     */
+    public synchronized int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Assign the number of connections opened to each mirror node. Requests are spread over them in turn.
+     * <p>
+     * Connections already open are closed once their requests complete.
+     *
+     * @param maxConnections            the number of connections
+     * @return {@code this}
+     */
+    public synchronized MirrorRestClient setMaxConnections(int maxConnections) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be greater than zero");
+        }
+
+        this.maxConnections = maxConnections;
+        replaceHttpClients();
+        return this;
+    }
+
+    /**
+     * Extract the timeout for opening a connection to a mirror node.
+     *
+     * @return                          the connect timeout
+     */
+    public synchronized Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Assign the timeout for opening a connection to a mirror node.
+     * <p>
+     * Connections already open are closed once their requests complete.
+     *
+     * @param connectTimeout            the connect timeout
+     * @return {@code this}
+     */
+    public synchronized MirrorRestClient setConnectTimeout(Duration connectTimeout) {
+        Objects.requireNonNull(connectTimeout);
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("connectTimeout must be a positive duration");
+        }
+
+        this.connectTimeout = connectTimeout;
+        replaceHttpClients();
+        return this;
+    }
+
+    /**
+     * Start building a request to the given URL.
+     * <p>
+     * Plain HTTP requests, only used against local mirror nodes, stay on HTTP/1.1 so that no upgrade to HTTP/2 is
+     * attempted on every new connection.
+     *
+     * @param url                       the URL
+     * @param timeout                   the timeout of the request
+     * @return                          the request builder
+     */
+    HttpRequest.Builder newRequest(String url, Duration timeout) {
+        var uri = URI.create(url);
+        var builder = HttpRequest.newBuilder().uri(uri).timeout(timeout);
+
+        if ("http".equalsIgnoreCase(uri.getScheme())) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+
+        return builder;
+    }
+
+    /**
+     * Send a request, blocking until its response body has been read.
+     *
+     * @param request                   the request
+     * @return                          the response
+     * @throws IOException              when sending or receiving fails
+     * @throws InterruptedException     when the thread is interrupted while waiting
+     */
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Send a request, blocking until its response headers have been received.
+     *
+     * @param request                   the request
+     * @param bodyHandler               the handler of the response body
+     * @return                          the response
+     * @throws IOException              when sending or receiving fails
+     * @throws InterruptedException     when the thread is interrupted while waiting
+     */
+    <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return nextHttpClient().send(request, bodyHandler);
+    }
+
+    /**
+     * Send a request asynchronously.
+     *
+     * @param request                   the request
+     * @return                          a future of the response, completed on the executor of the client
+     */
+    CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Send a request asynchronously.
+     * <p>
+     * A body read from an {@link InputStream} can be read, blocking, from the stages of the returned future: they run
+     * on the executor of the client, not on the threads of the HTTP client that fill the stream.
+     *
+     * @param request                   the request
+     * @param bodyHandler               the handler of the response body
+     * @return                          a future of the response, completed on the executor of the client
+     */
+    <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        var node = getMirrorNode(request);
+        var startedAt = System.nanoTime();
+
+        var exchange = nextHttpClient().sendAsync(request, bodyHandler);
+        var response = exchange.whenCompleteAsync(
+                (result, error) -> {
+                    if (error == null) {
+                        record(node, startedAt, shouldRetry(result.statusCode()));
+                    } else if (shouldRetry(error instanceof CompletionException ? error.getCause() : error)) {
+                        record(node, startedAt, true);
+                    }
+                },
+                executor);
+
+        // cancelling the returned future aborts the exchange too
+        response.whenComplete((result, error) -> {
+            if (response.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+
+        return response;
+    }
+
+    /**
+     * Send a request asynchronously, retrying the transient failures after a backoff that holds no thread.
+     * <p>
+     * Each attempt is bounded by the timeout of the request, and all of them together by {@code totalTimeout}, after
+     * which the future fails with a {@link java.util.concurrent.TimeoutException}. Once the returned future completes,
+     * including by being cancelled, the exchange in flight is aborted and no further attempt is made.
+     * <p>
+     * How each attempt went is recorded against the mirror node it was sent to. An attempt that failed because of the
+     * node is retried right away against another healthy mirror node if there is one, or after the backoff otherwise.
+     * <p>
+     * A successful response body is decoded as it is received; a {@link RuntimeException} thrown by the decoder fails
+     * the future as is. A response with an error status that is not worth retrying fails it with an
+     * {@link IllegalStateException}, and a failure to send or receive with a {@link RuntimeException} caused by it.
+     *
+     * @param action                    what is fetched, for the log and error messages
+     * @param request                   the request
+     * @param maxAttempts               the maximum number of attempts
+     * @param maxBackoff                the longest wait between two attempts
+     * @param totalTimeout              the time allowed for all the attempts
+     * @param decoder                   decodes a successful response body
+     * @return                          a future of the decoded response
+     */
+    <T> CompletableFuture<T> sendWithRetriesAsync(
+            String action,
+            HttpRequest request,
+            int maxAttempts,
+            Duration maxBackoff,
+            Duration totalTimeout,
+            ResponseDecoder<T> decoder) {
+        return new RetryingExchange<>(action, request, maxAttempts, maxBackoff, totalTimeout, decoder).start();
+    }
+
+    /**
+     * Create a reader decoding a JSON response body as it is received.
+     *
+     * @param body                      the response body
+     * @return                          the reader
+     */
+    static JsonReader newJsonReader(InputStream body) {
+        return new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a whole response body as text, for error messages.
+     *
+     * @param body                      the response body
+     * @return                          the text
+     * @throws IOException              when reading fails
+     */
+    static String readString(InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Is a request that failed with the given error worth retrying?
+     *
+     * @param error                     the error
+     * @return                          whether to retry
+     */
+    static boolean shouldRetry(Throwable error) {
+        return error instanceof HttpTimeoutException || error instanceof IOException;
+    }
+
+    /**
+     * Is a request answered with the given status worth retrying?
+     *
+     * @param statusCode                the HTTP status code
+     * @return                          whether to retry
+     */
+    static boolean shouldRetry(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || (statusCode >= 500 && statusCode < 600);
+    }
+
+    /**
+     * Extract how long to wait after the given failed attempt before the next one.
+     *
+     * @param attempt                   the number of the failed attempt, starting at 1
+     * @param maxBackoff                the longest wait
+     * @return                          the wait in milliseconds
+     */
+    static long getBackoffMillis(int attempt, Duration maxBackoff) {
+        var maxBackoffMillis = maxBackoff.toMillis();
+
+        // 500 ms doubled per attempt would overflow long after ~53 attempts
+        if (attempt >= 40) {
+            return maxBackoffMillis;
+        }
+
+        return Math.min(INITIAL_BACKOFF_MILLIS << attempt, maxBackoffMillis);
+    }
+
+    /**
+     * Extract the time allowed for all the attempts of a mirror node REST query: the request timeout of the client,
+     * unless a single attempt is allowed longer.
+     *
+     * @param client                    the client
+     * @param timeout                   the timeout of a single attempt
+     * @return                          the time allowed for all the attempts
+     */
+    static Duration getTotalTimeout(Client client, Duration timeout) {
+        var requestTimeout = client.getRequestTimeout();
+        return timeout.compareTo(requestTimeout) > 0 ? timeout : requestTimeout;
+    }
+
+    @Nullable
+    private MirrorNode getMirrorNode(HttpRequest request) {
+        return mirrorNetwork != null ? mirrorNetwork.getMirrorNodeForRestUrl(request.uri().toString()) : null;
+    }
+
+    /**
+     * Record how a mirror node answered a request, to prefer the fastest healthy one.
+     */
+    private void record(@Nullable MirrorNode node, long startedAt, boolean failed) {
+        if (mirrorNetwork == null || node == null) {
+            return;
+        }
+
+        if (failed) {
+            mirrorNetwork.recordFailure(node);
+        } else {
+            mirrorNetwork.recordSuccess(node, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    /**
+     * Close the connections to the mirror nodes once their requests complete. No request is accepted afterwards.
+     */
+    synchronized void close() {
+        shutdown(httpClients);
+    }
+
+    private synchronized HttpClient nextHttpClient() {
+        return httpClients[Math.floorMod(nextClient.getAndIncrement(), httpClients.length)];
+    }
+
+    private void replaceHttpClients() {
+        var replaced = httpClients;
+        httpClients = createHttpClients();
+        shutdown(replaced);
+    }
+
+    private static void shutdown(HttpClient[] clients) {
+        for (var client : clients) {
+            client.shutdown();
+        }
+    }
+
+    private HttpClient[] createHttpClients() {
+        var clients = new HttpClient[maxConnections];
+
+        for (var i = 0; i < clients.length; i++) {
+            clients[i] = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .build();
+        }
+
+        return clients;
+    }
+
+    /**
+     * Decodes a successful response body.
+     *
+     * @param <T>                       the decoded type
+     */
+    @FunctionalInterface
+    interface ResponseDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
+
+    /**
+     * The attempts of one request, each started by the completion of the previous one or of its backoff.
+     */
+    private final class RetryingExchange<T> {
+        private final String action;
+        private final int maxAttempts;
+        private final Duration maxBackoff;
+        private final Duration totalTimeout;
+        private final ResponseDecoder<T> decoder;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        @Nullable
+        private volatile CompletableFuture<?> exchange = null;
+
+        private HttpRequest request;
+        private Instant deadline = Instant.MAX;
+
+        @Nullable
+        private MirrorNode node = null;
+
+        private long startedAt = 0;
+
+        private RetryingExchange(
+                String action,
+                HttpRequest request,
+                int maxAttempts,
+                Duration maxBackoff,
+                Duration totalTimeout,
+                ResponseDecoder<T> decoder) {
+            this.action = action;
+            this.request = request;
+            this.maxAttempts = maxAttempts;
+            this.maxBackoff = maxBackoff;
+            this.totalTimeout = totalTimeout;
+            this.decoder = decoder;
+        }
+
+        private CompletableFuture<T> start() {
+            deadline = Instant.now().plus(totalTimeout);
+
+            result.orTimeout(totalTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+                var current = exchange;
+                if (current != null) {
+                    current.cancel(true);
+                }
+            });
+
+            attempt(1);
+            return result;
+        }
+
+        private void attempt(int attempt) {
+            var remaining = Duration.between(Instant.now(), deadline);
+            if (result.isDone() || remaining.isNegative() || remaining.isZero()) {
+                return;
+            }
+
+            var attemptRequest = request;
+            if (request.timeout().map(timeout -> timeout.compareTo(remaining) > 0).orElse(true)) {
+                attemptRequest = HttpRequest.newBuilder(request, (name, value) -> true)
+                        .timeout(remaining)
+                        .build();
+            }
+
+            node = getMirrorNode(request);
+            startedAt = System.nanoTime();
+
+            var current = nextHttpClient().sendAsync(attemptRequest, HttpResponse.BodyHandlers.ofInputStream());
+            exchange = current;
+
+            // the result may have completed while the exchange was being started
+            if (result.isDone()) {
+                current.cancel(true);
+                return;
+            }
+
+            current.whenCompleteAsync((response, error) -> onComplete(attempt, response, error), executor);
+        }
+
+        private void onComplete(int attempt, @Nullable HttpResponse<InputStream> response, @Nullable Throwable error) {
+            if (error != null) {
+                retryOrFail(attempt, error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+
+            try (var body = response.body()) {
+                if (result.isDone()) {
+                    return;
+                }
+
+                var statusCode = response.statusCode();
+                record(node, startedAt, shouldRetry(statusCode));
+
+                if (statusCode >= 200 && statusCode < 300) {
+                    result.complete(decoder.decode(body));
+                    return;
+                }
+
+                var message = readString(body);
+                if (shouldRetry(statusCode) && attempt < maxAttempts) {
+                    retry(attempt, "HTTP status: " + statusCode);
+                    return;
+                }
+
+                result.completeExceptionally(new IllegalStateException(
+                        "Failed to fetch " + action + ". HTTP status: " + statusCode + " body: " + message));
+            } catch (IOException e) {
+                retryOrFail(attempt, e);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void retryOrFail(int attempt, Throwable error) {
+            if (result.isDone()) {
+                // the exchange was aborted because the result completed
+                return;
+            }
+
+            if (shouldRetry(error)) {
+                record(node, startedAt, true);
+            }
+
+            if (attempt < maxAttempts && shouldRetry(error)) {
+                retry(attempt, error.getMessage());
+                return;
+            }
+
+            result.completeExceptionally(
+                    new RuntimeException("Failed to fetch " + action + " after " + attempt + " attempts", error));
+        }
+
+        private void retry(int attempt, @Nullable String reason) {
+            if (failOver()) {
+                LOGGER.warn(
+                        "Error fetching {} during attempt #{}. Failing over to {}: {}",
+                        action,
+                        attempt,
+                        request.uri().getAuthority(),
+                        reason);
+
+                executor.execute(() -> attempt(attempt + 1));
+                return;
+            }
+
+            var delay = getBackoffMillis(attempt, maxBackoff);
+            LOGGER.warn(
+                    "Error fetching {} during attempt #{}. Waiting {} ms before next attempt: {}",
+                    action,
+                    attempt,
+                    delay,
+                    reason);
+
+            backoffDelayer.apply(delay).thenRun(() -> attempt(attempt + 1));
+        }
+
+        /**
+         * Point the request at another healthy mirror node than the one that failed it, if there is one.
+         */
+        private boolean failOver() {
+            var failed = node;
+            if (mirrorNetwork == null || failed == null) {
+                return false;
+            }
+
+            MirrorNode next;
+            try {
+                next = mirrorNetwork.getNextMirrorNode(failed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            if (next == failed || !next.isHealthy()) {
+                return false;
+            }
+
+            var url = request.uri().toString();
+            var nextUrl = next.getRestBaseUrl() + url.substring(failed.getRestBaseUrl().length());
+            var builder = HttpRequest.newBuilder(request, (name, value) -> true).uri(URI.create(nextUrl));
+
+            if ("http".equalsIgnoreCase(URI.create(nextUrl).getScheme())) {
+                builder.version(HttpClient.Version.HTTP_1_1);
+            }
+
+            request = builder.build();
+            return true;
+        }
+    }
+}
@@ -2,6 +2,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.QueryHeader;
 import com.hedera.hashgraph.sdk.proto.Response;
@@ -17,7 +18,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -46,6 +50,17 @@ public abstract class Query<O, T extends Query<O, T>>
     @Nullable
     protected List<Transaction> paymentTransactions = null;
 
+    /**
+     * The transaction IDs of {@link #paymentTransactions}, by node index
+     */
+    @Nullable
+    private List<TransactionId> paymentTransactionIds = null;
+
+    /**
+     * The node index of the payment transaction sent with the last request, until a response proves it was not handled
+     */
+    private int sentPaymentIndex = -1;
+
     @Nullable
     private Client.Operator paymentOperator = null;
 
@@ -58,6 +73,27 @@ public abstract class Query<O, T extends Query<O, T>>
     @Nullable
     private Hbar chosenQueryPayment = null;
 
+    /**
+     * How long a payment transaction that was not handled is reused for. Payments are valid for two minutes, and a
+     * payment close to the end of that window could expire while the request is in flight.
+     */
+    private static final Duration PAYMENT_TRANSACTION_REUSE_PERIOD = Duration.ofSeconds(100);
+
+    /**
+     * The cost cache entry the chosen query payment was taken from, if any
+     */
+    @Nullable
+    private QueryKey costCacheKey = null;
+
+    /**
+     * The response cache the result of the current execution is stored in, if its type is cached
+     */
+    @Nullable
+    private QueryResponseCache responseCache = null;
+
+    @Nullable
+    private QueryKey responseCacheKey = null;
+
     /**
      * Constructor.
      */
@@ -282,6 +318,194 @@ public abstract class Query<O, T extends Query<O, T>>
         return operator;
     }
 
+    /**
+     * Build the query without its header, which identifies the query in the {@link QueryCostCache} and the
+     * {@link QueryResponseCache}.
+     *
+     * @return                          the serialized query body
+     */
+    ByteString buildBodyWithoutHeader() {
+        var queryBuilder = com.hedera.hashgraph.sdk.proto.Query.newBuilder();
+        onMakeRequest(queryBuilder, QueryHeader.getDefaultInstance());
+        return queryBuilder.build().toByteString();
+    }
+
+    /**
+     * Prepare to execute the query again with a freshly requested cost if it failed because the cost taken from the
+     * {@link QueryCostCache} was too low.
+     *
+     * @param client                    the client
+     * @param error                     the error the query failed with
+     * @return                          whether the query should be executed again
+     */
+    private boolean resetCachedCost(Client client, @Nullable Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+
+        if (costCacheKey == null
+                || !(error instanceof PrecheckStatusException)
+                || ((PrecheckStatusException) error).status != Status.INSUFFICIENT_TX_FEE) {
+            return false;
+        }
+
+        client.getQueryCostCache().invalidate(costCacheKey);
+        costCacheKey = null;
+        chosenQueryPayment = null;
+        paymentTransactions = null;
+        paymentTransactionIds = null;
+        return true;
+    }
+
+    /**
+     * Extract the time left until a deadline, never negative.
+     *
+     * @param deadline                  the deadline
+     * @return                          the time left
+     */
+    private static Duration remainingUntil(Instant deadline) {
+        var remaining = Duration.between(Instant.now(), deadline);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Look the query up in the response cache of the client.
+     *
+     * @param client                    the client
+     * @return                          the cached result, or {@code null} if the query has to be executed
+     */
+    @Nullable
+    private O getCachedResponse(Client client) {
+        var cache = client.getQueryResponseCache();
+        responseCache = null;
+        responseCacheKey = null;
+
+        if (!cache.isCached(getClass())) {
+            return null;
+        }
+
+        var key = QueryKey.of(this);
+        var entry = cache.get(key);
+
+        if (entry != null) {
+            return mapResponse(entry.response, entry.nodeId, entry.request);
+        }
+
+        responseCache = cache;
+        responseCacheKey = key;
+        return null;
+    }
+
+    @Override
+    void onSuccessfulResponse(Response response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Query request) {
+        if (responseCache != null && responseCacheKey != null) {
+            responseCache.put(responseCacheKey, response, nodeId, request);
+        }
+    }
+
+    @Override
+    public O execute(Client client, Duration timeout) throws TimeoutException, PrecheckStatusException {
+        var cached = getCachedResponse(client);
+        if (cached != null) {
+            return cached;
+        }
+
+        var coalescer = client.getQueryCoalescer();
+        if (coalescer.isEnabledFor(this)) {
+            return await(coalescer.execute(QueryKey.of(this), () -> executeAsyncUncoalesced(client, timeout)));
+        }
+
+        var deadline = Instant.now().plus(timeout);
+
+        try {
+            return super.execute(client, timeout);
+        } catch (PrecheckStatusException e) {
+            if (!resetCachedCost(client, e)) {
+                throw e;
+            }
+
+            // the retry only has the time the first attempt left
+            return super.execute(client, remainingUntil(deadline));
+        }
+    }
+
+    @Override
+    public CompletableFuture<O> executeAsync(Client client, Duration timeout) {
+        var cached = getCachedResponse(client);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        var coalescer = client.getQueryCoalescer();
+        if (coalescer.isEnabledFor(this)) {
+            return coalescer.execute(QueryKey.of(this), () -> executeAsyncUncoalesced(client, timeout));
+        }
+
+        return executeAsyncUncoalesced(client, timeout);
+    }
+
+    /**
+     * Wait for a coalesced execution, rethrowing its failure as {@link #execute(Client, Duration)} would.
+     *
+     * @param future                    the future of the coalesced execution
+     * @return                          the result
+     */
+    private O await(CompletableFuture<O> future) throws TimeoutException, PrecheckStatusException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+
+            if (cause instanceof PrecheckStatusException precheckStatusException) {
+                throw precheckStatusException;
+            } else if (cause instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private CompletableFuture<O> executeAsyncUncoalesced(Client client, Duration timeout) {
+        if (!client.getQueryCostCache().isEnabled()) {
+            return super.executeAsync(client, timeout);
+        }
+
+        var deadline = Instant.now().plus(timeout);
+        var result = new CompletableFuture<O>();
+        var current = new AtomicReference<>(super.executeAsync(client, timeout));
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                current.get().cancel(true);
+            }
+        });
+
+        current.get().whenComplete((response, error) -> {
+            if (error == null) {
+                result.complete(response);
+            } else if (resetCachedCost(client, error)) {
+                current.set(super.executeAsync(client, remainingUntil(deadline)));
+                current.get().whenComplete((retryResponse, retryError) -> {
+                    if (retryError == null) {
+                        result.complete(retryResponse);
+                    } else {
+                        result.completeExceptionally(retryError);
+                    }
+                });
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+
+        return result;
+    }
+
     @Override
     void onExecute(Client client) throws TimeoutException, PrecheckStatusException {
         var grpcCostQuery = new GrpcCostQuery(client);
@@ -335,6 +559,7 @@ public abstract class Query<O, T extends Query<O, T>>
                 .thenCompose(x -> x)
                 .thenAccept((paymentAmount) -> {
                     grpcCostQuery.finish();
+                    preparePaymentTransactionsAsync(client);
                 });
     }
 
@@ -357,6 +582,69 @@ public abstract class Query<O, T extends Query<O, T>>
         }
     }
 
+    /**
+     * Prepare the payment transaction for the node after the first in the background, so that a failover does not
+     * have to sign its payment. The first request prepares its own payment as it is made.
+     *
+     * @param client                    the client
+     */
+    private void preparePaymentTransactionsAsync(Client client) {
+        if (paymentTransactions == null || !isPaymentRequired()) {
+            return;
+        }
+
+        if (nodeAccountIds.size() < 2) {
+            return;
+        }
+
+        var index = (nodeAccountIds.getIndex() + 1) % nodeAccountIds.size();
+        CompletableFuture.runAsync(() -> preparePaymentTransaction(index), client.executor);
+    }
+
+    /**
+     * Make sure a valid payment transaction is prepared for the node at the given index.
+     * <p>
+     * A payment is only reused by the next attempt on the same node after the node answered {@code BUSY} or
+     * {@code PLATFORM_NOT_ACTIVE}, which prove it was not handled, and while it is not too old. After any other answer,
+     * or none such as on a transport failure, the node may have submitted it and a new payment is signed.
+     *
+     * @param index                     the index
+     */
+    private void preparePaymentTransaction(int index) {
+        Client.Operator operator;
+        Hbar amount;
+
+        synchronized (this) {
+            if (isPaymentTransactionReusable(index)) {
+                return;
+            }
+
+            operator = Objects.requireNonNull(paymentOperator);
+            amount = Objects.requireNonNull(chosenQueryPayment);
+        }
+
+        // Signing happens outside of the lock so payments for several nodes can be prepared in parallel
+        var transactionId = TransactionId.generate(operator.accountId);
+        var transaction = makePaymentTransaction(transactionId, nodeAccountIds.get(index), operator, amount);
+
+        synchronized (this) {
+            // another thread may have prepared a payment for the same node in the meantime
+            if (paymentTransactions != null && !isPaymentTransactionReusable(index)) {
+                paymentTransactions.set(index, transaction);
+                Objects.requireNonNull(paymentTransactionIds).set(index, transactionId);
+            }
+        }
+    }
+
+    private boolean isPaymentTransactionReusable(int index) {
+        if (paymentTransactions == null || paymentTransactionIds == null || paymentTransactions.get(index) == null) {
+            return false;
+        }
+
+        var validStart = Objects.requireNonNull(paymentTransactionIds.get(index).validStart);
+        return validStart.plus(PAYMENT_TRANSACTION_REUSE_PERIOD).isAfter(Instant.now());
+    }
+
     /**
      * Retrieve the transaction at the given index.
      *
@@ -364,15 +652,15 @@ public abstract class Query<O, T extends Query<O, T>>
      * @return                          the transaction
      */
     Transaction getPaymentTransaction(int index) {
-        paymentTransactionId = TransactionId.generate(Objects.requireNonNull(paymentOperator).accountId);
-
-        var newPaymentTx = makePaymentTransaction(
-                paymentTransactionId,
-                nodeAccountIds.get(index),
-                paymentOperator,
-                Objects.requireNonNull(chosenQueryPayment));
-        paymentTransactions.set(index, newPaymentTx);
-        return newPaymentTx;
+        // a payment sent without a response proving it was not handled must not be sent again
+        discardSentPaymentTransaction();
+        preparePaymentTransaction(index);
+
+        synchronized (this) {
+            paymentTransactionId = Objects.requireNonNull(paymentTransactionIds).get(index);
+            sentPaymentIndex = index;
+            return Objects.requireNonNull(paymentTransactions).get(index);
+        }
     }
 
     @Override
@@ -393,8 +681,38 @@ public abstract class Query<O, T extends Query<O, T>>
     @Override
     Status mapResponseStatus(Response response) {
         var preCheckCode = mapResponseHeader(response).getNodeTransactionPrecheckCode();
+        var status = Status.valueOf(preCheckCode);
+
+        switch (status) {
+            case BUSY:
+            case PLATFORM_NOT_ACTIVE:
+                keepSentPaymentTransaction();
+                break;
+            default:
+                discardSentPaymentTransaction();
+                break;
+        }
 
-        return Status.valueOf(preCheckCode);
+        return status;
+    }
+
+    /**
+     * Keep the payment transaction sent with the last request for the next attempt, as the node did not handle it.
+     */
+    private synchronized void keepSentPaymentTransaction() {
+        sentPaymentIndex = -1;
+    }
+
+    /**
+     * Forget the payment transaction sent with the last request, as the node may have submitted it to the network or
+     * reported that its transaction ID can no longer be used.
+     */
+    private synchronized void discardSentPaymentTransaction() {
+        if (paymentTransactions != null && sentPaymentIndex >= 0 && sentPaymentIndex < paymentTransactions.size()) {
+            paymentTransactions.set(sentPaymentIndex, null);
+        }
+
+        sentPaymentIndex = -1;
     }
 
     @Override
@@ -458,10 +776,16 @@ public abstract class Query<O, T extends Query<O, T>>
     private class GrpcCostQuery {
         private final Hbar maxCost;
         private final boolean notRequired;
+        private final QueryCostCache costCache;
 
         private Client.Operator operator;
         private Hbar cost;
 
+        @Nullable
+        private QueryKey costCacheKey = null;
+
+        private boolean cached = false;
+
         GrpcCostQuery(Client client) {
             Query.this.initWithNodeIds(client);
 
@@ -469,8 +793,21 @@ public abstract class Query<O, T extends Query<O, T>>
             notRequired = (Query.this.paymentTransactions != null) || !Query.this.isPaymentRequired();
             maxCost = MoreObjects.firstNonNull(Query.this.maxQueryPayment, client.defaultMaxQueryPayment);
 
+            costCache = client.getQueryCostCache();
+
             if (!notRequired) {
                 operator = Query.this.getOperatorFromClient(client);
+
+                if (cost == null && costCache.isEnabled()) {
+                    costCacheKey = QueryKey.of(Query.this);
+
+                    // a cached cost above the maximum is requested again, so the error reports the current cost
+                    var cachedCost = costCache.get(costCacheKey);
+                    if (cachedCost != null && cachedCost.compareTo(maxCost) <= 0) {
+                        cost = cachedCost;
+                        cached = true;
+                    }
+                }
             }
         }
 
@@ -488,6 +825,11 @@ public abstract class Query<O, T extends Query<O, T>>
 
         GrpcCostQuery setCost(Hbar cost) {
             this.cost = cost;
+
+            if (costCacheKey != null) {
+                costCache.put(costCacheKey, cost);
+            }
+
             return this;
         }
 
@@ -503,10 +845,13 @@ public abstract class Query<O, T extends Query<O, T>>
         void finish() {
             Query.this.chosenQueryPayment = cost;
             Query.this.paymentOperator = operator;
+            Query.this.costCacheKey = cached ? costCacheKey : null;
             Query.this.paymentTransactions = new ArrayList<>(Query.this.nodeAccountIds.size());
+            Query.this.paymentTransactionIds = new ArrayList<>(Query.this.nodeAccountIds.size());
 
             for (int i = 0; i < Query.this.nodeAccountIds.size(); i++) {
                 Query.this.paymentTransactions.add(null);
+                Query.this.paymentTransactionIds.add(null);
             }
         }
     }
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent executions of identical queries share one request to the network.
+ * <p>
+ * For every query type enabled with {@link #setEnabled(Class, boolean)}, a query executed while an identical one is
+ * still in flight does not send a request of its own, and does not pay for one; it completes with the result of the
+ * query already in flight. Queries are identical when they have the same type and the same body, regardless of how
+ * they are paid for.
+ * <p>
+ * Every caller gets its own future, so cancelling one of them does not affect the others, but all of them complete
+ * with the same result object.
+ */
+public final class QueryCoalescer {
+    private final Set<Class<?>> enabledTypes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<QueryKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    QueryCoalescer() {}
+
+    /**
+     * Is coalescing enabled for queries of the given type?
+     *
+     * @param queryType the query type
+     * @return whether identical queries of this type share their execution
+     */
+    public boolean isEnabled(Class<? extends Query<?, ?>> queryType) {
+        return enabledTypes.contains(queryType);
+    }
+
+    /**
+     * Enable or disable coalescing for queries of the given type.
+     *
+     * @param queryType the query type
+     * @param enabled   whether identical queries of this type share their execution
+     * @return {@code this}
+     */
+    public QueryCoalescer setEnabled(Class<? extends Query<?, ?>> queryType, boolean enabled) {
+        Objects.requireNonNull(queryType);
+
+        if (enabled) {
+            enabledTypes.add(queryType);
+        } else {
+            enabledTypes.remove(queryType);
+        }
+
+        return this;
+    }
+
+    /**
+     * Extract the number of distinct queries currently in flight through the coalescer.
+     *
+     * @return the number of queries in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Extract how many executions were answered by a query that was already in flight.
+     *
+     * @return the number of coalesced executions
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    boolean isEnabledFor(Query<?, ?> query) {
+        return enabledTypes.contains(query.getClass());
+    }
+
+    /**
+     * Join the execution of an identical query, or start one.
+     *
+     * @param key       the key of the query
+     * @param execution starts the execution when no identical query is in flight
+     * @return a future of the shared result, owned by the caller
+     */
+    <O> CompletableFuture<O> execute(QueryKey key, Supplier<CompletableFuture<O>> execution) {
+        var shared = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, shared);
+
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return copy(existing);
+        }
+
+        try {
+            execution.get().whenComplete((result, error) -> {
+                // removed before completing, so callers woken by the result start a new execution
+                inFlight.remove(key, shared);
+
+                if (error != null) {
+                    shared.completeExceptionally(error);
+                } else {
+                    shared.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+        }
+
+        return copy(shared);
+    }
+
+    private static <O> CompletableFuture<O> copy(CompletableFuture<Object> shared) {
+        // noinspection unchecked
+        return shared.thenApply(result -> (O) result);
+    }
+}
@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the cost of paid queries so that executing the same query again does not need a separate
+ * {@code COST_ANSWER} round trip before the query itself.
+ * <p>
+ * Entries are keyed by the query type and the serialized query body without its payment, so only an identical query
+ * reuses a cost. Since a node does not return any overpayment, costs are never shared between different queries.
+ * <p>
+ * A cached cost which turns out to be too low is answered by the node with {@link Status#INSUFFICIENT_TX_FEE}; the
+ * entry is then discarded and the query is executed once more with a freshly requested cost.
+ * <p>
+ * The cache is disabled by default and is enabled through {@link #setEnabled(boolean)} on
+ * {@link Client#getQueryCostCache()}.
+ */
+public final class QueryCostCache {
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final LinkedHashMap<QueryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private boolean enabled = false;
+    private Duration ttl = DEFAULT_TTL;
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * Constructor.
+     */
+    QueryCostCache() {}
+
+    /**
+     * Is the cache used when executing queries?
+     *
+     * @return whether the cache is enabled
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable the cache. Disabling the cache also clears it.
+     *
+     * @param enabled whether the cache is enabled
+     * @return {@code this}
+     */
+    public synchronized QueryCostCache setEnabled(boolean enabled) {
+        this.enabled = enabled;
+
+        if (!enabled) {
+            entries.clear();
+        }
+
+        return this;
+    }
+
+    /**
+     * Extract how long a cost is reused after it was requested.
+     *
+     * @return the time to live of an entry
+     */
+    public synchronized Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Assign how long a cost is reused after it was requested.
+     *
+     * @param ttl the time to live of an entry
+     * @return {@code this}
+     */
+    public synchronized QueryCostCache setTtl(Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be a positive duration");
+        }
+
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of costs kept by the cache.
+     *
+     * @return the maximum number of entries
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Assign the maximum number of costs kept by the cache. The least recently used entries are evicted first.
+     *
+     * @param maxSize the maximum number of entries
+     * @return {@code this}
+     */
+    public synchronized QueryCostCache setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+
+        this.maxSize = maxSize;
+        evict();
+        return this;
+    }
+
+    /**
+     * Seed the cache with a known cost for a query, for example one computed from the fee schedule.
+     *
+     * @param query the query
+     * @param cost  the cost of the query
+     * @return {@code this}
+     */
+    public QueryCostCache put(Query<?, ?> query, Hbar cost) {
+        return put(QueryKey.of(query), Objects.requireNonNull(cost));
+    }
+
+    /**
+     * Discard every cached cost.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Extract the number of costs currently cached, including those that have expired but were not evicted yet.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Nullable
+    synchronized Hbar get(QueryKey key) {
+        if (!enabled) {
+            return null;
+        }
+
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (!entry.expiresAt.isAfter(Instant.now())) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.cost;
+    }
+
+    synchronized QueryCostCache put(QueryKey key, Hbar cost) {
+        if (enabled) {
+            entries.put(key, new Entry(cost, Instant.now().plus(ttl)));
+            evict();
+        }
+
+        return this;
+    }
+
+    synchronized void invalidate(QueryKey key) {
+        entries.remove(key);
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final Hbar cost;
+        private final Instant expiresAt;
+
+        private Entry(Hbar cost, Instant expiresAt) {
+            this.cost = cost;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import java.util.Objects;
+
+/**
+ * Identifies a query by its type and its serialized body without the query header, so the same query built twice,
+ * or paid for differently, maps to the same key.
+ */
+final class QueryKey {
+    private final Class<?> type;
+    private final ByteString body;
+
+    private QueryKey(Class<?> type, ByteString body) {
+        this.type = type;
+        this.body = body;
+    }
+
+    /**
+     * Create the key of a query.
+     *
+     * @param query the query
+     * @return the key
+     */
+    static QueryKey of(Query<?, ?> query) {
+        return new QueryKey(query.getClass(), query.buildBodyWithoutHeader());
+    }
+
+    /**
+     * Extract the type of the query.
+     *
+     * @return the query type
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof QueryKey)) {
+            return false;
+        }
+
+        var key = (QueryKey) o;
+        return type.equals(key.type) && body.equals(key.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, body);
+    }
+}
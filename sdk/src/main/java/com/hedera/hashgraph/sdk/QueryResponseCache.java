@@ -0,0 +1,207 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the responses of queries whose result never or rarely changes, such as {@link ContractByteCodeQuery},
+ * {@link FileContentsQuery} on an immutable file, {@link NetworkVersionInfoQuery} or the receipt returned by
+ * {@link TransactionReceiptQuery}.
+ * <p>
+ * Only query types given a time to live with {@link #setTtl(Class, Duration)} are cached. A cached response is
+ * returned by {@link Query#execute(Client)} and {@link Query#executeAsync(Client)} without contacting the network,
+ * which saves both the paid query and the cost query in front of it.
+ * <p>
+ * Responses are keyed by the query type and the serialized query body without its header, and a fresh output object
+ * is mapped from the cached response on every hit. The least recently used responses are evicted once the cache
+ * holds {@link #setMaxSize(int)} of them.
+ */
+public final class QueryResponseCache {
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<Class<?>, Duration> ttls = new HashMap<>();
+    private final LinkedHashMap<QueryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Constructor.
+     */
+    QueryResponseCache() {}
+
+    /**
+     * Extract how long responses to queries of the given type are cached.
+     *
+     * @param queryType the query type
+     * @return the time to live, or {@code null} if the type is not cached
+     */
+    @Nullable
+    public synchronized Duration getTtl(Class<? extends Query<?, ?>> queryType) {
+        return ttls.get(queryType);
+    }
+
+    /**
+     * Cache responses to queries of the given type for the given time.
+     *
+     * @param queryType the query type
+     * @param ttl       the time to live of a response
+     * @return {@code this}
+     */
+    public synchronized QueryResponseCache setTtl(Class<? extends Query<?, ?>> queryType, Duration ttl) {
+        Objects.requireNonNull(queryType);
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be a positive duration");
+        }
+
+        ttls.put(queryType, ttl);
+        return this;
+    }
+
+    /**
+     * Stop caching responses to queries of the given type, discarding those already cached.
+     *
+     * @param queryType the query type
+     * @return {@code this}
+     */
+    public synchronized QueryResponseCache removeTtl(Class<? extends Query<?, ?>> queryType) {
+        ttls.remove(queryType);
+        entries.keySet().removeIf(key -> key.getType().equals(queryType));
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of responses kept by the cache.
+     *
+     * @return the maximum number of entries
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Assign the maximum number of responses kept by the cache.
+     *
+     * @param maxSize the maximum number of entries
+     * @return {@code this}
+     */
+    public synchronized QueryResponseCache setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+
+        this.maxSize = maxSize;
+        evict();
+        return this;
+    }
+
+    /**
+     * Discard every cached response. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Extract the number of responses currently cached, including those that have expired but were not evicted yet.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Extract how many queries were answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Extract how many queries of a cached type had to be sent to the network.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Extract how many responses were evicted to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    synchronized boolean isCached(Class<?> queryType) {
+        return ttls.containsKey(queryType);
+    }
+
+    @Nullable
+    synchronized Entry get(QueryKey key) {
+        var entry = entries.get(key);
+
+        if (entry != null && !entry.expiresAt.isAfter(Instant.now())) {
+            entries.remove(key);
+            entry = null;
+        }
+
+        if (entry != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+
+        return entry;
+    }
+
+    synchronized void put(
+            QueryKey key, Response response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Query request) {
+        var ttl = ttls.get(key.getType());
+        if (ttl == null) {
+            return;
+        }
+
+        entries.put(key, new Entry(response, nodeId, request, Instant.now().plus(ttl)));
+        evict();
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    static final class Entry {
+        final Response response;
+        final AccountId nodeId;
+        final com.hedera.hashgraph.sdk.proto.Query request;
+        private final Instant expiresAt;
+
+        private Entry(
+                Response response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Query request, Instant expiresAt) {
+            this.response = response;
+            this.nodeId = nodeId;
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,521 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * Polls for the receipts of many transactions on one shared schedule.
+ * <p>
+ * Every {@link TransactionResponse#getReceiptAsync(Client)} runs its own receipt query, with its own backoff, so a
+ * large number of outstanding transactions produces as many independent retry loops. A tracker instead keeps every
+ * registered transaction in one queue ordered by when it should next be polled:
+ * <ul>
+ *     <li>the first poll probes once half the observed consensus latency has passed since the transaction was
+ *     registered, as an earlier poll would almost certainly find nothing;</li>
+ *     <li>later polls follow at a fixed fraction of that latency, within
+ *     {@link #setMinPollInterval(Duration)} and {@link #setMaxPollInterval(Duration)};</li>
+ *     <li>the first poll goes to the node the transaction was submitted to, later polls are spread over every node
+ *     of the network;</li>
+ *     <li>at most {@link #setMaxConcurrentPolls(int)} receipt queries are in flight at any time.</li>
+ * </ul>
+ * The latency estimate is a moving average of the time it took for each tracked receipt to become available, taken
+ * between the last poll that missed the receipt and the one that found it. A receipt found by the first poll was
+ * available earlier than the estimate, so the estimate falls as well as rises with the latency of the network.
+ * <p>
+ * Use {@link Client#getReceiptTracker()} to get the tracker of a client.
+ */
+public final class ReceiptTracker {
+    static final Duration DEFAULT_INITIAL_LATENCY = Duration.ofSeconds(3);
+    static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofMillis(100);
+    static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(1);
+    static final int DEFAULT_MAX_CONCURRENT_POLLS = 64;
+
+    /**
+     * Weight of a new sample in the latency estimate.
+     */
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    /**
+     * Share of the latency estimate waited before the first poll for a transaction.
+     */
+    private static final int FIRST_POLL_DIVISOR = 2;
+
+    /**
+     * Share of the latency estimate waited between two polls for the same transaction.
+     */
+    private static final int POLL_INTERVAL_DIVISOR = 8;
+
+    private final Client client;
+    private final Map<TransactionId, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextPollAt));
+    private final List<Consumer<List<TransactionReceipt>>> listeners = new ArrayList<>();
+
+    private Duration minPollInterval = DEFAULT_MIN_POLL_INTERVAL;
+    private Duration maxPollInterval = DEFAULT_MAX_POLL_INTERVAL;
+    private int maxConcurrentPolls = DEFAULT_MAX_CONCURRENT_POLLS;
+    private long latencyEstimateNanos = DEFAULT_INITIAL_LATENCY.toNanos();
+
+    private int inFlight = 0;
+    private long nextTickAt = Long.MAX_VALUE;
+    private int nodeIndex = 0;
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client the client used to query receipts
+     */
+    ReceiptTracker(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Extract the shortest time between two polls for the same transaction.
+     *
+     * @return the minimum poll interval
+     */
+    public synchronized Duration getMinPollInterval() {
+        return minPollInterval;
+    }
+
+    /**
+     * Assign the shortest time between two polls for the same transaction.
+     *
+     * @param minPollInterval the minimum poll interval
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker setMinPollInterval(Duration minPollInterval) {
+        Objects.requireNonNull(minPollInterval);
+        if (minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be a positive duration");
+        }
+        if (minPollInterval.compareTo(maxPollInterval) > 0) {
+            throw new IllegalArgumentException("minPollInterval must be less than or equal to maxPollInterval");
+        }
+
+        this.minPollInterval = minPollInterval;
+        return this;
+    }
+
+    /**
+     * Extract the longest time between two polls for the same transaction.
+     *
+     * @return the maximum poll interval
+     */
+    public synchronized Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    /**
+     * Assign the longest time between two polls for the same transaction.
+     *
+     * @param maxPollInterval the maximum poll interval
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker setMaxPollInterval(Duration maxPollInterval) {
+        Objects.requireNonNull(maxPollInterval);
+        if (maxPollInterval.compareTo(minPollInterval) < 0) {
+            throw new IllegalArgumentException("maxPollInterval must be greater than or equal to minPollInterval");
+        }
+
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of receipt queries in flight at the same time.
+     *
+     * @return the maximum number of concurrent polls
+     */
+    public synchronized int getMaxConcurrentPolls() {
+        return maxConcurrentPolls;
+    }
+
+    /**
+     * Assign the maximum number of receipt queries in flight at the same time.
+     *
+     * @param maxConcurrentPolls the maximum number of concurrent polls
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker setMaxConcurrentPolls(int maxConcurrentPolls) {
+        if (maxConcurrentPolls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentPolls must be greater than zero");
+        }
+
+        this.maxConcurrentPolls = maxConcurrentPolls;
+        return this;
+    }
+
+    /**
+     * Extract the current estimate of how long it takes for a receipt to become available.
+     *
+     * @return the consensus latency estimate
+     */
+    public synchronized Duration getLatencyEstimate() {
+        return Duration.ofNanos(latencyEstimateNanos);
+    }
+
+    /**
+     * Assign the estimate of how long it takes for a receipt to become available, for example from a previous run.
+     * The estimate keeps adapting to the receipts found afterwards.
+     *
+     * @param latencyEstimate the consensus latency estimate
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker setLatencyEstimate(Duration latencyEstimate) {
+        Objects.requireNonNull(latencyEstimate);
+        if (latencyEstimate.isNegative()) {
+            throw new IllegalArgumentException("latencyEstimate must be non-negative");
+        }
+
+        this.latencyEstimateNanos = latencyEstimate.toNanos();
+        return this;
+    }
+
+    /**
+     * Extract the number of transactions whose receipt has not been found yet.
+     *
+     * @return the number of pending transactions
+     */
+    public synchronized int getPendingCount() {
+        return entries.size();
+    }
+
+    /**
+     * Add a listener that is called with every group of receipts found by the same round of polls.
+     * <p>
+     * The listener is called on the client's executor and receives the receipts regardless of their status.
+     *
+     * @param listener the listener
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker addListener(Consumer<List<TransactionReceipt>> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * Remove a listener added with {@link #addListener(Consumer)}.
+     *
+     * @param listener the listener
+     * @return {@code this}
+     */
+    public synchronized ReceiptTracker removeListener(Consumer<List<TransactionReceipt>> listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Track the receipt of a submitted transaction.
+     * <p>
+     * The returned future fails with a {@link ReceiptStatusException} if the receipt status is not
+     * {@link Status#SUCCESS} and {@link TransactionResponse#getValidateStatus()} is set.
+     *
+     * @param response the response of the submitted transaction
+     * @return future result of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> track(TransactionResponse response) {
+        return track(response, client.getRequestTimeout());
+    }
+
+    /**
+     * Track the receipt of a submitted transaction.
+     *
+     * @param response the response of the submitted transaction
+     * @param timeout  how long to wait for the receipt before the future fails with a {@link TimeoutException}
+     * @return future result of the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> track(TransactionResponse response, Duration timeout) {
+        var validateStatus = response.getValidateStatus();
+
+        return track(response.transactionId, response.nodeId, timeout).thenCompose(receipt -> {
+            try {
+                return CompletableFuture.completedFuture(receipt.validateStatus(validateStatus));
+            } catch (ReceiptStatusException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Track the receipt of a transaction, given its ID and the node it was submitted to.
+     * <p>
+     * Tracking a transaction that is already tracked returns the pending future.
+     *
+     * @param transactionId the ID of the transaction
+     * @param nodeId        the account ID of the node the transaction was submitted to
+     * @param timeout       how long to wait for the receipt before the future fails with a {@link TimeoutException}
+     * @return future result of the transaction receipt, whatever its status
+     */
+    public CompletableFuture<TransactionReceipt> track(
+            TransactionId transactionId, AccountId nodeId, Duration timeout) {
+        Objects.requireNonNull(transactionId);
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(timeout);
+
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("the client has been closed"));
+            }
+
+            var existing = entries.get(transactionId);
+            if (existing != null) {
+                return existing.future;
+            }
+
+            var now = System.nanoTime();
+            var entry = new Entry(transactionId, nodeId, now, now + timeout.toNanos());
+            entry.nextPollAt = Math.min(now + latencyEstimateNanos / FIRST_POLL_DIVISOR, entry.deadline);
+
+            entries.put(transactionId, entry);
+            queue.add(entry);
+            scheduleTick(entry.nextPollAt);
+
+            return entry.future;
+        }
+    }
+
+    /**
+     * Stop tracking every pending transaction. Their futures fail with an {@link IllegalStateException}.
+     */
+    void close() {
+        List<Entry> pending;
+
+        synchronized (this) {
+            closed = true;
+            pending = new ArrayList<>(entries.values());
+            entries.clear();
+            queue.clear();
+        }
+
+        for (var entry : pending) {
+            entry.future.completeExceptionally(new IllegalStateException("the client has been closed"));
+        }
+    }
+
+    private long pollIntervalNanos() {
+        var interval = latencyEstimateNanos / POLL_INTERVAL_DIVISOR;
+        return Math.max(minPollInterval.toNanos(), Math.min(maxPollInterval.toNanos(), interval));
+    }
+
+    private void scheduleTick(long at) {
+        if (closed || at >= nextTickAt) {
+            return;
+        }
+
+        nextTickAt = at;
+        var delayMillis = Math.max(0, (at - System.nanoTime()) / 1_000_000);
+        Delayer.delayFor(delayMillis, client.executor).thenRun(this::tick);
+    }
+
+    private void tick() {
+        var due = new ArrayList<Entry>();
+        var expired = new ArrayList<Entry>();
+
+        synchronized (this) {
+            var now = System.nanoTime();
+            nextTickAt = Long.MAX_VALUE;
+
+            while (!queue.isEmpty() && queue.peek().nextPollAt <= now && inFlight < maxConcurrentPolls) {
+                var entry = queue.poll();
+
+                if (entry.deadline <= now) {
+                    entries.remove(entry.transactionId);
+                    expired.add(entry);
+                    continue;
+                }
+
+                inFlight++;
+                entry.polledAt = now;
+                due.add(entry);
+            }
+
+            // with every poll slot taken, the next tick is scheduled when a poll completes
+            if (!queue.isEmpty() && inFlight < maxConcurrentPolls) {
+                scheduleTick(queue.peek().nextPollAt);
+            }
+        }
+
+        for (var entry : expired) {
+            entry.future.completeExceptionally(new TimeoutException(
+                    "timed out waiting for the receipt of transaction " + entry.transactionId));
+        }
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // read outside of the lock, as the client locks itself while closing the tracker
+        var nodes = new ArrayList<>(client.getNetwork().values());
+
+        var found = Collections.synchronizedList(new ArrayList<TransactionReceipt>());
+        var polls = new CompletableFuture<?>[due.size()];
+
+        for (int i = 0; i < due.size(); i++) {
+            var entry = due.get(i);
+            polls[i] = poll(entry, nextNode(entry, nodes)).thenAccept(receipt -> {
+                if (receipt != null) {
+                    found.add(receipt);
+                }
+            });
+        }
+
+        CompletableFuture.allOf(polls).thenRun(() -> notifyListeners(found));
+    }
+
+    private synchronized AccountId nextNode(Entry entry, List<AccountId> nodes) {
+        entry.polls++;
+
+        if (entry.polls == 1 || nodes.isEmpty()) {
+            return entry.nodeId;
+        }
+
+        nodeIndex = (nodeIndex + 1) % nodes.size();
+        return nodes.get(nodeIndex);
+    }
+
+    /**
+     * Send one receipt query for the entry and reschedule it if the receipt is not available yet.
+     *
+     * @return future which completes with the receipt, or with {@code null} if it was not found
+     */
+    private CompletableFuture<TransactionReceipt> poll(Entry entry, AccountId nodeId) {
+        return new TransactionReceiptQuery()
+                .setTransactionId(entry.transactionId)
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setMaxAttempts(1)
+                .executeAsync(client, client.getGrpcDeadline())
+                .handle((receipt, error) -> {
+                    if (error == null) {
+                        complete(entry, receipt);
+                        return receipt;
+                    }
+
+                    var cause = unwrap(error);
+                    if (isRetryable(cause)) {
+                        reschedule(entry);
+                    } else {
+                        fail(entry, cause);
+                    }
+                    return null;
+                });
+    }
+
+    private void complete(Entry entry, TransactionReceipt receipt) {
+        synchronized (this) {
+            inFlight--;
+            entries.remove(entry.transactionId);
+
+            // the receipt became available between the last poll that missed it and the one that found it
+            var availableAt = entry.missedAt != null
+                    ? entry.missedAt + (entry.polledAt - entry.missedAt) / 2
+                    : entry.polledAt;
+            var sample = availableAt - entry.trackedAt;
+            latencyEstimateNanos =
+                    (long) (LATENCY_SMOOTHING * sample + (1 - LATENCY_SMOOTHING) * latencyEstimateNanos);
+
+            resumeTicks();
+        }
+
+        entry.future.complete(receipt);
+    }
+
+    private void fail(Entry entry, Throwable error) {
+        synchronized (this) {
+            inFlight--;
+            entries.remove(entry.transactionId);
+            resumeTicks();
+        }
+
+        entry.future.completeExceptionally(error);
+    }
+
+    private synchronized void reschedule(Entry entry) {
+        inFlight--;
+
+        if (closed || entries.get(entry.transactionId) != entry) {
+            return;
+        }
+
+        entry.missedAt = entry.polledAt;
+        entry.nextPollAt = Math.min(System.nanoTime() + pollIntervalNanos(), entry.deadline);
+        queue.add(entry);
+        resumeTicks();
+    }
+
+    private void resumeTicks() {
+        if (!queue.isEmpty()) {
+            scheduleTick(queue.peek().nextPollAt);
+        }
+    }
+
+    private void notifyListeners(List<TransactionReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+
+        List<Consumer<List<TransactionReceipt>>> currentListeners;
+        synchronized (this) {
+            currentListeners = new ArrayList<>(listeners);
+        }
+
+        var batch = Collections.unmodifiableList(new ArrayList<>(receipts));
+        for (var listener : currentListeners) {
+            try {
+                listener.accept(batch);
+            } catch (RuntimeException e) {
+                client.getLogger().warn("Receipt listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        // a single attempt that was told to retry, or could not reach the node, ends with MaxAttemptsExceeded
+        return error instanceof MaxAttemptsExceededException
+                || error instanceof StatusRuntimeException
+                || error instanceof TimeoutException;
+    }
+
+    private static final class Entry {
+        private final TransactionId transactionId;
+        private final AccountId nodeId;
+        private final long trackedAt;
+        private final long deadline;
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        private long nextPollAt;
+        private long polledAt;
+        private int polls = 0;
+
+        @Nullable
+        private Long missedAt = null;
+
+        private Entry(TransactionId transactionId, AccountId nodeId, long trackedAt, long deadline) {
+            this.transactionId = transactionId;
+            this.nodeId = nodeId;
+            this.trackedAt = trackedAt;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -1,37 +1,21 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpTimeoutException;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Query the mirror node for the RegisteredAddressBook.
  */
 public class RegisteredNodeAddressBookQuery {
-    private static final Logger LOGGER = LoggerFactory.getLogger(RegisteredNodeAddressBookQuery.class);
-    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
     private final int DEFAULT_LIMIT = 25;
 
     private long registeredNodeId = -1;
     private int limit;
-    private int maxAttempts = 10;
-    private Duration maxBackoff = Duration.ofSeconds(8L);
+    private int maxAttempts = MirrorPage.DEFAULT_MAX_ATTEMPTS;
+    private Duration maxBackoff = MirrorPage.DEFAULT_MAX_BACKOFF;
 
     /**
      * Returns the set registered node ID.
@@ -118,14 +102,6 @@ public class RegisteredNodeAddressBookQuery {
         return this;
     }
 
-    private static boolean shouldRetry(Throwable throwable) {
-        return throwable instanceof HttpTimeoutException || throwable instanceof IOException;
-    }
-
-    private static boolean shouldRetry(int statusCode) {
-        return statusCode == 408 || statusCode == 429 || (statusCode >= 500 && statusCode < 600);
-    }
-
     /**
      * Executes the query with the user supplied client
      *
@@ -177,81 +153,48 @@ public class RegisteredNodeAddressBookQuery {
         Objects.requireNonNull(client, "client must not be null");
         Objects.requireNonNull(timeout, "timeout must not be null");
 
-        return fetchAllPagesAsync(client, timeout)
-                .thenApply(registeredNodes -> new RegisteredNodeAddressBook(registeredNodes));
-    }
-
-    private CompletableFuture<List<RegisteredNode>> fetchAllPagesAsync(Client client, Duration timeout) {
-        return CompletableFuture.supplyAsync(
-                () -> {
-                    List<RegisteredNode> registeredNodes = new ArrayList<>();
-                    String baseUrl = buildBaseUrl(client);
-                    String apiEndpoint = buildInitialPath();
-
-                    boolean isLastPage = false;
-
-                    while (!isLastPage) {
-                        JsonObject json = fetchPage(baseUrl + apiEndpoint, timeout);
+        var registeredNodes = iterate(client, timeout).collectAsync();
+        var addressBook = registeredNodes.thenApply(nodes -> new RegisteredNodeAddressBook(nodes));
 
-                        if (json.has("registered_nodes")) {
-                            JsonArray nodesArray = json.getAsJsonArray("registered_nodes");
-                            for (JsonElement node : nodesArray) {
-                                registeredNodes.add(RegisteredNode.fromJson(node.getAsJsonObject()));
-                            }
-                        }
+        // cancelling the address book aborts the page request in flight
+        addressBook.whenComplete((result, error) -> {
+            if (addressBook.isCancelled()) {
+                registeredNodes.cancel(false);
+            }
+        });
 
-                        String nextUrl = getNextPagePath(json);
-                        if (nextUrl != null) {
-                            apiEndpoint = nextUrl;
-                        } else {
-                            isLastPage = true;
-                        }
-                    }
-                    return registeredNodes;
-                },
-                client.executor);
+        return addressBook;
     }
 
-    private JsonObject fetchPage(String url, Duration timeout) {
-        int attempt = 0;
-        Exception lastException = null;
-
-        while (attempt < maxAttempts) {
-            attempt++;
-            try {
-                HttpResponse<String> response =
-                        HTTP_CLIENT.send(buildHttpRequest(url, timeout), HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    return JsonParser.parseString(response.body()).getAsJsonObject();
-                }
-
-                if (!shouldRetry(response.statusCode()) || attempt > maxAttempts) {
-                    throw new IllegalStateException("Mirror Node error: HTTP " + response.statusCode());
-                }
-
-                lastException = new RuntimeException("HTTP " + response.statusCode());
-                warnAndDelay(attempt, lastException);
-            } catch (Exception e) {
-                lastException = e;
-                if (attempt > maxAttempts || !shouldRetry(e)) {
-                    throw new RuntimeException("Failed to fetch page after " + attempt + " attempts", e);
-                }
-                warnAndDelay(attempt, lastException);
-            }
-        }
-
-        throw new RuntimeException("Failed to fetch page after " + maxAttempts + " attempts", lastException);
+    /**
+     * Iterates over the registered nodes with the user supplied client, requesting the pages as they are consumed
+     * instead of collecting the whole address book first.
+     *
+     * @param client The Client instance to perform the operation with.
+     * @return An iterator over the registered nodes, to be closed when stopping early.
+     */
+    public MirrorPage<RegisteredNode> iterate(Client client) {
+        Objects.requireNonNull(client, "client must not be null");
+        return iterate(client, client.getRequestTimeout());
     }
 
-    private String getNextPagePath(JsonObject response) {
-        if (response.has("links") && !response.get("links").isJsonNull()) {
-            JsonObject links = response.getAsJsonObject("links");
-            if (links.has("next") && !links.get("next").isJsonNull()) {
-                return links.get("next").getAsString();
-            }
-        }
-        return null;
+    /**
+     * Iterates over the registered nodes with the user supplied client and timeout, requesting the pages as they are
+     * consumed instead of collecting the whole address book first.
+     *
+     * @param client The Client instance to perform the operation with.
+     * @param timeout The maximum duration for each individual HTTP request.
+     * @return An iterator over the registered nodes, to be closed when stopping early.
+     */
+    public MirrorPage<RegisteredNode> iterate(Client client, Duration timeout) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        return new MirrorPage<>(
+                        client, buildBaseUrl(client), buildInitialPath(), "registered_nodes", RegisteredNode::fromJson)
+                .setTimeout(timeout)
+                .setMaxAttempts(maxAttempts)
+                .setMaxBackoff(maxBackoff);
     }
 
     private String buildBaseUrl(Client client) {
@@ -281,27 +224,4 @@ public class RegisteredNodeAddressBookQuery {
 
         return path.toString();
     }
-
-    private HttpRequest buildHttpRequest(String url, Duration timeout) {
-        return HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(timeout)
-                .GET()
-                .build();
-    }
-
-    private void warnAndDelay(int attempt, Throwable error) {
-        var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-        LOGGER.warn(
-                "Error fetching registered nodes during attempt #{}. Waiting {} ms before next attempt: {}",
-                attempt,
-                delay,
-                error.getMessage());
-
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * How far a subscription to a topic got: the last message it fully processed, and where a subscription picking up
+ * after it has to resume from.
+ */
+public final class SubscriptionCheckpoint {
+    /**
+     * The consensus timestamp of the last message fully processed
+     */
+    public final Instant consensusTimestamp;
+    /**
+     * The sequence number of the last message fully processed
+     */
+    public final long sequenceNumber;
+    /**
+     * The consensus timestamp to resume from. It is earlier than {@link #consensusTimestamp} when chunks of a message
+     * that was not complete yet were received before the last message processed, so that they are received again.
+     */
+    public final Instant resumeTimestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param consensusTimestamp        the consensus timestamp of the last message processed
+     * @param sequenceNumber            the sequence number of the last message processed
+     * @param resumeTimestamp           the consensus timestamp to resume from
+     */
+    public SubscriptionCheckpoint(Instant consensusTimestamp, long sequenceNumber, Instant resumeTimestamp) {
+        this.consensusTimestamp = Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        this.sequenceNumber = sequenceNumber;
+        this.resumeTimestamp = Objects.requireNonNull(resumeTimestamp, "resumeTimestamp must not be null");
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("consensusTimestamp", consensusTimestamp)
+                .add("sequenceNumber", sequenceNumber)
+                .add("resumeTimestamp", resumeTimestamp)
+                .toString();
+    }
+}
@@ -0,0 +1,36 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the {@link SubscriptionCheckpoint} of topic subscriptions, so that a subscription made after a restart
+ * resumes where the previous one stopped.
+ * <p>
+ * A store holds one checkpoint per topic. Subscriptions to the same topic by consumers that process it independently
+ * need stores of their own.
+ *
+ * @see TopicMessageQuery#setCheckpointStore(SubscriptionCheckpointStore)
+ * @see FileSubscriptionCheckpointStore
+ */
+public interface SubscriptionCheckpointStore {
+    /**
+     * Read the checkpoint of a topic.
+     *
+     * @param topicId                   the topic
+     * @return                          the last checkpoint saved, or {@code null} if there is none
+     * @throws IOException              when the checkpoint cannot be read
+     */
+    @Nullable
+    SubscriptionCheckpoint load(TopicId topicId) throws IOException;
+
+    /**
+     * Replace the checkpoint of a topic. Once this returns, the checkpoint must survive a restart.
+     *
+     * @param topicId                   the topic
+     * @param checkpoint                the new checkpoint
+     * @throws IOException              when the checkpoint cannot be written
+     */
+    void save(TopicId topicId, SubscriptionCheckpoint checkpoint) throws IOException;
+}
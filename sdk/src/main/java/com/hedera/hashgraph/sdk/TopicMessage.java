@@ -93,31 +93,44 @@ public final class TopicMessage {
      */
     static TopicMessage ofMany(List<ConsensusTopicResponse> responses) {
         // response should be in the order of oldest to newest (not chunk order)
-        var chunks = new TopicMessageChunk[responses.size()];
+        var chunks = new ConsensusTopicResponse[responses.size()];
+
+        for (ConsensusTopicResponse r : responses) {
+            chunks[r.getChunkInfo().getNumber() - 1] = r;
+        }
+
+        return ofChunks(chunks, responses.get(responses.size() - 1));
+    }
+
+    /**
+     * Create a new topic message from all its chunks.
+     *
+     * @param responses                 the protobuf responses, in chunk order
+     * @param lastReceived              the response received last, which completed the message
+     * @return                          the new topic message
+     */
+    static TopicMessage ofChunks(ConsensusTopicResponse[] responses, ConsensusTopicResponse lastReceived) {
+        var chunks = new TopicMessageChunk[responses.length];
         TransactionId transactionId = null;
-        var contents = new ByteString[responses.size()];
         long totalSize = 0;
 
-        for (ConsensusTopicResponse r : responses) {
+        for (int index = 0; index < responses.length; index++) {
+            var r = responses[index];
+
             if (transactionId == null && r.getChunkInfo().hasInitialTransactionID()) {
                 transactionId = TransactionId.fromProtobuf(r.getChunkInfo().getInitialTransactionID());
             }
 
-            int index = r.getChunkInfo().getNumber() - 1;
-
             chunks[index] = new TopicMessageChunk(r);
-            contents[index] = r.getMessage();
             totalSize += r.getMessage().size();
         }
 
         var wholeMessage = ByteBuffer.allocate((int) totalSize);
 
-        for (var content : contents) {
-            wholeMessage.put(content.asReadOnlyByteBuffer());
+        for (var r : responses) {
+            wholeMessage.put(r.getMessage().asReadOnlyByteBuffer());
         }
 
-        var lastReceived = responses.get(responses.size() - 1);
-
         return new TopicMessage(
                 InstantConverter.fromProtobuf(lastReceived.getConsensusTimestamp()),
                 wholeMessage.array(),
@@ -1,8 +1,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import com.hedera.hashgraph.sdk.proto.Timestamp;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -10,19 +8,24 @@ import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.ClientCalls;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,12 +37,21 @@ public final class TopicMessageQuery {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageQuery.class);
 
+    static final int DEFAULT_CHECKPOINT_BATCH_SIZE = 100;
+
     private final ConsensusTopicQuery.Builder builder;
     private Runnable completionHandler = this::onComplete;
     private BiConsumer<Throwable, TopicMessage> errorHandler = this::onError;
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
     private Predicate<Throwable> retryHandler = this::shouldRetry;
+    private int maxPendingChunkedMessages = TopicMessageReassembler.DEFAULT_MAX_PENDING_MESSAGES;
+    private Duration maxPendingChunkedMessageAge = TopicMessageReassembler.DEFAULT_MAX_PENDING_AGE;
+
+    @Nullable
+    private SubscriptionCheckpointStore checkpointStore = null;
+
+    private int checkpointBatchSize = DEFAULT_CHECKPOINT_BATCH_SIZE;
 
     /**
      * Constructor.
@@ -147,6 +159,70 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Assign the maximum number of messages received in several chunks that can be waiting for the rest of their
+     * chunks. Past it, the oldest incomplete message is dropped and reported to the error handler.
+     *
+     * @param maxPendingChunkedMessages the maximum number of incomplete messages
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkedMessages(int maxPendingChunkedMessages) {
+        if (maxPendingChunkedMessages <= 0) {
+            throw new IllegalArgumentException("maxPendingChunkedMessages must be greater than zero");
+        }
+        this.maxPendingChunkedMessages = maxPendingChunkedMessages;
+        return this;
+    }
+
+    /**
+     * Assign how long, in consensus time, a message received in several chunks can wait for the rest of its chunks.
+     * Past it, the incomplete message is dropped and reported to the error handler.
+     *
+     * @param maxPendingChunkedMessageAge the maximum age of an incomplete message
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkedMessageAge(Duration maxPendingChunkedMessageAge) {
+        if (maxPendingChunkedMessageAge == null
+                || maxPendingChunkedMessageAge.isNegative()
+                || maxPendingChunkedMessageAge.isZero()) {
+            throw new IllegalArgumentException("maxPendingChunkedMessageAge must be a positive duration");
+        }
+        this.maxPendingChunkedMessageAge = maxPendingChunkedMessageAge;
+        return this;
+    }
+
+    /**
+     * Assign the store keeping how far subscriptions to the topic got.
+     * <p>
+     * A subscription resumes from the checkpoint of the topic, when there is one later than the start time, and skips
+     * the messages it already processed by their sequence number. As messages are processed, that is once the
+     * consumer returns, the checkpoint is saved every {@link #setCheckpointBatchSize(int)} messages and when the
+     * subscription ends. The messages processed since the last save are received again after a crash.
+     *
+     * @param checkpointStore           the checkpoint store
+     * @return {@code this}
+     */
+    public TopicMessageQuery setCheckpointStore(SubscriptionCheckpointStore checkpointStore) {
+        Objects.requireNonNull(checkpointStore, "checkpointStore must not be null");
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Assign the number of messages processed between two saves of the checkpoint.
+     *
+     * @param checkpointBatchSize       the number of messages
+     * @return {@code this}
+     * @see #setCheckpointStore(SubscriptionCheckpointStore)
+     */
+    public TopicMessageQuery setCheckpointBatchSize(int checkpointBatchSize) {
+        if (checkpointBatchSize <= 0) {
+            throw new IllegalArgumentException("checkpointBatchSize must be greater than zero");
+        }
+        this.checkpointBatchSize = checkpointBatchSize;
+        return this;
+    }
+
     /**
      * Assign the retry handler.
      *
@@ -218,144 +294,982 @@ public final class TopicMessageQuery {
      */
     public SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
 
-        try {
-            makeStreamingCall(
-                    client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        new Subscription(client, subscriptionHandle, eachMessage(onNext), null, null).start();
+
+        return subscriptionHandle;
+    }
+
+    /**
+     * Subscribe to the topic, receiving views of the messages.
+     * <p>
+     * A {@link TopicMessageView} reads the message straight from the responses of the mirror node, so neither the
+     * contents nor the chunks of the message are copied or decoded unless the consumer asks for them. Otherwise the
+     * subscription behaves as with {@link #subscribe(Client, Consumer)}.
+     *
+     * @param client                    the configured client
+     * @param onNext                    the consumer of the views
+     * @return                          the subscription handle
+     */
+    public SubscriptionHandle subscribeToViews(Client client, Consumer<TopicMessageView> onNext) {
+        Objects.requireNonNull(onNext, "onNext must not be null");
+
+        SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
+
+        new Subscription(client, subscriptionHandle, eachView(onNext), null, null).start();
+
+        return subscriptionHandle;
+    }
+
+    /**
+     * Subscribe to the topic, receiving the messages in batches.
+     * <p>
+     * A batch is handed to the consumer once it holds {@code maxBatchSize} messages, or {@code maxLatency} after its
+     * first message was received, whichever comes first. Batches are handed over one at a time and in the order of
+     * the topic, messages received in several chunks being reassembled first. What was gathered when the subscription
+     * ends is handed over before it completes. An error thrown by the consumer is passed to the error handler without
+     * a message.
+     *
+     * @param client                    the configured client
+     * @param maxBatchSize              the maximum number of messages in a batch
+     * @param maxLatency                how long the first message of a batch can wait for the batch to be handed over
+     * @param onBatch                   the consumer of the batches
+     * @return                          the subscription handle
+     */
+    public SubscriptionHandle subscribeBatched(
+            Client client, int maxBatchSize, Duration maxLatency, Consumer<List<TopicMessage>> onBatch) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(onBatch, "onBatch must not be null");
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than zero");
+        }
+
+        if (maxLatency == null || maxLatency.isNegative() || maxLatency.isZero()) {
+            throw new IllegalArgumentException("maxLatency must be a positive duration");
         }
 
+        SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
+
+        var batcher = new Batcher(maxBatchSize, maxLatency, onBatch, client.executor);
+        new Subscription(client, subscriptionHandle, batcher, null, null).start();
+
         return subscriptionHandle;
     }
 
-    private void makeStreamingCall(
+    /**
+     * Create a publisher that subscribes to the topic for each of its subscribers.
+     * <p>
+     * Unlike {@link #subscribe(Client, Consumer)}, messages are only received from the mirror node as fast as the
+     * subscriber requests them: the stream is flow controlled, so a slow subscriber makes the mirror node wait
+     * instead of messages piling up in memory. Retries are handled as for {@link #subscribe(Client, Consumer)}. The
+     * subscriber is completed when the subscription completes, and is signalled the error instead of the error
+     * handler when it fails.
+     *
+     * @param client                    the configured client
+     * @return                          the publisher of the messages
+     */
+    public Flow.Publisher<TopicMessage> publish(Client client) {
+        Objects.requireNonNull(client, "client must not be null");
+
+        return subscriber -> {
+            Objects.requireNonNull(subscriber);
+
+            var subscriptionHandle = new SubscriptionHandle();
+            var demand = new Demand(subscriber, subscriptionHandle);
+            subscriber.onSubscribe(demand);
+
+            if (demand.isTerminated()) {
+                return;
+            }
+
+            try {
+                new Subscription(client, subscriptionHandle, eachMessage(subscriber::onNext), demand, null)
+                        .start();
+            } catch (RuntimeException e) {
+                demand.fail(e);
+            }
+        };
+    }
+
+    /**
+     * The states of a {@link Subscription}.
+     */
+    enum SubscriptionState {
+        /**
+         * A stream was opened and nothing was received on it yet.
+         */
+        CONNECTING,
+        /**
+         * Responses are being received on the stream.
+         */
+        STREAMING,
+        /**
+         * The stream failed and a new one will be opened after a backoff.
+         */
+        WAITING_TO_RECONNECT,
+        /**
+         * The mirror node sent every message of the subscription.
+         */
+        COMPLETED,
+        /**
+         * The stream failed and will not be retried.
+         */
+        FAILED,
+        /**
+         * The subscription was cancelled by the client.
+         */
+        CANCELLED;
+
+        boolean isTerminal() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    /**
+     * Decides on which mirror node, and when, the streams of subscriptions are opened, such as to spread many
+     * subscriptions over the mirror nodes.
+     */
+    interface StreamScheduler {
+        /**
+         * Wait until a stream can be opened.
+         *
+         * @return                          a future of the mirror node to open the stream on, cancelled when the stream
+         *                                  is no longer needed
+         */
+        CompletableFuture<MirrorNode> acquire();
+
+        /**
+         * Give back a stream allowed by {@link #acquire()} once it ended.
+         *
+         * @param node                      the mirror node the stream was opened on
+         */
+        void release(MirrorNode node);
+
+        /**
+         * Be told that a subscription whose streams were scheduled reached a terminal state.
+         *
+         * @param subscription              the subscription
+         */
+        void ended(Subscription subscription);
+    }
+
+    /**
+     * Start a subscription whose streams are opened when and where the scheduler decides.
+     *
+     * @param client                    the configured client
+     * @param subscriptionHandle        the handle cancelling the subscription
+     * @param onNext                    the consumer
+     * @param scheduler                 the scheduler of the streams
+     * @return                          the subscription
+     */
+    Subscription subscribe(
             Client client,
             SubscriptionHandle subscriptionHandle,
             Consumer<TopicMessage> onNext,
-            int attempt,
-            AtomicLong counter,
-            AtomicReference<ConsensusTopicResponse> lastMessage,
-            HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages)
-            throws InterruptedException {
-        ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = client.mirrorNetwork
-                .getNextMirrorNode()
-                .getChannel()
-                .newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
-
-        final AtomicBoolean cancelledByClient = new AtomicBoolean(false);
-
-        subscriptionHandle.setOnUnsubscribe(() -> {
-            cancelledByClient.set(true);
-            client.untrackSubscription(subscriptionHandle);
+            StreamScheduler scheduler) {
+        var subscription = new Subscription(client, subscriptionHandle, eachMessage(onNext), null, scheduler);
+        subscription.start();
+        return subscription;
+    }
 
-            call.cancel("unsubscribe", null);
-        });
+    /**
+     * One subscription to the topic, across every stream opened to resume it.
+     * <p>
+     * A stream that fails with a retryable error is replaced by a new one resuming after the last response received,
+     * once a backoff with jitter has elapsed. The backoff is waited for on a timer: no thread sleeps through it, so
+     * many subscriptions dropped together by a mirror node do not tie up threads. The attempts are counted from the
+     * last stream that received anything.
+     * <p>
+     * Callbacks of a stream that was replaced, or of a subscription that ended, are ignored.
+     */
+    final class Subscription {
+        private final Client client;
+        private final SubscriptionHandle subscriptionHandle;
+        private final MessageSink sink;
+        private final TopicMessageReassembler reassembler = newReassembler();
 
-        client.trackSubscription(subscriptionHandle);
+        @Nullable
+        private final Demand demand;
 
-        var newBuilder = builder;
+        @Nullable
+        private final StreamScheduler scheduler;
 
-        // Update the start time and limit on retry
-        if (lastMessage.get() != null) {
-            newBuilder = builder.clone();
+        private SubscriptionState state = SubscriptionState.CONNECTING;
 
-            if (builder.getLimit() > 0) {
-                newBuilder.setLimit(builder.getLimit() - counter.get());
+        // failed attempts since a stream last received anything
+        private int attempt = 0;
+
+        // streams opened so far
+        private int connections = 0;
+
+        // responses received, for the limit
+        private long received = 0;
+
+        @Nullable
+        private Instant lastConsensusTimestamp = null;
+
+        @Nullable
+        private ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = null;
+
+        // the mirror node of the stream the scheduler allowed, until given back
+        @Nullable
+        private MirrorNode scheduledNode = null;
+
+        // the backoff, or the scheduler, being waited for
+        @Nullable
+        private CompletableFuture<?> pending = null;
+
+        @Nullable
+        private Checkpointer checkpointer = null;
+
+        Subscription(
+                Client client,
+                SubscriptionHandle subscriptionHandle,
+                MessageSink sink,
+                @Nullable Demand demand,
+                @Nullable StreamScheduler scheduler) {
+            this.client = client;
+            this.subscriptionHandle = subscriptionHandle;
+            this.sink = sink;
+            this.demand = demand;
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * Open the first stream.
+         */
+        void start() {
+            subscriptionHandle.setOnUnsubscribe(this::cancel);
+            client.trackSubscription(subscriptionHandle);
+
+            // the subscriber may have cancelled before the handle could cancel anything
+            if (demand != null && demand.isTerminated()) {
+                terminate(SubscriptionState.CANCELLED);
+                return;
+            }
+
+            try {
+                if (checkpointStore != null) {
+                    checkpointer = new Checkpointer(checkpointStore);
+                }
+
+                connect();
+            } catch (RuntimeException e) {
+                terminate(SubscriptionState.FAILED);
+                throw e;
             }
+        }
 
-            var lastStartTime = lastMessage.get().getConsensusTimestamp();
-            var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
-            newBuilder.setConsensusStartTime(nextStartTime);
+        /**
+         * Extract the state of the subscription.
+         *
+         * @return                          the state
+         */
+        synchronized SubscriptionState getState() {
+            return state;
         }
 
-        ClientCalls.asyncServerStreamingCall(call, newBuilder.build(), new StreamObserver<>() {
-            @Override
-            public void onNext(ConsensusTopicResponse consensusTopicResponse) {
-                counter.incrementAndGet();
-                lastMessage.set(consensusTopicResponse);
-
-                // Short circuit for no chunks or 1/1 chunks
-                if (!consensusTopicResponse.hasChunkInfo()
-                        || consensusTopicResponse.getChunkInfo().getTotal() == 1) {
-                    var message = TopicMessage.ofSingle(consensusTopicResponse);
-
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
+        /**
+         * Extract the consensus timestamp of the last response received.
+         *
+         * @return                          the consensus timestamp, or {@code null} if nothing was received yet
+         */
+        @Nullable
+        synchronized Instant getLastConsensusTimestamp() {
+            return lastConsensusTimestamp;
+        }
+
+        /**
+         * Extract the number of responses received, one per chunk.
+         *
+         * @return                          the number of responses
+         */
+        synchronized long getReceived() {
+            return received;
+        }
+
+        /**
+         * Extract the number of streams opened, the first one included.
+         *
+         * @return                          the number of streams
+         */
+        synchronized int getConnections() {
+            return connections;
+        }
+
+        private void connect() {
+            if (scheduler == null) {
+                MirrorNode node;
+                try {
+                    node = client.mirrorNetwork.getNextMirrorNode();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+
+                openStream(node);
+                return;
+            }
+
+            var acquired = scheduler.acquire();
+
+            synchronized (this) {
+                if (!state.isTerminal()) {
+                    pending = acquired;
+                }
+            }
+
+            acquired.whenComplete((node, error) -> {
+                if (acquired.isCancelled()) {
+                    return;
+                }
+
+                if (error != null) {
+                    fail(error);
+                    return;
+                }
+
+                try {
+                    openStream(node);
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            });
+
+            if (getState().isTerminal()) {
+                acquired.cancel(false);
+            }
+        }
+
+        private void openStream(MirrorNode node) {
+            ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+            ConsensusTopicQuery query;
+            int connection;
+
+            synchronized (this) {
+                if (state.isTerminal()) {
+                    // ended while waiting for the scheduler
+                    if (scheduler != null) {
+                        scheduler.release(node);
                     }
+                    return;
+                }
+
+                call = node.getChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+                query = buildResumeQuery();
+                connection = ++connections;
+
+                this.call = call;
+                scheduledNode = scheduler != null ? node : null;
+                pending = null;
+                state = SubscriptionState.CONNECTING;
+            }
+
+            var observer = new StreamObserver(call, node);
+            ClientCalls.asyncServerStreamingCall(call, query, observer);
+
+            // the stream can only be asked for responses once started
+            if (demand != null) {
+                demand.attach(connection, Objects.requireNonNull(observer.requestStream));
+            }
+        }
+
+        /**
+         * Build the query resuming after the last response received, if any, or else from the checkpoint restored.
+         */
+        private ConsensusTopicQuery buildResumeQuery() {
+            var restored = checkpointer != null ? checkpointer.restored : null;
+            Instant startTime;
+
+            if (lastConsensusTimestamp != null) {
+                startTime = lastConsensusTimestamp.plusNanos(1);
+            } else if (restored != null) {
+                startTime = restored.resumeTimestamp;
+            } else {
+                return builder.build();
+            }
+
+            // a checkpoint left by an earlier subscription may predate the start time
+            if (builder.hasConsensusStartTime()
+                    && !InstantConverter.fromProtobuf(builder.getConsensusStartTime()).isBefore(startTime)) {
+                return builder.build();
+            }
+
+            var resumed = builder.clone();
+
+            if (builder.getLimit() > 0) {
+                resumed.setLimit(builder.getLimit() - received);
+            }
+
+            resumed.setConsensusStartTime(InstantConverter.toProtobuf(startTime));
+            return resumed.build();
+        }
+
+        private void cancel() {
+            terminate(SubscriptionState.CANCELLED);
+        }
+
+        private void fail(Throwable error) {
+            if (!terminate(SubscriptionState.FAILED)) {
+                return;
+            }
+
+            if (demand != null) {
+                demand.fail(error);
+            } else {
+                errorHandler.accept(error, null);
+            }
+        }
+
+        /**
+         * Move to a terminal state, unless already in one, ending the stream and whatever is waited for.
+         *
+         * @return                          whether the state changed
+         */
+        private boolean terminate(SubscriptionState terminalState) {
+            ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> current;
+            CompletableFuture<?> waitedFor;
+
+            synchronized (this) {
+                if (state.isTerminal()) {
+                    return false;
+                }
+
+                state = terminalState;
+                current = call;
+                waitedFor = pending;
+                pending = null;
+            }
+
+            client.untrackSubscription(subscriptionHandle);
+
+            if (waitedFor != null) {
+                waitedFor.cancel(false);
+            }
+
+            if (current != null) {
+                // does nothing if the stream already ended
+                current.cancel("unsubscribe", null);
+            }
+
+            releaseStream(current);
+            sink.flush();
+
+            if (checkpointer != null) {
+                checkpointer.commit();
+            }
+
+            if (scheduler != null) {
+                scheduler.ended(this);
+            }
+
+            return true;
+        }
 
+        /**
+         * Give the scheduler back the stream, once it ended.
+         */
+        private void releaseStream(@Nullable ClientCall<?, ?> from) {
+            MirrorNode node;
+
+            synchronized (this) {
+                if (from != call || scheduledNode == null) {
                     return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
+                node = scheduledNode;
+                scheduledNode = null;
+            }
+
+            Objects.requireNonNull(scheduler).release(node);
+        }
+
+        private void onResponse(ClientCall<?, ?> from, MirrorNode node, ConsensusTopicResponse response) {
+            synchronized (this) {
+                if (from != call || state.isTerminal()) {
+                    return;
+                }
 
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
+                if (state == SubscriptionState.CONNECTING) {
+                    state = SubscriptionState.STREAMING;
+                    attempt = 0;
+                    client.mirrorNetwork.recordSuccess(node, null);
                 }
 
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
+                received++;
+                lastConsensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+            }
+
+            var message = reassembler.add(response);
 
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
+            if (message != null && checkpointer != null && checkpointer.isProcessed(message)) {
+                message = null;
+            }
 
-                // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    var message = TopicMessage.ofMany(chunks);
+            if (message != null) {
+                Runnable onProcessed = checkpointer != null
+                        ? checkpointer.checkpoint(message, reassembler.getOldestPendingTimestamp())
+                        : () -> {};
 
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
-                    }
+                sink.accept(message, onProcessed);
+            }
+
+            if (demand != null) {
+                demand.onResponse(message != null);
+            }
+        }
+
+        private void onError(ClientCall<?, ?> from, MirrorNode node, Throwable error) {
+            var retry = retryHandler.test(error);
+            int failedAttempt;
+
+            synchronized (this) {
+                if (from != call || state.isTerminal()) {
+                    return;
+                }
+
+                failedAttempt = attempt;
+                retry = retry && attempt < maxAttempts;
+
+                if (retry) {
+                    attempt++;
+                    state = SubscriptionState.WAITING_TO_RECONNECT;
                 }
             }
 
-            @Override
-            public void onError(Throwable t) {
-                if (cancelledByClient.get()) {
+            if (!retry) {
+                fail(error);
+                return;
+            }
+
+            releaseStream(from);
+
+            // a topic the mirror node does not know yet is not the fault of the node
+            if (!(error instanceof StatusRuntimeException sre && sre.getStatus().getCode() == Status.Code.NOT_FOUND)) {
+                client.mirrorNetwork.recordFailure(node);
+            }
+
+            var delay = getBackoffMillis(failedAttempt);
+            LOGGER.warn(
+                    "Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
+                    TopicId.fromProtobuf(builder.getTopicID()),
+                    failedAttempt,
+                    delay,
+                    error.getMessage());
+
+            var backoff = Delayer.delayFor(delay, client.executor).thenRun(this::reconnect);
+
+            synchronized (this) {
+                if (state == SubscriptionState.WAITING_TO_RECONNECT) {
+                    pending = backoff;
                     return;
                 }
+            }
 
-                if (attempt >= maxAttempts || !retryHandler.test(t)) {
-                    errorHandler.accept(t, null);
+            // cancelled in the meantime
+            backoff.cancel(false);
+        }
+
+        private void reconnect() {
+            try {
+                connect();
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void onCompleted(ClientCall<?, ?> from) {
+            synchronized (this) {
+                if (from != call) {
                     return;
                 }
+            }
+
+            if (!terminate(SubscriptionState.COMPLETED)) {
+                return;
+            }
+
+            if (demand != null) {
+                demand.onComplete();
+            } else {
+                completionHandler.run();
+            }
+        }
+
+        /**
+         * Extract how long to wait after the given failed attempt: the exponential backoff, of which a random half is
+         * waited so that the subscriptions dropped together do not all reconnect together.
+         */
+        private long getBackoffMillis(int attempt) {
+            var backoff = Math.min(500 * (1L << Math.min(attempt, 20)), maxBackoff.toMillis());
+            var half = backoff / 2;
+
+            return half + ThreadLocalRandom.current().nextLong(half + 1);
+        }
+
+        /**
+         * The checkpoints of the subscription: the one it resumed from, and the one of the last message processed,
+         * saved in batches.
+         */
+        private final class Checkpointer {
+            private final SubscriptionCheckpointStore store;
+            private final TopicId topicId;
+
+            @Nullable
+            private final SubscriptionCheckpoint restored;
+
+            @Nullable
+            private SubscriptionCheckpoint processed = null;
+
+            // messages processed since the checkpoint was last saved
+            private int uncommitted = 0;
+
+            private Checkpointer(SubscriptionCheckpointStore store) {
+                this.store = store;
+                this.topicId = TopicId.fromProtobuf(builder.getTopicID());
 
-                var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-                var topicId = TopicId.fromProtobuf(builder.getTopicID());
-                LOGGER.warn(
-                        "Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
-                        topicId,
-                        attempt,
-                        delay,
-                        t.getMessage());
-                call.cancel("unsubscribed", null);
-
-                // Cannot use `CompletableFuture<U>` here since this future is never polled
                 try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                    this.restored = store.load(topicId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            /**
+             * Whether a message was processed before the checkpoint the subscription resumed from. Messages are
+             * completed in the order of their sequence number, the sequence number of their last chunk.
+             */
+            private boolean isProcessed(TopicMessageView message) {
+                return restored != null && message.getSequenceNumber() <= restored.sequenceNumber;
+            }
+
+            /**
+             * Build the checkpoint of a message as it is received, resuming from the chunks of the incomplete
+             * messages, if any, as they would be lost otherwise.
+             *
+             * @return                          what records the checkpoint, to run once the message was processed
+             */
+            private Runnable checkpoint(TopicMessageView message, @Nullable Instant oldestPendingTimestamp) {
+                var consensusTimestamp = message.getConsensusTimestamp();
+                var resumeTimestamp = consensusTimestamp.plusNanos(1);
+                if (oldestPendingTimestamp != null && oldestPendingTimestamp.isBefore(resumeTimestamp)) {
+                    resumeTimestamp = oldestPendingTimestamp;
                 }
 
+                var checkpoint =
+                        new SubscriptionCheckpoint(consensusTimestamp, message.getSequenceNumber(), resumeTimestamp);
+                return () -> onProcessed(checkpoint);
+            }
+
+            private synchronized void onProcessed(SubscriptionCheckpoint checkpoint) {
+                processed = checkpoint;
+
+                if (++uncommitted >= checkpointBatchSize) {
+                    commit();
+                }
+            }
+
+            /**
+             * Save the checkpoint of the last message processed, unless it was saved already.
+             */
+            private synchronized void commit() {
+                if (processed == null || uncommitted == 0) {
+                    return;
+                }
+
+                // a failed save is tried again after the next batch
+                uncommitted = 0;
+
                 try {
-                    makeStreamingCall(
-                            client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
+                    store.save(topicId, processed);
+                } catch (IOException | RuntimeException e) {
+                    errorHandler.accept(e, null);
+                }
+            }
+        }
+
+        private final class StreamObserver
+                implements ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse> {
+            private final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+            private final MirrorNode node;
+
+            @Nullable
+            private ClientCallStreamObserver<ConsensusTopicQuery> requestStream = null;
+
+            private StreamObserver(ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call, MirrorNode node) {
+                this.call = call;
+                this.node = node;
+            }
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> requestStream) {
+                if (demand != null) {
+                    requestStream.disableAutoRequestWithInitial(0);
+                    this.requestStream = requestStream;
                 }
             }
 
+            @Override
+            public void onNext(ConsensusTopicResponse response) {
+                onResponse(call, node, response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                Subscription.this.onError(call, node, error);
+            }
+
             @Override
             public void onCompleted() {
-                completionHandler.run();
+                Subscription.this.onCompleted(call);
+            }
+        }
+    }
+
+    /**
+     * Where a subscription hands over the messages it received.
+     */
+    private interface MessageSink {
+        /**
+         * Hand over a message.
+         *
+         * @param message                   the message
+         * @param onProcessed               to run once the consumer processed the message
+         */
+        void accept(TopicMessageView message, Runnable onProcessed);
+
+        /**
+         * Hand over the messages held back, as the subscription ended.
+         */
+        default void flush() {}
+    }
+
+    /**
+     * Hand every message to the consumer as soon as it is received.
+     */
+    private MessageSink eachMessage(Consumer<TopicMessage> onNext) {
+        return eachView(view -> onNext.accept(view.toTopicMessage()));
+    }
+
+    /**
+     * Hand every message to the consumer as soon as it is received, without copying it.
+     */
+    private MessageSink eachView(Consumer<TopicMessageView> onNext) {
+        return (message, onProcessed) -> {
+            try {
+                onNext.accept(message);
+            } catch (Throwable t) {
+                errorHandler.accept(t, message.toTopicMessage());
+            }
+
+            onProcessed.run();
+        };
+    }
+
+    /**
+     * Gathers the messages of a subscription into batches for {@link #subscribeBatched}.
+     * <p>
+     * A batch is handed over while holding the lock of the batcher, so batches reach the consumer one at a time and
+     * in order, whether the batch was full or its latency elapsed.
+     */
+    private final class Batcher implements MessageSink {
+        private final int maxBatchSize;
+        private final Duration maxLatency;
+        private final Consumer<List<TopicMessage>> onBatch;
+        private final Executor executor;
+
+        private List<TopicMessageView> messages = new ArrayList<>();
+        private List<Runnable> onProcessed = new ArrayList<>();
+
+        // batches handed over so far, so that the timer of a batch already handed over does nothing
+        private long batches = 0;
+
+        @Nullable
+        private CompletableFuture<Void> timer = null;
+
+        private Batcher(
+                int maxBatchSize, Duration maxLatency, Consumer<List<TopicMessage>> onBatch, Executor executor) {
+            this.maxBatchSize = maxBatchSize;
+            this.maxLatency = maxLatency;
+            this.onBatch = onBatch;
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void accept(TopicMessageView message, Runnable onProcessed) {
+            messages.add(message);
+            this.onProcessed.add(onProcessed);
+
+            if (messages.size() >= maxBatchSize) {
+                flush();
+            } else if (messages.size() == 1) {
+                var batch = batches;
+                timer = Delayer.delayFor(maxLatency.toMillis(), executor).thenRun(() -> flush(batch));
+            }
+        }
+
+        private synchronized void flush(long batch) {
+            if (batch == batches) {
+                flush();
             }
-        });
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            var batch = messages;
+            var processed = onProcessed;
+
+            messages = new ArrayList<>();
+            onProcessed = new ArrayList<>();
+            batches++;
+
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+
+            try {
+                onBatch.accept(batch.stream().map(TopicMessageView::toTopicMessage).toList());
+            } catch (Throwable t) {
+                errorHandler.accept(t, null);
+            }
+
+            processed.forEach(Runnable::run);
+        }
+    }
+
+    private TopicMessageReassembler newReassembler() {
+        return new TopicMessageReassembler(
+                maxPendingChunkedMessages, maxPendingChunkedMessageAge, error -> errorHandler.accept(error, null));
+    }
+
+    /**
+     * The demand of a subscriber of {@link #publish(Client)}, translated into requests for responses on the stream.
+     * <p>
+     * A response that is only one chunk of a message does not satisfy any demand, so one more response is requested
+     * in its place. When the stream is retried, the demand not satisfied yet is requested again on the new one.
+     */
+    private static final class Demand implements Flow.Subscription {
+        private final Flow.Subscriber<? super TopicMessage> subscriber;
+        private final SubscriptionHandle subscriptionHandle;
+
+        // messages requested by the subscriber and not received yet
+        private long messages = 0;
+
+        // responses requested on the current stream and not received yet
+        private long responses = 0;
+
+        private boolean terminated = false;
+
+        // the connection the current stream belongs to
+        private int connection = 0;
+
+        @Nullable
+        private ClientCallStreamObserver<?> stream = null;
+
+        private Demand(Flow.Subscriber<? super TopicMessage> subscriber, SubscriptionHandle subscriptionHandle) {
+            this.subscriber = subscriber;
+            this.subscriptionHandle = subscriptionHandle;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("the number of requested messages must be positive"));
+                return;
+            }
+
+            synchronized (this) {
+                messages = messages + n < 0 ? Long.MAX_VALUE : messages + n;
+            }
+
+            requestResponses();
+        }
+
+        @Override
+        public void cancel() {
+            if (terminate()) {
+                subscriptionHandle.unsubscribe();
+            }
+        }
+
+        synchronized boolean isTerminated() {
+            return terminated;
+        }
+
+        void attach(int connection, ClientCallStreamObserver<?> stream) {
+            synchronized (this) {
+                // the stream may have failed and been replaced before it could be attached
+                if (connection < this.connection) {
+                    return;
+                }
+
+                this.connection = connection;
+                this.stream = stream;
+                responses = 0;
+            }
+
+            requestResponses();
+        }
+
+        void onResponse(boolean messageReceived) {
+            synchronized (this) {
+                responses--;
+                if (messageReceived) {
+                    messages--;
+                }
+            }
+
+            requestResponses();
+        }
+
+        void onComplete() {
+            if (terminate()) {
+                subscriber.onComplete();
+            }
+        }
+
+        void fail(Throwable error) {
+            if (terminate()) {
+                subscriptionHandle.unsubscribe();
+                subscriber.onError(error);
+            }
+        }
+
+        private synchronized boolean terminate() {
+            if (terminated) {
+                return false;
+            }
+
+            terminated = true;
+            return true;
+        }
+
+        private void requestResponses() {
+            ClientCallStreamObserver<?> current;
+            int count;
+
+            synchronized (this) {
+                if (terminated || stream == null || responses >= messages) {
+                    return;
+                }
+
+                // never more than Integer.MAX_VALUE outstanding, which is what the stream can keep count of
+                count = (int) Math.min(messages - responses, Integer.MAX_VALUE - responses);
+                if (count <= 0) {
+                    return;
+                }
+
+                responses += count;
+                current = stream;
+            }
+
+            current.request(count);
+        }
     }
 }
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * Reassembles the messages of a topic subscription that were submitted in several chunks.
+ * <p>
+ * A message is forgotten as soon as all its chunks were received. The chunks of a message that will never be
+ * complete, because some were lost or fell outside the limit or time range of the subscription, are dropped once the
+ * message is older than {@link #getMaxPendingAge()} in consensus time, or once more than
+ * {@link #getMaxPendingMessages()} messages are incomplete, the oldest first. Each dropped message is reported.
+ * <p>
+ * The total number of chunks is set by whoever submitted the message, so the chunks of a message are held for as many
+ * as were received rather than for its total.
+ */
+final class TopicMessageReassembler {
+    static final int DEFAULT_MAX_PENDING_MESSAGES = 1_000;
+    static final Duration DEFAULT_MAX_PENDING_AGE = Duration.ofMinutes(5);
+
+    private final int maxPendingMessages;
+    private final Duration maxPendingAge;
+    private final Consumer<Throwable> onDropped;
+
+    // incomplete messages, the first received first
+    private final LinkedHashMap<TransactionID, Pending> pending = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param maxPendingMessages        the maximum number of incomplete messages kept
+     * @param maxPendingAge             how long after its first chunk a message is given up on, in consensus time
+     * @param onDropped                 called with the error describing each message given up on
+     */
+    TopicMessageReassembler(int maxPendingMessages, Duration maxPendingAge, Consumer<Throwable> onDropped) {
+        if (maxPendingMessages <= 0) {
+            throw new IllegalArgumentException("maxPendingMessages must be greater than zero");
+        }
+
+        this.maxPendingMessages = maxPendingMessages;
+        this.maxPendingAge = maxPendingAge;
+        this.onDropped = onDropped;
+    }
+
+    /**
+     * Extract the maximum number of incomplete messages kept.
+     *
+     * @return                          the maximum number of incomplete messages
+     */
+    int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    /**
+     * Extract how long after its first chunk a message is given up on, in consensus time.
+     *
+     * @return                          the maximum age of an incomplete message
+     */
+    Duration getMaxPendingAge() {
+        return maxPendingAge;
+    }
+
+    /**
+     * Extract the number of incomplete messages.
+     *
+     * @return                          the number of incomplete messages
+     */
+    synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * Extract the consensus timestamp of the first chunk received of the oldest incomplete message.
+     *
+     * @return                          the consensus timestamp, or {@code null} if no message is incomplete
+     */
+    @Nullable
+    synchronized Instant getOldestPendingTimestamp() {
+        var iterator = pending.values().iterator();
+        return iterator.hasNext() ? iterator.next().firstReceivedAt : null;
+    }
+
+    /**
+     * Add a response to the chunks of its message.
+     *
+     * @param response                  the response
+     * @return                          the message, or {@code null} until all its chunks were received
+     */
+    @Nullable
+    synchronized TopicMessageView add(ConsensusTopicResponse response) {
+        // Short circuit for no chunks or 1/1 chunks
+        if (!response.hasChunkInfo() || response.getChunkInfo().getTotal() <= 1) {
+            return TopicMessageView.ofSingle(response);
+        }
+
+        var chunkInfo = response.getChunkInfo();
+        var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+
+        var index = chunkInfo.getNumber() - 1;
+        if (index < 0 || index >= chunkInfo.getTotal()) {
+            onDropped.accept(new IllegalStateException("Ignoring chunk " + chunkInfo.getNumber() + " of "
+                    + chunkInfo.getTotal() + " of topic message "
+                    + describe(chunkInfo.getInitialTransactionID())));
+            return null;
+        }
+
+        dropOlderThan(consensusTimestamp.minus(maxPendingAge));
+
+        var message = pending.get(chunkInfo.getInitialTransactionID());
+        if (message == null) {
+            message = new Pending(chunkInfo.getTotal(), consensusTimestamp);
+            pending.put(chunkInfo.getInitialTransactionID(), message);
+
+            if (pending.size() > maxPendingMessages) {
+                dropEldest();
+            }
+        }
+
+        // a chunk received again, such as after a retry, is ignored, as is one disagreeing on the total
+        if (index >= message.total || message.chunks.putIfAbsent(index, response) != null) {
+            return null;
+        }
+
+        if (message.chunks.size() < message.total) {
+            return null;
+        }
+
+        pending.remove(chunkInfo.getInitialTransactionID());
+
+        var chunks = new ConsensusTopicResponse[message.total];
+        message.chunks.forEach((number, chunk) -> chunks[number] = chunk);
+        return new TopicMessageView(chunks, response);
+    }
+
+    private void dropOlderThan(Instant oldest) {
+        var iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (!entry.getValue().firstReceivedAt.isBefore(oldest)) {
+                return;
+            }
+
+            iterator.remove();
+            report(entry.getKey(), entry.getValue(), "it is older than " + maxPendingAge);
+        }
+    }
+
+    private void dropEldest() {
+        var iterator = pending.entrySet().iterator();
+        var entry = iterator.next();
+
+        iterator.remove();
+        report(entry.getKey(), entry.getValue(), "more than " + maxPendingMessages + " messages are incomplete");
+    }
+
+    private void report(TransactionID transactionId, Pending message, String reason) {
+        onDropped.accept(new IllegalStateException("Dropped topic message " + describe(transactionId)
+                + " after receiving " + message.chunks.size() + " of its " + message.total + " chunks, as "
+                + reason));
+    }
+
+    private static String describe(TransactionID transactionId) {
+        return transactionId.hasAccountID() && transactionId.hasTransactionValidStart()
+                ? TransactionId.fromProtobuf(transactionId).toString()
+                : "<unknown>";
+    }
+
+    private static final class Pending {
+        private final int total;
+
+        // by index, only those received
+        private final HashMap<Integer, ConsensusTopicResponse> chunks = new HashMap<>();
+        private final Instant firstReceivedAt;
+
+        private Pending(int total, Instant firstReceivedAt) {
+            this.total = total;
+            this.firstReceivedAt = firstReceivedAt;
+        }
+    }
+}
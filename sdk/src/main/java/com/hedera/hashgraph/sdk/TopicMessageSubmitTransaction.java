@@ -31,6 +31,8 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
     @Nullable
     private TopicId topicId = null;
 
+    private int maxConcurrentChunks = 1;
+
     /**
      * Constructor.
      */
@@ -122,6 +124,35 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
         return setData(message);
     }
 
+    /**
+     * Extract the maximum number of chunks of the message submitted at once.
+     *
+     * @return                          the maximum number of chunks
+     */
+    @Override
+    public int getMaxConcurrentChunks() {
+        return maxConcurrentChunks;
+    }
+
+    /**
+     * Assign the maximum number of chunks of the message submitted at once.
+     * <p>
+     * By default, each chunk is submitted once the chunk before it was accepted. With more than one, the chunks are
+     * submitted without waiting for each other and may reach consensus in any order, as subscribers reassemble the
+     * message by chunk number. Executing the transaction then completes only once every chunk reached consensus.
+     *
+     * @param maxConcurrentChunks       the maximum number of chunks
+     * @return {@code this}
+     */
+    public TopicMessageSubmitTransaction setMaxConcurrentChunks(int maxConcurrentChunks) {
+        if (maxConcurrentChunks <= 0) {
+            throw new IllegalArgumentException("maxConcurrentChunks must be greater than zero");
+        }
+
+        this.maxConcurrentChunks = maxConcurrentChunks;
+        return this;
+    }
+
     /**
      * Extract the custom fee limits of the transaction
      * @return the custom fee limits of the transaction
@@ -0,0 +1,213 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A topic message read straight from the responses of the mirror node it was received in.
+ * <p>
+ * Unlike {@link TopicMessage}, nothing is copied or decoded up front. The contents of a message received in several
+ * chunks are the contents of its chunks joined without copying them, and the timestamps, the transaction ID and the
+ * chunks are only decoded when asked for. This suits consumers of many messages that only look at part of each.
+ * {@link #toTopicMessage()} converts a view into a {@link TopicMessage}.
+ *
+ * @see TopicMessageQuery#subscribeToViews(Client, java.util.function.Consumer)
+ */
+public final class TopicMessageView {
+    // in chunk order
+    private final ConsensusTopicResponse[] responses;
+
+    // the response received last, which completed the message
+    private final ConsensusTopicResponse lastReceived;
+
+    // joined when first asked for; joining again in a race yields an equal value
+    @Nullable
+    private ByteString contents = null;
+
+    /**
+     * Constructor.
+     *
+     * @param responses                 the protobuf responses, in chunk order, which must not be modified afterwards
+     * @param lastReceived              the response received last, which completed the message
+     */
+    TopicMessageView(ConsensusTopicResponse[] responses, ConsensusTopicResponse lastReceived) {
+        this.responses = responses;
+        this.lastReceived = lastReceived;
+    }
+
+    /**
+     * Create a view of a message received in a single response.
+     *
+     * @param response                  the protobuf response
+     * @return                          the new view
+     */
+    static TopicMessageView ofSingle(ConsensusTopicResponse response) {
+        return new TopicMessageView(new ConsensusTopicResponse[] {response}, response);
+    }
+
+    /**
+     * Extract the consensus timestamp of the message, which is that of its last chunk.
+     *
+     * @return                          the consensus timestamp
+     */
+    public Instant getConsensusTimestamp() {
+        return InstantConverter.fromProtobuf(lastReceived.getConsensusTimestamp());
+    }
+
+    /**
+     * Extract the sequence number of the message, which is that of its last chunk.
+     *
+     * @return                          the sequence number
+     */
+    public long getSequenceNumber() {
+        return lastReceived.getSequenceNumber();
+    }
+
+    /**
+     * Extract the running hash of the topic after the message.
+     *
+     * @return                          the running hash
+     */
+    public ByteString getRunningHash() {
+        return lastReceived.getRunningHash();
+    }
+
+    /**
+     * Extract the contents of the message. The contents of a message received in several chunks are a rope over
+     * the contents of the chunks.
+     *
+     * @return                          the contents
+     */
+    public ByteString getContents() {
+        var joined = contents;
+
+        if (joined == null) {
+            joined = responses[0].getMessage();
+            for (var i = 1; i < responses.length; i++) {
+                joined = joined.concat(responses[i].getMessage());
+            }
+
+            contents = joined;
+        }
+
+        return joined;
+    }
+
+    /**
+     * Extract the size of the contents of the message.
+     *
+     * @return                          the size in bytes
+     */
+    public int getContentsSize() {
+        var size = 0;
+        for (var response : responses) {
+            size += response.getMessage().size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Extract the contents of the message as read-only buffers, one per piece of the contents, none of which are
+     * copied.
+     *
+     * @return                          the buffers, in order
+     */
+    public List<ByteBuffer> getContentsAsReadOnlyByteBuffers() {
+        return getContents().asReadOnlyByteBufferList();
+    }
+
+    /**
+     * Extract the contents of the message as a single read-only buffer. The contents of a message received in one
+     * chunk are not copied; those of a message received in several chunks are.
+     *
+     * @return                          the buffer
+     */
+    public ByteBuffer getContentsAsReadOnlyByteBuffer() {
+        return responses.length == 1
+                ? responses[0].getMessage().asReadOnlyByteBuffer()
+                : getContents().asReadOnlyByteBuffer();
+    }
+
+    /**
+     * Extract the ID of the transaction that submitted the message.
+     *
+     * @return                          the transaction ID, or {@code null} if the mirror node did not provide it
+     */
+    @Nullable
+    public TransactionId getTransactionId() {
+        for (var response : responses) {
+            if (response.hasChunkInfo() && response.getChunkInfo().hasInitialTransactionID()) {
+                return TransactionId.fromProtobuf(response.getChunkInfo().getInitialTransactionID());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Extract the number of chunks the message was received in.
+     *
+     * @return                          the number of chunks
+     */
+    public int getChunkCount() {
+        return responses.length;
+    }
+
+    /**
+     * Extract the consensus timestamp of a chunk.
+     *
+     * @param index                     the index of the chunk, from zero
+     * @return                          the consensus timestamp
+     */
+    public Instant getChunkConsensusTimestamp(int index) {
+        return InstantConverter.fromProtobuf(responses[index].getConsensusTimestamp());
+    }
+
+    /**
+     * Extract the sequence number of a chunk.
+     *
+     * @param index                     the index of the chunk, from zero
+     * @return                          the sequence number
+     */
+    public long getChunkSequenceNumber(int index) {
+        return responses[index].getSequenceNumber();
+    }
+
+    /**
+     * Extract the contents of a chunk.
+     *
+     * @param index                     the index of the chunk, from zero
+     * @return                          the contents
+     */
+    public ByteString getChunkContents(int index) {
+        return responses[index].getMessage();
+    }
+
+    /**
+     * Copy the message into a {@link TopicMessage}.
+     *
+     * @return                          the topic message
+     */
+    public TopicMessage toTopicMessage() {
+        return responses.length == 1
+                ? TopicMessage.ofSingle(lastReceived)
+                : TopicMessage.ofChunks(responses, lastReceived);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("consensusTimestamp", getConsensusTimestamp())
+                .add("contentsSize", getContentsSize())
+                .add("sequenceNumber", getSequenceNumber())
+                .add("chunks", responses.length)
+                .toString();
+    }
+}
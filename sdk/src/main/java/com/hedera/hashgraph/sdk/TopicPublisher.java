@@ -0,0 +1,420 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.annotation.Nullable;
+
+/**
+ * Publishes messages to topics in the order they are given, with many messages of each topic in flight at once.
+ * <p>
+ * The messages of a topic are submitted one after the other to the same node: a node passes the transactions it
+ * accepted on to consensus in the order it accepted them, so each message is submitted as soon as the node accepted
+ * the one before it, without waiting for its receipt. Up to {@link #setMaxInFlightPerTopic(int)} messages of a topic
+ * can be waiting for their receipt.
+ * <p>
+ * A submission rejected by the precheck of the node fails the message alone. A node that does not answer is only
+ * given up on for another once every message it accepted reached consensus, and the message is then submitted again
+ * to the new node, so a retry never overtakes a message submitted before it. A message whose submission timed out
+ * may still have been accepted, in which case submitting it again publishes it twice.
+ * <p>
+ * Each message completes with the topic sequence number and running hash assigned to it by consensus, read from the
+ * receipt of its last chunk through the {@link ReceiptTracker} of the client.
+ */
+public final class TopicPublisher implements AutoCloseable {
+    static final int DEFAULT_MAX_IN_FLIGHT_PER_TOPIC = 256;
+    static final int DEFAULT_MAX_SUBMIT_ATTEMPTS = 3;
+
+    private final Client client;
+    private final Map<TopicId, Lane> lanes = new HashMap<>();
+
+    private int maxInFlightPerTopic = DEFAULT_MAX_IN_FLIGHT_PER_TOPIC;
+    private int maxSubmitAttempts = DEFAULT_MAX_SUBMIT_ATTEMPTS;
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client the messages are submitted with, which pays for them
+     */
+    public TopicPublisher(Client client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Extract the maximum number of messages of a topic waiting for their receipt.
+     *
+     * @return                          the maximum number of messages
+     */
+    public synchronized int getMaxInFlightPerTopic() {
+        return maxInFlightPerTopic;
+    }
+
+    /**
+     * Assign the maximum number of messages of a topic waiting for their receipt. Messages published past it wait to
+     * be submitted.
+     *
+     * @param maxInFlightPerTopic       the maximum number of messages
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxInFlightPerTopic(int maxInFlightPerTopic) {
+        if (maxInFlightPerTopic <= 0) {
+            throw new IllegalArgumentException("maxInFlightPerTopic must be greater than zero");
+        }
+
+        this.maxInFlightPerTopic = maxInFlightPerTopic;
+        return this;
+    }
+
+    /**
+     * Extract the maximum number of nodes a message is submitted to before it fails.
+     *
+     * @return                          the maximum number of attempts
+     */
+    public synchronized int getMaxSubmitAttempts() {
+        return maxSubmitAttempts;
+    }
+
+    /**
+     * Assign the maximum number of nodes a message is submitted to before it fails. Each node is retried as usual
+     * for a transaction before the next one is tried.
+     *
+     * @param maxSubmitAttempts         the maximum number of attempts
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxSubmitAttempts(int maxSubmitAttempts) {
+        if (maxSubmitAttempts <= 0) {
+            throw new IllegalArgumentException("maxSubmitAttempts must be greater than zero");
+        }
+
+        this.maxSubmitAttempts = maxSubmitAttempts;
+        return this;
+    }
+
+    /**
+     * Publish a message to a topic, after the messages published to the topic before it.
+     *
+     * @param topicId                   the topic
+     * @param message                   the message, split into chunks if it is too large for one transaction
+     * @return                          future result of the published message
+     */
+    public CompletableFuture<PublishedMessage> publish(TopicId topicId, ByteString message) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+
+        if (message.isEmpty()) {
+            throw new IllegalArgumentException("message cannot be empty");
+        }
+
+        Lane lane;
+
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("the publisher has been closed"));
+            }
+
+            lane = lanes.computeIfAbsent(topicId, Lane::new);
+        }
+
+        return lane.add(message);
+    }
+
+    /**
+     * Publish a message to a topic, after the messages published to the topic before it.
+     *
+     * @param topicId                   the topic
+     * @param message                   the message, split into chunks if it is too large for one transaction
+     * @return                          future result of the published message
+     */
+    public CompletableFuture<PublishedMessage> publish(TopicId topicId, byte[] message) {
+        return publish(topicId, ByteString.copyFrom(message));
+    }
+
+    /**
+     * Publish a message to a topic, after the messages published to the topic before it.
+     *
+     * @param topicId                   the topic
+     * @param message                   the message, encoded in UTF-8
+     * @return                          future result of the published message
+     */
+    public CompletableFuture<PublishedMessage> publish(TopicId topicId, String message) {
+        return publish(topicId, ByteString.copyFromUtf8(message));
+    }
+
+    /**
+     * Extract the number of messages published and not completed yet, over every topic.
+     *
+     * @return                          the number of messages
+     */
+    public int getPendingCount() {
+        List<Lane> current;
+
+        synchronized (this) {
+            current = List.copyOf(lanes.values());
+        }
+
+        var pending = 0;
+        for (var lane : current) {
+            pending += lane.getPendingCount();
+        }
+
+        return pending;
+    }
+
+    /**
+     * Stop accepting messages. The messages already published are still submitted.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+    }
+
+    /**
+     * Pick the node to submit the messages of a topic to, another one than the node given up on if possible.
+     */
+    private AccountId pickNode(@Nullable AccountId givenUpOn) {
+        List<AccountId> healthyNodeIds;
+
+        try {
+            healthyNodeIds = client.network.getNodeAccountIdsForExecute();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+
+        for (var nodeId : healthyNodeIds) {
+            if (!nodeId.equals(givenUpOn)) {
+                return nodeId;
+            }
+        }
+
+        return healthyNodeIds.get(0);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Whether a failed submission shows the message was not accepted by the network, rather than the node not
+     * answering.
+     */
+    private static boolean isRejected(Throwable error) {
+        return error instanceof PrecheckStatusException || error instanceof IllegalArgumentException;
+    }
+
+    /**
+     * A message published to a topic.
+     */
+    public static final class PublishedMessage {
+        /**
+         * The topic the message was published to
+         */
+        public final TopicId topicId;
+        /**
+         * The ID of the transaction of the first chunk of the message
+         */
+        public final TransactionId transactionId;
+        /**
+         * The sequence number of the message in the topic
+         */
+        public final long sequenceNumber;
+        /**
+         * The running hash of the topic after the message
+         */
+        public final ByteString runningHash;
+        /**
+         * The receipt of the last chunk of the message
+         */
+        public final TransactionReceipt receipt;
+
+        private PublishedMessage(TopicId topicId, TransactionId transactionId, TransactionReceipt receipt) {
+            this.topicId = topicId;
+            this.transactionId = transactionId;
+            this.sequenceNumber = Objects.requireNonNull(receipt.topicSequenceNumber);
+            this.runningHash = Objects.requireNonNull(receipt.topicRunningHash);
+            this.receipt = receipt;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("topicId", topicId)
+                    .add("transactionId", transactionId)
+                    .add("sequenceNumber", sequenceNumber)
+                    .toString();
+        }
+    }
+
+    private static final class Pending {
+        private final ByteString message;
+        private final CompletableFuture<PublishedMessage> future = new CompletableFuture<>();
+
+        // nodes the message was submitted to so far
+        private int attempts = 0;
+
+        private Pending(ByteString message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * The messages of one topic, submitted one after the other.
+     */
+    private final class Lane {
+        private final TopicId topicId;
+
+        // waiting to be submitted, the one being submitted first
+        private final Queue<Pending> queue = new ArrayDeque<>();
+
+        // whether the message first in the queue is being submitted
+        private boolean submitting = false;
+
+        // messages accepted and waiting for their receipt
+        private int inFlight = 0;
+
+        @Nullable
+        private AccountId node = null;
+
+        // whether the node was given up on, so that another one is used once the messages in flight completed
+        private boolean switchingNode = false;
+
+        private Lane(TopicId topicId) {
+            this.topicId = topicId;
+        }
+
+        private synchronized int getPendingCount() {
+            return queue.size() + inFlight;
+        }
+
+        private CompletableFuture<PublishedMessage> add(ByteString message) {
+            var pending = new Pending(message);
+
+            synchronized (this) {
+                queue.add(pending);
+            }
+
+            submitNext();
+            return pending.future;
+        }
+
+        private void submitNext() {
+            Pending next;
+            AccountId target;
+
+            while (true) {
+                synchronized (this) {
+                    next = queue.peek();
+
+                    if (next == null
+                            || submitting
+                            || inFlight >= getMaxInFlightPerTopic()
+                            || (switchingNode && inFlight > 0)) {
+                        return;
+                    }
+
+                    if (node == null || switchingNode) {
+                        try {
+                            node = pickNode(node);
+                            switchingNode = false;
+                        } catch (RuntimeException e) {
+                            // the next message may find a healthy node
+                            queue.poll();
+                            next.future.completeExceptionally(unwrap(e));
+                            continue;
+                        }
+                    }
+
+                    submitting = true;
+                    next.attempts++;
+                    target = node;
+                }
+
+                submit(next, target);
+                return;
+            }
+        }
+
+        private void submit(Pending pending, AccountId target) {
+            var transaction = new TopicMessageSubmitTransaction()
+                    .setTopicId(topicId)
+                    .setMessage(pending.message)
+                    .setNodeAccountIds(List.of(target));
+
+            CompletableFuture<List<TransactionResponse>> submitted;
+            try {
+                submitted = transaction.executeAllAsync(client);
+            } catch (RuntimeException e) {
+                submitted = CompletableFuture.failedFuture(e);
+            }
+
+            submitted.whenComplete((responses, error) -> {
+                if (error == null) {
+                    onAccepted(pending, responses);
+                } else {
+                    onFailed(pending, target, unwrap(error));
+                }
+            });
+        }
+
+        private void onAccepted(Pending pending, List<TransactionResponse> responses) {
+            synchronized (this) {
+                queue.poll();
+                submitting = false;
+                inFlight++;
+            }
+
+            var first = responses.get(0);
+            var last = responses.get(responses.size() - 1);
+
+            client.getReceiptTracker().track(last).whenComplete((receipt, error) -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+
+                if (error != null) {
+                    pending.future.completeExceptionally(unwrap(error));
+                } else {
+                    try {
+                        pending.future.complete(new PublishedMessage(topicId, first.transactionId, receipt));
+                    } catch (RuntimeException e) {
+                        pending.future.completeExceptionally(e);
+                    }
+                }
+
+                submitNext();
+            });
+
+            submitNext();
+        }
+
+        private void onFailed(Pending pending, AccountId target, Throwable error) {
+            var retry = !isRejected(error) && pending.attempts < getMaxSubmitAttempts();
+
+            synchronized (this) {
+                submitting = false;
+
+                if (retry) {
+                    // nothing after this message was submitted, so it keeps its place
+                    switchingNode = target.equals(node);
+                } else {
+                    queue.poll();
+                }
+            }
+
+            if (!retry) {
+                pending.future.completeExceptionally(error);
+            }
+
+            submitNext();
+        }
+    }
+}
@@ -0,0 +1,511 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * Subscribes to many topics, sharing the mirror nodes between the subscriptions.
+ * <p>
+ * Each subscription retries like any other {@link TopicMessageQuery} subscription, but its streams are opened through
+ * the manager:
+ * <ul>
+ *     <li>a stream is opened on the healthy mirror node with the fewest streams of the manager, as long as it has
+ *     fewer than {@link #getMaxStreamsPerMirrorNode()}; once every mirror node has that many, streams wait for
+ *     another to end;
+ *     <li>streams are opened no more often than once every {@link #getStreamOpenInterval()}, so that when a mirror
+ *     node fails, its subscriptions reconnect gradually rather than all at once.
+ * </ul>
+ * The streams opened on the same mirror node share its channel. {@link #getMetrics()} reports on the subscriptions
+ * together.
+ */
+public final class TopicSubscriptionManager implements AutoCloseable {
+    static final int DEFAULT_MAX_STREAMS_PER_MIRROR_NODE = 1_000;
+    static final Duration DEFAULT_STREAM_OPEN_INTERVAL = Duration.ofMillis(5);
+
+    private final Client client;
+    private final Scheduler scheduler = new Scheduler();
+
+    private final Map<TopicMessageQuery.Subscription, SubscriptionHandle> subscriptions = new HashMap<>();
+    private final Map<MirrorNode, Integer> streamsPerNode = new HashMap<>();
+    private final ArrayDeque<CompletableFuture<MirrorNode>> waiting = new ArrayDeque<>();
+
+    private int maxStreamsPerMirrorNode = DEFAULT_MAX_STREAMS_PER_MIRROR_NODE;
+    private Duration streamOpenInterval = DEFAULT_STREAM_OPEN_INTERVAL;
+
+    // System.nanoTime() before which no stream is opened
+    private long nextOpenAt = System.nanoTime();
+    private boolean drainScheduled = false;
+    private boolean closed = false;
+
+    // what the subscriptions that ended had received, as they are no longer kept
+    private long endedResponses = 0;
+    private long endedReconnects = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client the subscriptions are made with
+     */
+    public TopicSubscriptionManager(Client client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Extract the maximum number of streams open to the same mirror node.
+     *
+     * @return                          the maximum number of streams per mirror node
+     */
+    public synchronized int getMaxStreamsPerMirrorNode() {
+        return maxStreamsPerMirrorNode;
+    }
+
+    /**
+     * Assign the maximum number of streams open to the same mirror node.
+     *
+     * @param maxStreamsPerMirrorNode   the maximum number of streams per mirror node
+     * @return {@code this}
+     */
+    public TopicSubscriptionManager setMaxStreamsPerMirrorNode(int maxStreamsPerMirrorNode) {
+        if (maxStreamsPerMirrorNode <= 0) {
+            throw new IllegalArgumentException("maxStreamsPerMirrorNode must be greater than zero");
+        }
+
+        synchronized (this) {
+            this.maxStreamsPerMirrorNode = maxStreamsPerMirrorNode;
+        }
+
+        drain();
+        return this;
+    }
+
+    /**
+     * Extract the minimum time between the opening of two streams.
+     *
+     * @return                          the stream open interval
+     */
+    public synchronized Duration getStreamOpenInterval() {
+        return streamOpenInterval;
+    }
+
+    /**
+     * Assign the minimum time between the opening of two streams. Zero opens them as soon as possible.
+     *
+     * @param streamOpenInterval        the stream open interval
+     * @return {@code this}
+     */
+    public synchronized TopicSubscriptionManager setStreamOpenInterval(Duration streamOpenInterval) {
+        if (streamOpenInterval == null || streamOpenInterval.isNegative()) {
+            throw new IllegalArgumentException("streamOpenInterval must not be a negative duration");
+        }
+
+        this.streamOpenInterval = streamOpenInterval;
+        return this;
+    }
+
+    /**
+     * Subscribe to the topic of the query.
+     *
+     * @param query                     the query of the topic messages
+     * @param onNext                    the consumer of the messages
+     * @return                          the handle of the subscription
+     */
+    public SubscriptionHandle subscribe(TopicMessageQuery query, Consumer<TopicMessage> onNext) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(onNext, "onNext must not be null");
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("the topic subscription manager is closed");
+            }
+        }
+
+        var subscriptionHandle = new SubscriptionHandle();
+        var subscription = query.subscribe(client, subscriptionHandle, onNext, scheduler);
+
+        boolean added;
+        synchronized (this) {
+            added = !closed;
+            if (added) {
+                subscriptions.put(subscription, subscriptionHandle);
+            }
+        }
+
+        if (!added) {
+            subscriptionHandle.unsubscribe();
+            return subscriptionHandle;
+        }
+
+        // a subscription that ended before it was added was not removed by the scheduler
+        if (subscription.getState().isTerminal()) {
+            forget(subscription);
+        }
+
+        return subscriptionHandle;
+    }
+
+    /**
+     * Extract the number of subscriptions kept, which have not ended.
+     *
+     * @return                          the number of subscriptions
+     */
+    synchronized int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Measure the subscriptions of the manager.
+     *
+     * @return                          the metrics
+     */
+    public Metrics getMetrics() {
+        List<TopicMessageQuery.Subscription> current;
+        int openStreams;
+        int waitingStreams;
+
+        synchronized (this) {
+            current = new ArrayList<>(subscriptions.keySet());
+            openStreams = streamsPerNode.values().stream().mapToInt(Integer::intValue).sum();
+            waitingStreams = (int) waiting.stream().filter(future -> !future.isDone()).count();
+        }
+
+        var now = Instant.now();
+        var active = 0;
+        long responses = 0;
+        long reconnects = 0;
+        var maxLag = Duration.ZERO;
+        var totalLag = Duration.ZERO;
+        var lagging = 0;
+
+        for (var subscription : current) {
+            var state = subscription.getState();
+
+            // ended, and being forgotten
+            if (state.isTerminal()) {
+                continue;
+            }
+
+            active++;
+            responses += subscription.getReceived();
+            reconnects += Math.max(subscription.getConnections() - 1, 0);
+
+            var lastConsensusTimestamp = subscription.getLastConsensusTimestamp();
+            if (state == TopicMessageQuery.SubscriptionState.STREAMING && lastConsensusTimestamp != null) {
+                var lag = Duration.between(lastConsensusTimestamp, now);
+                maxLag = lag.compareTo(maxLag) > 0 ? lag : maxLag;
+                totalLag = totalLag.plus(lag);
+                lagging++;
+            }
+        }
+
+        synchronized (this) {
+            return new Metrics(
+                    now,
+                    active,
+                    openStreams,
+                    waitingStreams,
+                    endedResponses + responses,
+                    endedReconnects + reconnects,
+                    maxLag,
+                    lagging > 0 ? totalLag.dividedBy(lagging) : Duration.ZERO);
+        }
+    }
+
+    /**
+     * Cancel every subscription of the manager. No subscription can be made once closed.
+     */
+    @Override
+    public void close() {
+        List<SubscriptionHandle> handles;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            handles = new ArrayList<>(subscriptions.values());
+            subscriptions.clear();
+        }
+
+        for (var handle : handles) {
+            handle.unsubscribe();
+        }
+    }
+
+    /**
+     * Stop keeping a subscription that ended, keeping what it received for the metrics.
+     */
+    private void forget(TopicMessageQuery.Subscription subscription) {
+        var received = subscription.getReceived();
+        var reconnects = Math.max(subscription.getConnections() - 1, 0);
+
+        synchronized (this) {
+            // counted once, by whichever call removes it
+            if (subscriptions.remove(subscription) != null) {
+                endedResponses += received;
+                endedReconnects += reconnects;
+            }
+        }
+    }
+
+    /**
+     * Open as many of the waiting streams as allowed.
+     */
+    private void drain() {
+        var granted = new ArrayList<CompletableFuture<MirrorNode>>();
+        var grantedNodes = new ArrayList<MirrorNode>();
+        var failed = new ArrayList<CompletableFuture<MirrorNode>>();
+        Throwable failure = null;
+        long delayNanos = 0;
+
+        synchronized (this) {
+            if (drainScheduled) {
+                return;
+            }
+
+            for (var next = waiting.peek(); next != null; next = waiting.peek()) {
+                if (next.isDone()) {
+                    // cancelled
+                    waiting.poll();
+                    continue;
+                }
+
+                var now = System.nanoTime();
+                if (now - nextOpenAt < 0) {
+                    delayNanos = nextOpenAt - now;
+                    drainScheduled = true;
+                    break;
+                }
+
+                MirrorNode node;
+                try {
+                    node = pickNode();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = e;
+                    failed.addAll(waiting);
+                    waiting.clear();
+                    break;
+                } catch (RuntimeException e) {
+                    failure = e;
+                    failed.addAll(waiting);
+                    waiting.clear();
+                    break;
+                }
+
+                if (node == null) {
+                    // every mirror node is full, until a stream ends
+                    break;
+                }
+
+                streamsPerNode.merge(node, 1, Integer::sum);
+                nextOpenAt = now + streamOpenInterval.toNanos();
+                waiting.poll();
+                granted.add(next);
+                grantedNodes.add(node);
+            }
+        }
+
+        for (var i = 0; i < granted.size(); i++) {
+            if (!granted.get(i).complete(grantedNodes.get(i))) {
+                scheduler.release(grantedNodes.get(i));
+            }
+        }
+
+        for (var future : failed) {
+            future.completeExceptionally(Objects.requireNonNull(failure));
+        }
+
+        if (delayNanos > 0) {
+            var delayMillis = Math.max(Duration.ofNanos(delayNanos).toMillis(), 1);
+            Delayer.delayFor(delayMillis, client.executor).thenRun(() -> {
+                synchronized (this) {
+                    drainScheduled = false;
+                }
+
+                drain();
+            });
+        }
+    }
+
+    /**
+     * Pick the healthy mirror node with the fewest streams, if any has room for one more.
+     */
+    @Nullable
+    private MirrorNode pickNode() throws InterruptedException {
+        MirrorNode best = null;
+        var bestStreams = maxStreamsPerMirrorNode;
+
+        for (var node : client.mirrorNetwork.getHealthyMirrorNodes()) {
+            var streams = streamsPerNode.getOrDefault(node, 0);
+
+            if (streams < bestStreams
+                    || (best != null && streams == bestStreams && node.getScore() < best.getScore())) {
+                best = node;
+                bestStreams = streams;
+            }
+        }
+
+        return best;
+    }
+
+    private final class Scheduler implements TopicMessageQuery.StreamScheduler {
+        @Override
+        public CompletableFuture<MirrorNode> acquire() {
+            var future = new CompletableFuture<MirrorNode>();
+
+            synchronized (TopicSubscriptionManager.this) {
+                waiting.add(future);
+            }
+
+            drain();
+            return future;
+        }
+
+        @Override
+        public void release(MirrorNode node) {
+            synchronized (TopicSubscriptionManager.this) {
+                streamsPerNode.computeIfPresent(node, (key, streams) -> streams > 1 ? streams - 1 : null);
+            }
+
+            drain();
+        }
+
+        @Override
+        public void ended(TopicMessageQuery.Subscription subscription) {
+            forget(subscription);
+        }
+    }
+
+    /**
+     * A measure of the subscriptions of a {@link TopicSubscriptionManager}.
+     */
+    public static final class Metrics {
+        private final Instant takenAt;
+        private final int activeSubscriptions;
+        private final int openStreams;
+        private final int waitingStreams;
+        private final long responsesReceived;
+        private final long reconnects;
+        private final Duration maxLag;
+        private final Duration averageLag;
+
+        private Metrics(
+                Instant takenAt,
+                int activeSubscriptions,
+                int openStreams,
+                int waitingStreams,
+                long responsesReceived,
+                long reconnects,
+                Duration maxLag,
+                Duration averageLag) {
+            this.takenAt = takenAt;
+            this.activeSubscriptions = activeSubscriptions;
+            this.openStreams = openStreams;
+            this.waitingStreams = waitingStreams;
+            this.responsesReceived = responsesReceived;
+            this.reconnects = reconnects;
+            this.maxLag = maxLag;
+            this.averageLag = averageLag;
+        }
+
+        /**
+         * Extract when the metrics were taken.
+         *
+         * @return                          the time of the metrics
+         */
+        public Instant getTakenAt() {
+            return takenAt;
+        }
+
+        /**
+         * Extract the number of subscriptions that have not ended.
+         *
+         * @return                          the number of active subscriptions
+         */
+        public int getActiveSubscriptions() {
+            return activeSubscriptions;
+        }
+
+        /**
+         * Extract the number of streams open to the mirror nodes.
+         *
+         * @return                          the number of open streams
+         */
+        public int getOpenStreams() {
+            return openStreams;
+        }
+
+        /**
+         * Extract the number of streams waiting for a mirror node to have room for them, or for their turn to open.
+         *
+         * @return                          the number of waiting streams
+         */
+        public int getWaitingStreams() {
+            return waitingStreams;
+        }
+
+        /**
+         * Extract the number of responses received by the subscriptions since the manager was created, each chunk of
+         * a message counting as one.
+         *
+         * @return                          the number of responses
+         */
+        public long getResponsesReceived() {
+            return responsesReceived;
+        }
+
+        /**
+         * Extract the number of streams opened to resume a subscription since the manager was created.
+         *
+         * @return                          the number of reconnects
+         */
+        public long getReconnects() {
+            return reconnects;
+        }
+
+        /**
+         * Extract the longest time since the consensus timestamp of the last response of a streaming subscription.
+         * For a topic receiving no messages, it is the time since its last message.
+         *
+         * @return                          the maximum lag
+         */
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        /**
+         * Extract the average time since the consensus timestamp of the last response of the streaming subscriptions.
+         *
+         * @return                          the average lag
+         */
+        public Duration getAverageLag() {
+            return averageLag;
+        }
+
+        /**
+         * Extract the throughput of the subscriptions between earlier metrics and these.
+         *
+         * @param earlier                   metrics taken earlier
+         * @return                          the number of responses received per second
+         */
+        public double getResponsesPerSecondSince(Metrics earlier) {
+            var elapsed = Duration.between(earlier.takenAt, takenAt);
+            if (elapsed.isNegative() || elapsed.isZero()) {
+                return 0;
+            }
+
+            return (responsesReceived - earlier.responsesReceived) / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
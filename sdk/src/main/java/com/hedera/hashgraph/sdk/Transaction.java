@@ -1,15 +1,22 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteOutput;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -27,6 +34,7 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.digests.SHA384Digest;
 
 /**
@@ -285,6 +293,22 @@ public abstract class Transaction<T extends Transaction<T>>
         return createTransactionFromDataCase(dataCase, txsMap);
     }
 
+    /**
+     * Create the correct transaction from a parsed {@code TransactionList}, as written by {@link #toBytes()}.
+     *
+     * @param list the transaction list
+     * @return the new transaction
+     * @throws InvalidProtocolBufferException when there is an issue with the protobuf
+     */
+    static Transaction<?> fromTransactionList(TransactionList list) throws InvalidProtocolBufferException {
+        var txsMap = new LinkedHashMap<
+                TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>>();
+
+        var dataCase = processTransactionList(list.getTransactionListList(), txsMap);
+
+        return createTransactionFromDataCase(dataCase, txsMap);
+    }
+
     /**
      * Process a single transaction
      */
@@ -728,6 +752,27 @@ public abstract class Transaction<T extends Transaction<T>>
         return hash;
     }
 
+    /**
+     * Generate a hash from a byte string, feeding each of its segments to the digest without copying them.
+     *
+     * @param bytes the byte string
+     * @return the hash
+     */
+    static byte[] hash(ByteString bytes) {
+        var digest = new SHA384Digest();
+        var hash = new byte[digest.getDigestSize()];
+
+        try {
+            UnsafeByteOperations.unsafeWriteTo(bytes, new DigestByteOutput(digest));
+        } catch (IOException e) {
+            // updating a digest cannot fail
+            throw new IllegalStateException(e);
+        }
+        digest.doFinal(hash, 0);
+
+        return hash;
+    }
+
     private static boolean publicKeyIsInSigPairList(ByteString publicKeyBytes, List<SignaturePair> sigPairList) {
         for (var pair : sigPairList) {
             if (pair.getPubKeyPrefix().equals(publicKeyBytes)) {
@@ -947,6 +992,67 @@ public abstract class Transaction<T extends Transaction<T>>
      * @return the byte array representation
      */
     public byte[] toBytes() {
+        return buildTransactionList().toByteArray();
+    }
+
+    /**
+     * Write the same representation as {@link #toBytes()} to an output stream without first materializing it as a
+     * byte array.
+     *
+     * @param output the stream to write to
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        buildTransactionList().writeTo(output);
+    }
+
+    /**
+     * Write the same representation as {@link #toBytes()} to a coded output stream.
+     * <p>
+     * The stream is not flushed, so several transactions can be written before the caller flushes it.
+     *
+     * @param output the coded stream to write to
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(CodedOutputStream output) throws IOException {
+        buildTransactionList().writeTo(output);
+    }
+
+    /**
+     * Write the same representation as {@link #toBytes()} into a buffer, starting at its current position.
+     * <p>
+     * On return the position of the buffer has been advanced past the written bytes.
+     *
+     * @param buffer the buffer to write to
+     * @return the number of bytes written
+     * @throws BufferOverflowException when the buffer does not have enough space remaining
+     */
+    public int writeTo(ByteBuffer buffer) {
+        var list = buildTransactionList();
+        var size = list.getSerializedSize();
+
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        try {
+            var output = CodedOutputStream.newInstance(buffer);
+            list.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            // the space was checked above, so the buffer cannot run out
+            throw new IllegalStateException(e);
+        }
+
+        return size;
+    }
+
+    /**
+     * Build the {@code TransactionList} protobuf which is the serialized form of this transaction.
+     *
+     * @return the transaction list
+     */
+    TransactionList buildTransactionList() {
         var list = TransactionList.newBuilder();
 
         // If no nodes have been selected yet,
@@ -990,7 +1096,7 @@ public abstract class Transaction<T extends Transaction<T>>
             }
         }
 
-        return list.build().toByteArray();
+        return list.build();
     }
 
     /**
@@ -1011,7 +1117,7 @@ public abstract class Transaction<T extends Transaction<T>>
 
         buildTransaction(index);
 
-        return hash(outerTransactions.get(index).getSignedTransactionBytes().toByteArray());
+        return hash(outerTransactions.get(index).getSignedTransactionBytes());
     }
 
     /**
@@ -1032,7 +1138,7 @@ public abstract class Transaction<T extends Transaction<T>>
         for (var i = 0; i < outerTransactions.size(); i++) {
             hashes.put(
                     nodeAccountIds.get(i),
-                    hash(outerTransactions.get(i).getSignedTransactionBytes().toByteArray()));
+                    hash(outerTransactions.get(i).getSignedTransactionBytes()));
         }
 
         return hashes;
@@ -1643,7 +1749,7 @@ public abstract class Transaction<T extends Transaction<T>>
             AccountId nodeId,
             com.hedera.hashgraph.sdk.proto.Transaction request) {
         var transactionId = Objects.requireNonNull(getTransactionIdInternal());
-        var hash = hash(request.getSignedTransactionBytes().toByteArray());
+        var hash = hash(request.getSignedTransactionBytes());
         // advance is needed for chunked transactions
         transactionIds.advance();
         return new TransactionResponse(nodeId, transactionId, hash, null, this);
@@ -1981,4 +2087,52 @@ public abstract class Transaction<T extends Transaction<T>>
         publicKeys.add(publicKey);
         signers.add(null);
     }
+
+    /**
+     * Feeds everything written to it into a digest, reading segments in place.
+     */
+    private static final class DigestByteOutput extends ByteOutput {
+        private final Digest digest;
+
+        private DigestByteOutput(Digest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(byte value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            if (value.hasArray()) {
+                digest.update(value.array(), value.arrayOffset() + value.position(), value.remaining());
+                value.position(value.limit());
+                return;
+            }
+
+            // direct buffers are copied through a small scratch array rather than as a whole
+            var chunk = new byte[Math.min(value.remaining(), 4096)];
+            while (value.hasRemaining()) {
+                var length = Math.min(value.remaining(), chunk.length);
+                value.get(chunk, 0, length);
+                digest.update(chunk, 0, length);
+            }
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            write(value);
+        }
+    }
 }
@@ -0,0 +1,370 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static com.hedera.hashgraph.sdk.TransactionBatchWriter.FILE_HEADER_SIZE;
+import static com.hedera.hashgraph.sdk.TransactionBatchWriter.RECORD_HEADER_SIZE;
+
+import com.google.protobuf.CodedOutputStream;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+
+/**
+ * Reads a batch file written by {@link TransactionBatchWriter}.
+ * <p>
+ * The file is memory-mapped and only the record headers are read when it is opened, which is enough to build an index
+ * by transaction ID. Transactions are decoded one at a time, straight from the mapping, as they are requested, so a
+ * batch never has to be held on the heap as a whole.
+ * <p>
+ * A reader opened with {@link #openForSigning(Path)} can add signatures to the transactions in the batch. The signed
+ * transaction is written back into its record when it fits into the space reserved by the writer, and is moved to the
+ * end of the file otherwise.
+ * <p>
+ * A record signed in place is overwritten in place, so a crash while it is written can leave it corrupt; sign a copy of
+ * the batch when that matters. A moved record is forced to the storage device before the old one is given up, so a
+ * crash in between leaves both; the record found last is the one read.
+ * <p>
+ * Batches are limited to 2 GiB because they are mapped as a single region.
+ */
+public final class TransactionBatchReader implements Closeable, Iterable<Transaction<?>> {
+    private final FileChannel channel;
+    private final boolean writable;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Offsets of the live records, in the order they are returned.
+     */
+    private final List<Integer> positions = new ArrayList<>();
+
+    private final Map<TransactionId, Integer> index = new HashMap<>();
+
+    private TransactionBatchReader(FileChannel channel, boolean writable) throws IOException {
+        this.channel = channel;
+        this.writable = writable;
+        this.buffer = map();
+
+        var header = buffer.duplicate();
+        header.limit(Math.min(header.capacity(), FILE_HEADER_SIZE));
+        TransactionBatchWriter.requireHeader(header);
+
+        scan();
+    }
+
+    /**
+     * Open a batch file for reading.
+     *
+     * @param path the path of the batch file
+     * @return the new reader
+     * @throws IOException when the file cannot be opened or is not a valid transaction batch
+     */
+    public static TransactionBatchReader open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Open a batch file for reading and for adding signatures to its transactions.
+     *
+     * @param path the path of the batch file
+     * @return the new reader
+     * @throws IOException when the file cannot be opened or is not a valid transaction batch
+     */
+    public static TransactionBatchReader openForSigning(Path path) throws IOException {
+        return open(path, true);
+    }
+
+    private static TransactionBatchReader open(Path path, boolean writable) throws IOException {
+        var channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            return new TransactionBatchReader(channel, writable);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        var size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("transaction batch is larger than 2 GiB");
+        }
+
+        return channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private void scan() throws IOException {
+        var size = buffer.capacity();
+        var position = FILE_HEADER_SIZE;
+
+        while (position < size) {
+            if (size - position < RECORD_HEADER_SIZE) {
+                throw new IOException("truncated transaction batch record at offset " + position);
+            }
+
+            var capacity = buffer.getInt(position);
+            var length = buffer.getInt(position + 4);
+            var idLength = buffer.getInt(position + 8);
+
+            if (capacity < 0
+                    || length < 0
+                    || length > capacity
+                    || idLength < 0
+                    || (long) position + RECORD_HEADER_SIZE + idLength + capacity > size) {
+                throw new IOException("corrupt transaction batch record at offset " + position);
+            }
+
+            if (length > 0) {
+                addPosition(position, idLength);
+            }
+
+            position += RECORD_HEADER_SIZE + idLength + capacity;
+        }
+    }
+
+    private void addPosition(int position, int idLength) {
+        if (idLength == 0) {
+            positions.add(position);
+            return;
+        }
+
+        var idBytes = new byte[idLength];
+        buffer.duplicate().position(position + RECORD_HEADER_SIZE).get(idBytes);
+        var transactionId = TransactionId.fromBytes(idBytes);
+
+        // a record moved by a signing interrupted before the old one was given up replaces it
+        var existing = index.get(transactionId);
+        if (existing != null) {
+            positions.set(existing, position);
+            return;
+        }
+
+        positions.add(position);
+        index.put(transactionId, positions.size() - 1);
+    }
+
+    /**
+     * Extract the number of transactions in the batch.
+     *
+     * @return the number of transactions
+     */
+    public synchronized int size() {
+        return positions.size();
+    }
+
+    /**
+     * Decode the transaction at the given index of the batch.
+     *
+     * @param index the index of the transaction
+     * @return the transaction
+     */
+    public synchronized Transaction<?> get(int index) {
+        return decode(positions.get(index));
+    }
+
+    /**
+     * Decode the transaction with the given ID.
+     *
+     * @param transactionId the ID of the transaction
+     * @return the transaction, or {@code null} if the batch does not contain it
+     */
+    @Nullable
+    public synchronized Transaction<?> get(TransactionId transactionId) {
+        var i = index.get(transactionId);
+        return i != null ? decode(positions.get(i)) : null;
+    }
+
+    /**
+     * Lazily decode the transactions of the batch in order.
+     *
+     * @return an iterator over the transactions
+     */
+    @Override
+    public Iterator<Transaction<?>> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public Transaction<?> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * Lazily decode the transactions of the batch in order.
+     *
+     * @return a sequential stream of the transactions
+     */
+    public Stream<Transaction<?>> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Sign every transaction in the batch.
+     *
+     * @param privateKey the key to sign with
+     * @return {@code this}
+     * @throws IOException when writing to the file fails
+     */
+    public TransactionBatchReader sign(PrivateKey privateKey) throws IOException {
+        return signWith(privateKey.getPublicKey(), privateKey::sign);
+    }
+
+    /**
+     * Sign every transaction in the batch.
+     *
+     * @param publicKey         the public key
+     * @param transactionSigner the signer
+     * @return {@code this}
+     * @throws IOException when writing to the file fails
+     */
+    public synchronized TransactionBatchReader signWith(PublicKey publicKey, UnaryOperator<byte[]> transactionSigner)
+            throws IOException {
+        for (int i = 0; i < positions.size(); i++) {
+            signAt(i, publicKey, transactionSigner);
+        }
+        return this;
+    }
+
+    /**
+     * Sign the transaction with the given ID.
+     *
+     * @param transactionId the ID of the transaction
+     * @param privateKey    the key to sign with
+     * @return {@code this}
+     * @throws IOException when writing to the file fails
+     */
+    public TransactionBatchReader sign(TransactionId transactionId, PrivateKey privateKey) throws IOException {
+        return signWith(transactionId, privateKey.getPublicKey(), privateKey::sign);
+    }
+
+    /**
+     * Sign the transaction with the given ID.
+     *
+     * @param transactionId     the ID of the transaction
+     * @param publicKey         the public key
+     * @param transactionSigner the signer
+     * @return {@code this}
+     * @throws IOException when writing to the file fails
+     */
+    public synchronized TransactionBatchReader signWith(
+            TransactionId transactionId, PublicKey publicKey, UnaryOperator<byte[]> transactionSigner)
+            throws IOException {
+        var i = index.get(transactionId);
+        if (i == null) {
+            throw new IllegalArgumentException("transaction batch does not contain transaction " + transactionId);
+        }
+
+        signAt(i, publicKey, transactionSigner);
+        return this;
+    }
+
+    /**
+     * Force every signature added so far to the storage device.
+     */
+    public synchronized void flush() {
+        if (writable) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private Transaction<?> decode(int position) {
+        var length = buffer.getInt(position + 4);
+        var idLength = buffer.getInt(position + 8);
+        var offset = position + RECORD_HEADER_SIZE + idLength;
+        var payload = buffer.duplicate();
+        payload.position(offset).limit(offset + length);
+
+        try {
+            return Transaction.fromTransactionList(TransactionList.parseFrom(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void signAt(int i, PublicKey publicKey, UnaryOperator<byte[]> transactionSigner) throws IOException {
+        if (!writable) {
+            throw new IllegalStateException("transaction batch was not opened for signing");
+        }
+
+        var position = positions.get(i);
+        var transaction = decode(position);
+
+        if (!transaction.isFrozen()) {
+            transaction.freeze();
+        }
+        transaction.signWith(publicKey, transactionSigner);
+
+        var list = transaction.buildTransactionList();
+        var length = list.getSerializedSize();
+        var capacity = buffer.getInt(position);
+        var idLength = buffer.getInt(position + 8);
+
+        if (length <= capacity) {
+            var offset = position + RECORD_HEADER_SIZE + idLength;
+            var payload = buffer.duplicate();
+            payload.position(offset).limit(offset + capacity);
+
+            // the payload is overwritten in place, see the class documentation
+            var output = CodedOutputStream.newInstance(payload);
+            list.writeTo(output);
+            output.flush();
+
+            buffer.putInt(position + 4, length);
+            return;
+        }
+
+        // The signatures do not fit into the reserved space, so the record moves to the end of the batch. The reserve
+        // the record was written with is not recorded, so the moved record reserves as much as its whole old payload
+        // area, which is at least that.
+        var record = TransactionBatchWriter.encodeRecord(transaction, capacity);
+        var newPosition = channel.size();
+
+        if (newPosition + record.remaining() > Integer.MAX_VALUE) {
+            throw new IOException("transaction batch would grow larger than 2 GiB");
+        }
+
+        // the moved record is on the storage device before the old one is given up
+        TransactionBatchWriter.writeFully(channel, record, newPosition);
+        channel.force(false);
+        buffer.putInt(position + 4, 0);
+
+        buffer.force();
+        buffer = map();
+        positions.set(i, (int) newPosition);
+    }
+}
@@ -0,0 +1,221 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Writes transactions to a length-delimited batch file which can be read back with {@link TransactionBatchReader}.
+ * <p>
+ * The file starts with a magic number and a format version. Every transaction is then stored as one record:
+ * <pre>
+ * int    capacity        size of the payload area
+ * int    length          size of the payload in use, 0 for a record that has been moved
+ * int    idLength        size of the transaction ID, 0 if the transaction has none
+ * byte[] transactionId   {@link TransactionId#toBytes()}
+ * byte[] payload         {@link Transaction#toBytes()}, padded with zeroes up to capacity
+ * </pre>
+ * The payload area is larger than the transaction by {@link #setSignatureReserve(int)} bytes, so signatures can later
+ * be added to the record without moving it.
+ */
+public final class TransactionBatchWriter implements Closeable {
+    static final int MAGIC = 0x48545842; // "HTXB"
+    static final int VERSION = 1;
+    static final int FILE_HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 12;
+    static final int DEFAULT_SIGNATURE_RESERVE = 1024;
+
+    private final FileChannel channel;
+    private int signatureReserve = DEFAULT_SIGNATURE_RESERVE;
+
+    /**
+     * Constructor.
+     *
+     * @param channel a channel positioned at the end of a batch file whose header has already been written
+     */
+    private TransactionBatchWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Create a new, empty batch file, replacing the file if it already exists.
+     *
+     * @param path the path of the batch file
+     * @return the new writer
+     * @throws IOException when the file cannot be created
+     */
+    public static TransactionBatchWriter create(Path path) throws IOException {
+        var channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        try {
+            var header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            writeFully(channel, header, 0);
+            channel.position(FILE_HEADER_SIZE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return new TransactionBatchWriter(channel);
+    }
+
+    /**
+     * Open a batch file to append further transactions to it, creating it if it does not exist yet.
+     *
+     * @param path the path of the batch file
+     * @return the new writer
+     * @throws IOException when the file cannot be opened or is not a transaction batch
+     */
+    public static TransactionBatchWriter append(Path path) throws IOException {
+        var channel =
+                FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() == 0) {
+                channel.close();
+                return create(path);
+            }
+
+            var header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            readFully(channel, header, 0);
+            header.flip();
+            requireHeader(header);
+
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return new TransactionBatchWriter(channel);
+    }
+
+    /**
+     * Validate the file header of a batch file.
+     *
+     * @param header a buffer holding the first bytes of the file
+     * @throws IOException when the header does not describe a supported transaction batch
+     */
+    static void requireHeader(ByteBuffer header) throws IOException {
+        if (header.remaining() < FILE_HEADER_SIZE || header.getInt(header.position()) != MAGIC) {
+            throw new IOException("file is not a transaction batch");
+        }
+
+        var version = header.getInt(header.position() + 4);
+        if (version != VERSION) {
+            throw new IOException("unsupported transaction batch version " + version);
+        }
+    }
+
+    /**
+     * Encode a transaction as a batch record.
+     *
+     * @param transaction      the transaction
+     * @param signatureReserve the number of bytes to reserve for signatures added later
+     * @return a buffer holding the record, ready to be written
+     */
+    static ByteBuffer encodeRecord(Transaction<?> transaction, int signatureReserve) {
+        var list = transaction.buildTransactionList();
+        var length = list.getSerializedSize();
+        var capacity = length + signatureReserve;
+        var idBytes = transaction.transactionIds.isEmpty()
+                ? new byte[0]
+                : transaction.transactionIds.get(0).toBytes();
+
+        var record = ByteBuffer.allocate(RECORD_HEADER_SIZE + idBytes.length + capacity);
+        record.putInt(capacity).putInt(length).putInt(idBytes.length).put(idBytes);
+
+        try {
+            var output = CodedOutputStream.newInstance(record);
+            list.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            // the record was sized to fit the payload
+            throw new IllegalStateException(e);
+        }
+
+        // the reserved space is already zero, so the whole record is written
+        record.clear();
+        return record;
+    }
+
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            var read = channel.read(buffer, position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Extract the number of bytes reserved in every record for signatures added later.
+     *
+     * @return the signature reserve
+     */
+    public int getSignatureReserve() {
+        return signatureReserve;
+    }
+
+    /**
+     * Assign the number of bytes reserved in every record for signatures added later. A record whose signatures no
+     * longer fit in its reserved space is moved to the end of the batch when it is signed.
+     *
+     * @param signatureReserve the signature reserve
+     * @return {@code this}
+     */
+    public TransactionBatchWriter setSignatureReserve(int signatureReserve) {
+        if (signatureReserve < 0) {
+            throw new IllegalArgumentException("signatureReserve must be non-negative");
+        }
+        this.signatureReserve = signatureReserve;
+        return this;
+    }
+
+    /**
+     * Append a transaction to the batch.
+     *
+     * @param transaction the transaction to write
+     * @return {@code this}
+     * @throws IOException when writing to the file fails
+     */
+    public TransactionBatchWriter write(Transaction<?> transaction) throws IOException {
+        Objects.requireNonNull(transaction);
+
+        var record = encodeRecord(transaction, signatureReserve);
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+
+        return this;
+    }
+
+    /**
+     * Force everything written so far to the storage device.
+     *
+     * @throws IOException when the file cannot be synced
+     */
+    public void flush() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
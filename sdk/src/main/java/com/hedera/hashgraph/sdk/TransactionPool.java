@@ -0,0 +1,327 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A pool of transactions that have been frozen and signed by the client operator ahead of time.
+ * <p>
+ * Every entry is created from the template supplier, given a transaction ID whose valid start is
+ * {@link #setValidStartOffset(Duration)} away from the time it was prepared, frozen for the configured nodes and
+ * signed with the operator. Taking a transaction from the pool therefore hands out something that can be passed to
+ * {@link Transaction#execute(Client)} without any signing or serialization work left to do.
+ * <p>
+ * Entries are discarded once they come within {@link #setExpiryMargin(Duration)} of the end of their
+ * {@code transactionValidDuration}, and the pool is refilled on the client's executor after every
+ * {@link #take()}.
+ *
+ * @param <T> the type of transaction in the pool
+ */
+public final class TransactionPool<T extends Transaction<T>> {
+    static final int DEFAULT_SIZE = 16;
+    static final Duration DEFAULT_VALID_START_OFFSET = Duration.ofSeconds(-5);
+    static final Duration DEFAULT_EXPIRY_MARGIN = Duration.ofSeconds(10);
+
+    private final Client client;
+    private final Supplier<T> template;
+    private final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+
+    private int size = DEFAULT_SIZE;
+    private Duration validStartOffset = DEFAULT_VALID_START_OFFSET;
+    private Duration expiryMargin = DEFAULT_EXPIRY_MARGIN;
+
+    @Nullable
+    private List<AccountId> nodeAccountIds = null;
+
+    private Instant lastValidStart = Instant.EPOCH;
+    private Instant lastOnDemandValidStart = Instant.EPOCH;
+    private boolean refilling = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client   the client whose operator pays for and signs the pooled transactions
+     * @param template supplies a new, unfrozen transaction for every entry in the pool
+     */
+    public TransactionPool(Client client, Supplier<T> template) {
+        this.client = Objects.requireNonNull(client);
+        this.template = Objects.requireNonNull(template);
+    }
+
+    /**
+     * Extract the number of transactions the pool keeps ready.
+     *
+     * @return the target size of the pool
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Assign the number of transactions the pool keeps ready.
+     *
+     * @param size the target size of the pool
+     * @return {@code this}
+     */
+    public synchronized TransactionPool<T> setSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be greater than zero");
+        }
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Extract the offset applied to the preparation time to get the valid start of a pooled transaction.
+     *
+     * @return the valid start offset
+     */
+    public synchronized Duration getValidStartOffset() {
+        return validStartOffset;
+    }
+
+    /**
+     * Assign the offset applied to the preparation time to get the valid start of a pooled transaction.
+     * <p>
+     * A positive offset prepares transactions which only become valid in the future; such entries are not handed out
+     * until their valid start has passed. A negative offset allows for clock drift between the client and the nodes.
+     *
+     * @param validStartOffset the valid start offset
+     * @return {@code this}
+     */
+    public synchronized TransactionPool<T> setValidStartOffset(Duration validStartOffset) {
+        this.validStartOffset = Objects.requireNonNull(validStartOffset);
+        return this;
+    }
+
+    /**
+     * Extract how long before the end of its valid duration an entry is discarded.
+     *
+     * @return the expiry margin
+     */
+    public synchronized Duration getExpiryMargin() {
+        return expiryMargin;
+    }
+
+    /**
+     * Assign how long before the end of its valid duration an entry is discarded.
+     *
+     * @param expiryMargin the expiry margin
+     * @return {@code this}
+     */
+    public synchronized TransactionPool<T> setExpiryMargin(Duration expiryMargin) {
+        if (expiryMargin == null || expiryMargin.isNegative()) {
+            throw new IllegalArgumentException("expiryMargin must be a non-negative duration");
+        }
+        this.expiryMargin = expiryMargin;
+        return this;
+    }
+
+    /**
+     * Extract the node account IDs the pooled transactions are prepared for.
+     *
+     * @return the node account IDs, or {@code null} if the client chooses them
+     */
+    @Nullable
+    public synchronized List<AccountId> getNodeAccountIds() {
+        return nodeAccountIds != null ? new ArrayList<>(nodeAccountIds) : null;
+    }
+
+    /**
+     * Assign the node account IDs the pooled transactions are prepared for. When not set, every entry is frozen for
+     * the nodes selected by the client.
+     *
+     * @param nodeAccountIds the node account IDs
+     * @return {@code this}
+     */
+    public synchronized TransactionPool<T> setNodeAccountIds(List<AccountId> nodeAccountIds) {
+        this.nodeAccountIds = new ArrayList<>(Objects.requireNonNull(nodeAccountIds));
+        return this;
+    }
+
+    /**
+     * Extract the number of prepared transactions currently in the pool.
+     *
+     * @return the number of prepared transactions
+     */
+    public synchronized int available() {
+        return entries.size();
+    }
+
+    /**
+     * Prepare transactions until the pool holds its target size, discarding expired entries first.
+     *
+     * @return {@code this}
+     */
+    public TransactionPool<T> fill() {
+        int missing;
+        synchronized (this) {
+            removeExpired(Instant.now());
+            missing = size - entries.size();
+        }
+
+        for (int i = 0; i < missing; i++) {
+            var entry = prepare(nextValidStart(Instant.now().plus(getValidStartOffset())));
+
+            synchronized (this) {
+                if (entries.size() >= size) {
+                    break;
+                }
+                entries.addLast(entry);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Prepare transactions on the client's executor until the pool holds its target size.
+     *
+     * @return a future which completes once the pool has been filled
+     */
+    public CompletableFuture<Void> fillAsync() {
+        return CompletableFuture.runAsync(this::fill, client.executor);
+    }
+
+    /**
+     * Take a frozen and signed transaction from the pool.
+     * <p>
+     * If no prepared transaction is valid right now, one is prepared on the calling thread. A refill of the pool is
+     * started on the client's executor in either case.
+     *
+     * @return a transaction that is ready to be executed
+     */
+    public T take() {
+        var now = Instant.now();
+        @Nullable Entry<T> entry;
+
+        synchronized (this) {
+            removeExpired(now);
+            entry = entries.peekFirst();
+
+            if (entry != null && entry.validStart.isAfter(now)) {
+                entry = null;
+            } else if (entry != null) {
+                entries.removeFirst();
+            }
+        }
+
+        scheduleRefill();
+
+        if (entry != null) {
+            return entry.transaction;
+        }
+
+        return prepare(nextOnDemandValidStart(now)).transaction;
+    }
+
+    /**
+     * Discard every prepared transaction in the pool.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized void scheduleRefill() {
+        if (refilling) {
+            return;
+        }
+        refilling = true;
+
+        fillAsync().whenComplete((ignored, error) -> {
+            synchronized (this) {
+                refilling = false;
+            }
+
+            if (error != null) {
+                client.getLogger().warn("Failed to refill transaction pool: {}", error.getMessage());
+            }
+        });
+    }
+
+    private void removeExpired(Instant now) {
+        while (!entries.isEmpty() && !entries.peekFirst().expiresAt.isAfter(now)) {
+            entries.removeFirst();
+        }
+    }
+
+    private Entry<T> prepare(Instant validStart) {
+        var operator = client.getOperator();
+
+        if (operator == null) {
+            throw new IllegalStateException("`client` must have an `operator` to prepare pooled transactions");
+        }
+
+        var transaction = template.get();
+
+        transaction.setTransactionId(TransactionId.withValidStart(operator.accountId, validStart));
+
+        @Nullable var nodes = getNodeAccountIds();
+        if (nodes != null) {
+            transaction.setNodeAccountIds(nodes);
+        }
+
+        transaction.freezeWith(client).signWithOperator(client);
+
+        // Sign and serialize every node's transaction now so that execute() only has to send it
+        transaction.buildAllTransactions();
+
+        var expiresAt = validStart.plus(transaction.getTransactionValidDuration()).minus(getExpiryMargin());
+
+        return new Entry<>(transaction, validStart, expiresAt);
+    }
+
+    private synchronized Instant nextValidStart(Instant candidate) {
+        // Two entries must never share a transaction ID, so valid starts are strictly increasing within the pool. The
+        // pooled valid starts have an even nanosecond and those prepared on demand an odd one, so the two never meet.
+        var validStart = withNanosParity(candidate.plusNanos(ThreadLocalRandom.current().nextLong(1_000)), 0);
+
+        if (!validStart.isAfter(lastValidStart)) {
+            validStart = withNanosParity(lastValidStart.plusNanos(1_000), 0);
+        }
+
+        lastValidStart = validStart;
+        return validStart;
+    }
+
+    private synchronized Instant nextOnDemandValidStart(Instant now) {
+        // A future valid start would be rejected by the node, so a transaction prepared on demand starts no later than
+        // now, which the pooled valid starts may have passed already. Its odd nanosecond keeps it apart from them.
+        var validStart = withNanosParity(
+                (validStartOffset.isNegative() ? now.plus(validStartOffset) : now)
+                        .minusNanos(ThreadLocalRandom.current().nextLong(1_000)),
+                1);
+
+        if (!validStart.isAfter(lastOnDemandValidStart)) {
+            validStart = withNanosParity(lastOnDemandValidStart.plusNanos(2), 1);
+        }
+
+        lastOnDemandValidStart = validStart;
+        return validStart;
+    }
+
+    private static Instant withNanosParity(Instant instant, int parity) {
+        return instant.getNano() % 2 == parity ? instant : instant.minusNanos(1);
+    }
+
+    private static final class Entry<T> {
+        private final T transaction;
+        private final Instant validStart;
+        private final Instant expiresAt;
+
+        private Entry(T transaction, Instant validStart, Instant expiresAt) {
+            this.transaction = transaction;
+            this.validStart = validStart;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BulkQueryExecutorTest {
+    private static Response receiptResponse() {
+        return Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                                .setStatus(ResponseCodeEnum.SUCCESS)))
+                .build();
+    }
+
+    private static List<Object> receiptResponses(int count) {
+        return Collections.<Object>nCopies(count, receiptResponse());
+    }
+
+    private static Stream<TransactionReceiptQuery> spawnQueries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TransactionReceiptQuery()
+                        .setTransactionId(TransactionId.withValidStart(
+                                AccountId.fromString("0.0.5005"), Instant.ofEpochSecond(1_554_158_542L + i))));
+    }
+
+    @Test
+    void streamsEveryResultToTheCallback() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(receiptResponses(5)))) {
+            var received = new CopyOnWriteArrayList<TransactionReceipt>();
+
+            new BulkQueryExecutor<TransactionReceiptQuery, TransactionReceipt>(mocker.client)
+                    .execute(spawnQueries(5), (query, receipt) -> received.add(receipt))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(received).hasSize(5);
+            assertThat(received).allMatch(receipt -> receipt.status == Status.SUCCESS);
+        }
+    }
+
+    @Test
+    void limitsConcurrencyPerNode() throws Exception {
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+
+        var bothInFlight = new CountDownLatch(2);
+
+        // the first two requests hold each other until both are in flight, so the limit is reached before any
+        // response is returned and a third request would be seen while they are held
+        Function<Object, Object> heldResponse = request -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+
+            bothInFlight.countDown();
+            bothInFlight.await(10, TimeUnit.SECONDS);
+
+            concurrent.decrementAndGet();
+            return receiptResponse();
+        };
+
+        try (var mocker = Mocker.withResponses(List.of(Collections.<Object>nCopies(6, heldResponse)))) {
+            new BulkQueryExecutor<TransactionReceiptQuery, TransactionReceipt>(mocker.client)
+                    .setMaxConcurrencyPerNode(2)
+                    .execute(spawnQueries(6), (query, receipt) -> {})
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(bothInFlight.getCount()).isZero();
+            assertThat(maxConcurrent.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void aggregatesFailures() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(receiptResponses(3)))) {
+            var failing = new ArrayList<TransactionReceiptQuery>();
+            var future = new BulkQueryExecutor<TransactionReceiptQuery, TransactionReceipt>(mocker.client)
+                    .execute(spawnQueries(3), (query, receipt) -> {
+                        if (failing.isEmpty()) {
+                            failing.add(query);
+                            throw new IllegalStateException("rejected");
+                        }
+                    });
+
+            var error = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+            assertThat(error.getCause()).isInstanceOf(BulkQueryException.class);
+
+            var bulkError = (BulkQueryException) error.getCause();
+            assertThat(bulkError.successCount).isEqualTo(2);
+            assertThat(bulkError.failureCount).isEqualTo(1);
+            assertThat(bulkError.failures).hasSize(1);
+            assertThat(bulkError.failures.get(0).query).isSameAs(failing.get(0));
+            assertThat(bulkError.failures.get(0).error).hasMessage("rejected");
+        }
+    }
+
+    @Test
+    void publisherOnlyRunsRequestedQueries() throws Exception {
+        var requests = new AtomicInteger();
+        Function<Object, Object> countedResponse = request -> {
+            requests.incrementAndGet();
+            return receiptResponse();
+        };
+
+        try (var mocker = Mocker.withResponses(List.of(Collections.<Object>nCopies(3, countedResponse)))) {
+            var received = new CopyOnWriteArrayList<TransactionReceipt>();
+            var firstReceived = new CountDownLatch(1);
+            var completed = new CompletableFuture<Void>();
+            var subscription = new CompletableFuture<Flow.Subscription>();
+
+            new BulkQueryExecutor<TransactionReceiptQuery, TransactionReceipt>(mocker.client)
+                    .publish(spawnQueries(3))
+                    .subscribe(new Flow.Subscriber<>() {
+                        @Override
+                        public void onSubscribe(Flow.Subscription s) {
+                            subscription.complete(s);
+                        }
+
+                        @Override
+                        public void onNext(TransactionReceipt receipt) {
+                            received.add(receipt);
+                            firstReceived.countDown();
+                        }
+
+                        @Override
+                        public void onError(Throwable error) {
+                            completed.completeExceptionally(error);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            completed.complete(null);
+                        }
+                    });
+
+            subscription.get(10, TimeUnit.SECONDS).request(1);
+            assertThat(firstReceived.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // only the requested query was sent, so nothing else can be delivered before more is requested
+            assertThat(requests.get()).isEqualTo(1);
+            assertThat(received).hasSize(1);
+            assertThat(completed).isNotDone();
+
+            subscription.get().request(2);
+            completed.get(10, TimeUnit.SECONDS);
+
+            assertThat(requests.get()).isEqualTo(3);
+            assertThat(received).hasSize(3);
+        }
+    }
+
+    @Test
+    void setMaxConcurrencyRejectsNonPositive() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new BulkQueryExecutor<TransactionReceiptQuery, TransactionReceipt>(mocker.client)
+                            .setMaxConcurrency(0));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class EntityIdResolutionCacheTest {
+    private static final String BASE_URL = "https://testnet.mirrornode.hedera.com/api/v1";
+    private static final String ADDRESS = "0x00000000000000000000000000000000000004D2";
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    void cachesResolutionsIgnoringTheCaseOfTheAddress() throws Exception {
+        var cache = new EntityIdResolutionCache();
+
+        assertThat(cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(1234L)).get())
+                .isEqualTo(1234L);
+        assertThat(cache.resolve(BASE_URL, "/accounts", ADDRESS.toLowerCase(), () -> lookup(1234L)).get())
+                .isEqualTo(1234L);
+
+        assertThat(lookups.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsMirrorNodesAndKindsApart() throws Exception {
+        var cache = new EntityIdResolutionCache();
+
+        cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(1L)).get();
+        cache.resolve(BASE_URL, "/contracts", ADDRESS, () -> lookup(2L)).get();
+        cache.resolve("http://localhost:5551/api/v1", "/accounts", ADDRESS, () -> lookup(3L))
+                .get();
+
+        assertThat(lookups.get()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentLookupsShareOneRequest() throws Exception {
+        var cache = new EntityIdResolutionCache();
+        var response = new CompletableFuture<Long>();
+
+        var first = cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> {
+            lookups.incrementAndGet();
+            return response;
+        });
+        var second = cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(0L));
+
+        assertThat(second).isNotDone();
+        response.complete(1234L);
+
+        assertThat(first.get()).isEqualTo(1234L);
+        assertThat(second.get()).isEqualTo(1234L);
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    void remembersUnknownAddressesForTheNegativeTtl() throws Exception {
+        var cache = new EntityIdResolutionCache().setNegativeTtl(Duration.ofMinutes(1));
+
+        for (var i = 0; i < 2; i++) {
+            var error = assertThrows(ExecutionException.class, () -> cache.resolve(
+                            BASE_URL, "/accounts", ADDRESS, this::notFound)
+                    .get());
+            assertThat(error.getCause()).isInstanceOf(EntityIdHelper.MirrorNodeNotFoundException.class);
+        }
+
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesUnknownAddressesWhenNegativeCachingIsDisabled() {
+        var cache = new EntityIdResolutionCache().setNegativeTtl(Duration.ZERO);
+
+        for (var i = 0; i < 2; i++) {
+            assertThrows(ExecutionException.class, () -> cache.resolve(BASE_URL, "/accounts", ADDRESS, this::notFound)
+                    .get());
+        }
+
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheOtherFailures() throws Exception {
+        var cache = new EntityIdResolutionCache();
+
+        assertThrows(ExecutionException.class, () -> cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> {
+                    lookups.incrementAndGet();
+                    return CompletableFuture.<Long>failedFuture(new RuntimeException("Mirror Node unavailable"));
+                })
+                .get());
+
+        assertThat(cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(1234L)).get())
+                .isEqualTo(1234L);
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedResolutions() throws Exception {
+        var cache = new EntityIdResolutionCache().setMaxSize(2);
+
+        cache.resolve(BASE_URL, "/accounts", "1", () -> lookup(1L)).get();
+        cache.resolve(BASE_URL, "/accounts", "2", () -> lookup(2L)).get();
+        cache.resolve(BASE_URL, "/accounts", "1", () -> lookup(1L)).get();
+        cache.resolve(BASE_URL, "/accounts", "3", () -> lookup(3L)).get();
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        cache.resolve(BASE_URL, "/accounts", "1", () -> lookup(1L)).get();
+        assertThat(lookups.get()).isEqualTo(3);
+    }
+
+    @Test
+    void looksUpEveryTimeWhenDisabled() throws Exception {
+        var cache = new EntityIdResolutionCache().setEnabled(false);
+
+        cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(1L)).get();
+        cache.resolve(BASE_URL, "/accounts", ADDRESS, () -> lookup(1L)).get();
+
+        assertThat(lookups.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveTtl() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityIdResolutionCache().setTtl(Duration.ZERO));
+    }
+
+    private CompletableFuture<Long> lookup(long num) {
+        lookups.incrementAndGet();
+        return CompletableFuture.completedFuture(num);
+    }
+
+    private CompletableFuture<Long> notFound() {
+        lookups.incrementAndGet();
+        return CompletableFuture.failedFuture(
+                new EntityIdHelper.MirrorNodeNotFoundException("Received non-200 response from Mirror Node: "));
+    }
+}
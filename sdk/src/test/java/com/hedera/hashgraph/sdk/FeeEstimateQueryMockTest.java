@@ -13,6 +13,9 @@ import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -135,6 +138,31 @@ class FeeEstimateQueryMockTest {
         assertThat(stub.requestCount()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Given a FeeEstimateQuery is cancelled while waiting to retry, it makes no further attempt")
+    void cancellingStopsRetries() throws Exception {
+        query.setTransaction(DUMMY_TRANSACTION).setMaxAttempts(3).setMaxBackoff(Duration.ofSeconds(1));
+
+        stub.enqueue(new StubResponse(503, "transient error"));
+
+        var backoffStarted = new CountDownLatch(1);
+        var backoff = new CompletableFuture<Void>();
+        client.getMirrorRestClient().backoffDelayer = delayMillis -> {
+            backoffStarted.countDown();
+            return backoff;
+        };
+
+        var future = query.executeAsync(client);
+        assertThat(backoffStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        future.cancel(false);
+
+        // the next attempt runs as the backoff ends, on this thread
+        backoff.complete(null);
+
+        assertThat(future).isCancelled();
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
     private static String newSuccessResponse(
             FeeEstimateMode mode, int networkMultiplier, long nodeBase, long serviceBase) {
         long networkSubtotal = nodeBase * networkMultiplier;
@@ -163,7 +191,7 @@ class FeeEstimateQueryMockTest {
 
     private static final class StubMirrorRestServer {
         private final Queue<StubResponse> responses = new ArrayDeque<>();
-        private int observedRequests = 0;
+        private volatile int observedRequests = 0;
         private String lastQueryParams;
         private HttpServer server;
         private int port;
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileAppendFlowTest {
+    private static final FileId FILE_ID = new FileId(0, 0, 1234);
+    private static final ByteString CONTENTS = ByteString.copyFromUtf8("0123456789".repeat(50));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsAStreamOneChunkAtATime() throws Exception {
+        var appended = Collections.synchronizedList(new ArrayList<ByteString>());
+
+        try (var mocker = Mocker.withResponses(List.of(fileServiceResponses(appended)))) {
+            new FileAppendFlow()
+                    .setFileId(FILE_ID)
+                    .setChunkSize(200)
+                    .setContents(new ByteArrayInputStream(CONTENTS.toByteArray()))
+                    .execute(mocker.client);
+        }
+
+        assertThat(appended).extracting(ByteString::size).containsExactly(200, 200, 100);
+        assertThat(ByteString.copyFrom(appended)).isEqualTo(CONTENTS);
+    }
+
+    @Test
+    void appendsAFileChannelAsynchronously() throws Exception {
+        var appended = Collections.synchronizedList(new ArrayList<ByteString>());
+        var path = Files.write(directory.resolve("contents"), CONTENTS.toByteArray());
+
+        try (var mocker = Mocker.withResponses(List.of(fileServiceResponses(appended)));
+                var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            new FileAppendFlow()
+                    .setFileId(FILE_ID)
+                    .setChunkSize(300)
+                    .setContents(channel)
+                    .executeAsync(mocker.client)
+                    .get();
+        }
+
+        assertThat(appended).extracting(ByteString::size).containsExactly(300, 200);
+        assertThat(ByteString.copyFrom(appended)).isEqualTo(CONTENTS);
+    }
+
+    @Test
+    void rejectsAFileChannelOverMaxChunksBeforeAppending() throws Exception {
+        var appended = Collections.synchronizedList(new ArrayList<ByteString>());
+        var path = Files.write(directory.resolve("contents"), CONTENTS.toByteArray());
+
+        try (var mocker = Mocker.withResponses(List.of(fileServiceResponses(appended)));
+                var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var flow = new FileAppendFlow()
+                    .setFileId(FILE_ID)
+                    .setChunkSize(200)
+                    .setMaxChunks(2)
+                    .setContents(channel);
+
+            assertThrows(IllegalArgumentException.class, () -> flow.execute(mocker.client));
+        }
+
+        assertThat(appended).isEmpty();
+    }
+
+    @Test
+    void stopsAStreamAtMaxChunks() throws Exception {
+        var appended = Collections.synchronizedList(new ArrayList<ByteString>());
+
+        try (var mocker = Mocker.withResponses(List.of(fileServiceResponses(appended)))) {
+            var flow = new FileAppendFlow()
+                    .setFileId(FILE_ID)
+                    .setChunkSize(200)
+                    .setMaxChunks(2)
+                    .setContents(new ByteArrayInputStream(CONTENTS.toByteArray()));
+
+            assertThrows(IllegalArgumentException.class, () -> flow.execute(mocker.client));
+        }
+
+        assertThat(appended).extracting(ByteString::size).containsExactly(200, 200);
+    }
+
+    @Test
+    void rejectsEmptyContents() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var flow = new FileAppendFlow().setFileId(FILE_ID).setContents(new ByteArrayInputStream(new byte[0]));
+
+            assertThrows(IllegalArgumentException.class, () -> flow.execute(mocker.client));
+        }
+    }
+
+    @Test
+    void rejectsAMissingFileId() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var flow = new FileAppendFlow().setContents(new ByteArrayInputStream(CONTENTS.toByteArray()));
+
+            assertThrows(IllegalStateException.class, () -> flow.execute(mocker.client));
+        }
+    }
+
+    /**
+     * Record the contents of every append, and answer every receipt query with a successful receipt.
+     */
+    private static List<Object> fileServiceResponses(List<ByteString> appended) {
+        Function<Object, Object> respond = request -> {
+            if (request instanceof Query) {
+                return Response.newBuilder()
+                        .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                                .setHeader(ResponseHeader.newBuilder()
+                                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                                .setReceipt(TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS)))
+                        .build();
+            }
+
+            try {
+                var transaction = (com.hedera.hashgraph.sdk.proto.Transaction) request;
+                var body = TransactionBody.parseFrom(
+                        SignedTransaction.parseFrom(transaction.getSignedTransactionBytes())
+                                .getBodyBytes());
+                appended.add(body.getFileAppend().getContents());
+
+                return com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .build();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        var responses = new ArrayList<Object>();
+        for (var i = 0; i < 20; i++) {
+            responses.add(respond);
+        }
+
+        return responses;
+    }
+}
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileChunkReaderTest {
+    private static final byte[] CONTENTS = contents(10_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsAStreamInChunks() throws Exception {
+        var chunks = readAll(FileChunkReader.of(new ByteArrayInputStream(CONTENTS)), 4096);
+
+        assertThat(chunks).extracting(ByteString::size).containsExactly(4096, 4096, 1808);
+        assertThat(join(chunks).toByteArray()).isEqualTo(CONTENTS);
+    }
+
+    @Test
+    void readsABufferFromItsPosition() throws Exception {
+        var buffer = ByteBuffer.wrap(CONTENTS).position(1000);
+
+        var chunks = readAll(FileChunkReader.of(buffer), 4096);
+
+        assertThat(join(chunks)).isEqualTo(ByteString.copyFrom(CONTENTS, 1000, CONTENTS.length - 1000));
+        assertThat(buffer.position()).isEqualTo(1000);
+    }
+
+    @Test
+    void readsAFileChannelAcrossWindows() throws Exception {
+        var contents = contents(FileChunkReader.MAP_WINDOW_SIZE * 2 + 123);
+        var path = Files.write(directory.resolve("contents"), contents);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(7);
+
+            var chunks = readAll(FileChunkReader.of(channel), 3000);
+
+            assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.size()).isLessThanOrEqualTo(3000));
+            assertThat(chunks.subList(0, chunks.size() - 1)).allSatisfy(chunk -> assertThat(chunk.size())
+                    .isEqualTo(3000));
+            assertThat(join(chunks)).isEqualTo(ByteString.copyFrom(contents, 7, contents.length - 7));
+            assertThat(channel.position()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    void hexEncodesTheChunks() throws Exception {
+        var chunks = readAll(FileChunkReader.of(ByteBuffer.wrap(CONTENTS)).setHexEncoded(true), 2048);
+
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.size()).isLessThanOrEqualTo(2048));
+        assertThat(join(chunks)).isEqualTo(ByteString.copyFrom(Hex.encode(CONTENTS)));
+    }
+
+    @Test
+    void rejectsAnEmptyChunkSize() {
+        var reader = FileChunkReader.of(ByteBuffer.wrap(CONTENTS));
+
+        assertThrows(IllegalArgumentException.class, () -> reader.next(0));
+    }
+
+    private static List<ByteString> readAll(FileChunkReader reader, int size) throws Exception {
+        var chunks = new ArrayList<ByteString>();
+        for (var chunk = reader.next(size); chunk != null; chunk = reader.next(size)) {
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    private static ByteString join(List<ByteString> chunks) {
+        return ByteString.copyFrom(chunks);
+    }
+
+    private static byte[] contents(int size) {
+        var contents = new byte[size];
+        for (var i = 0; i < size; i++) {
+            contents[i] = (byte) (i * 31);
+        }
+
+        return contents;
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSubscriptionCheckpointStoreTest {
+    private static final TopicId TOPIC_ID = new TopicId(0, 0, 1000);
+    private static final Instant CONSENSUS_TIMESTAMP = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsTheCheckpointSaved() throws IOException {
+        var store = new FileSubscriptionCheckpointStore(directory);
+
+        store.save(TOPIC_ID, new SubscriptionCheckpoint(CONSENSUS_TIMESTAMP, 42L, CONSENSUS_TIMESTAMP.minusSeconds(1)));
+
+        var checkpoint = new FileSubscriptionCheckpointStore(directory).load(TOPIC_ID);
+        assertThat(checkpoint).isNotNull();
+        assertThat(checkpoint.consensusTimestamp).isEqualTo(CONSENSUS_TIMESTAMP);
+        assertThat(checkpoint.sequenceNumber).isEqualTo(42L);
+        assertThat(checkpoint.resumeTimestamp).isEqualTo(CONSENSUS_TIMESTAMP.minusSeconds(1));
+    }
+
+    @Test
+    void replacesTheCheckpoint() throws IOException {
+        var store = new FileSubscriptionCheckpointStore(directory);
+
+        store.save(TOPIC_ID, new SubscriptionCheckpoint(CONSENSUS_TIMESTAMP, 1L, CONSENSUS_TIMESTAMP));
+        store.save(TOPIC_ID, new SubscriptionCheckpoint(CONSENSUS_TIMESTAMP.plusSeconds(1), 2L, CONSENSUS_TIMESTAMP));
+
+        var checkpoint = store.load(TOPIC_ID);
+        assertThat(checkpoint).isNotNull();
+        assertThat(checkpoint.sequenceNumber).isEqualTo(2L);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(store.getPath(TOPIC_ID));
+        }
+    }
+
+    @Test
+    void keepsACheckpointPerTopic() throws IOException {
+        var store = new FileSubscriptionCheckpointStore(directory);
+
+        store.save(TOPIC_ID, new SubscriptionCheckpoint(CONSENSUS_TIMESTAMP, 1L, CONSENSUS_TIMESTAMP));
+
+        assertThat(store.load(new TopicId(0, 0, 1001))).isNull();
+    }
+
+    @Test
+    void createsTheDirectory() throws IOException {
+        var store = new FileSubscriptionCheckpointStore(directory.resolve("checkpoints"));
+
+        assertThat(store.getDirectory()).isDirectory();
+        assertThat(store.load(TOPIC_ID)).isNull();
+    }
+
+    @Test
+    void rejectsAFileThatIsNotACheckpoint() throws IOException {
+        var store = new FileSubscriptionCheckpointStore(directory);
+        Files.writeString(store.getPath(TOPIC_ID), "not a checkpoint");
+
+        assertThrows(IOException.class, () -> store.load(TOPIC_ID));
+    }
+}
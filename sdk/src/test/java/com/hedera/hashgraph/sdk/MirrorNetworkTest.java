@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MirrorNetworkTest {
+    private ExecutorService executor;
+    private MirrorNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        network = MirrorNetwork.forNetwork(executor, List.of("fast.mirror.test:443", "slow.mirror.test:443"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void prefersTheFastestNode() throws Exception {
+        var fast = node("fast.mirror.test");
+        var slow = node("slow.mirror.test");
+        network.recordSuccess(fast, Duration.ofMillis(10));
+        network.recordSuccess(slow, Duration.ofMillis(200));
+
+        var fastPicks = 0;
+        for (var i = 0; i < 200; i++) {
+            if (network.getNextMirrorNode() == fast) {
+                fastPicks++;
+            }
+        }
+
+        // the slow node is still picked now and then, to notice when it gets faster
+        assertThat(fastPicks).isGreaterThan(160);
+    }
+
+    @Test
+    void avoidsANodeThatFailed() throws Exception {
+        var fast = node("fast.mirror.test");
+        var slow = node("slow.mirror.test");
+        network.recordSuccess(fast, Duration.ofMillis(10));
+        network.recordSuccess(slow, Duration.ofMillis(200));
+
+        network.recordFailure(fast);
+
+        assertThat(fast.isHealthy()).isFalse();
+        assertThat(fast.getErrorRate()).isPositive();
+        for (var i = 0; i < 20; i++) {
+            assertThat(network.getNextMirrorNode()).isSameAs(slow);
+        }
+    }
+
+    @Test
+    void failsOverToAnotherNode() throws Exception {
+        var fast = node("fast.mirror.test");
+        var slow = node("slow.mirror.test");
+        network.recordSuccess(fast, Duration.ofMillis(10));
+        network.recordSuccess(slow, Duration.ofMillis(200));
+
+        assertThat(network.getNextMirrorNode(fast)).isSameAs(slow);
+    }
+
+    @Test
+    void keepsUsingTheOnlyNodeAfterAFailure() throws Exception {
+        var single = MirrorNetwork.forNetwork(executor, List.of("only.mirror.test:443"));
+        var node = single.getNextMirrorNode();
+        single.recordFailure(node);
+
+        assertThat(single.getNextMirrorNode()).isSameAs(node);
+    }
+
+    @Test
+    void averagesTheLatency() {
+        var fast = node("fast.mirror.test");
+
+        network.recordSuccess(fast, Duration.ofMillis(100));
+        network.recordSuccess(fast, Duration.ofMillis(200));
+
+        assertThat(fast.getLatency()).isEqualTo(Duration.ofMillis(120));
+    }
+
+    @Test
+    void findsTheNodeOfARestUrl() {
+        var slow = node("slow.mirror.test");
+
+        assertThat(network.getMirrorNodeForRestUrl("https://slow.mirror.test/api/v1/accounts/0.0.2"))
+                .isSameAs(slow);
+        assertThat(network.getMirrorNodeForRestUrl("https://other.mirror.test/api/v1/accounts/0.0.2"))
+                .isNull();
+    }
+
+    private MirrorNode node(String host) {
+        return network.nodes.stream()
+                .filter(node -> host.equals(node.address.getAddress()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
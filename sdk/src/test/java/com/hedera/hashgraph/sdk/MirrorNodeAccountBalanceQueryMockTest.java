@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Queue;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -200,6 +201,22 @@ class MirrorNodeAccountBalanceQueryMockTest {
         assertThat(stub.requestCount()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Given the request timeout runs out while waiting to retry, the query fails without retrying")
+    void requestTimeoutBoundsAllAttempts() {
+        client.setRequestTimeout(Duration.ofSeconds(1));
+        query.setAccountId(AccountId.fromString("0.0.12345")).setMaxAttempts(10);
+
+        stub.enqueue(new StubResponse(503, "transient error"));
+
+        // the backoff after the first attempt is one second, which leaves no time for a second one
+        assertThatThrownBy(() -> query.execute(client))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Given an invalid ID format, the mirror node returns HTTP 400 and the query does not retry")
     void doesNotRetryOn400() {
@@ -243,6 +260,31 @@ class MirrorNodeAccountBalanceQueryMockTest {
         assertThat(stub.requestCount()).isZero();
     }
 
+    @Test
+    @DisplayName("Members other than the balance, such as token balances, are skipped")
+    void skipsUnneededMembers() throws Exception {
+        query.setAccountId(AccountId.fromString("0.0.12345"));
+
+        stub.enqueue(new StubResponse(200, """
+                {
+                  "timestamp": "1234567890.000000000",
+                  "balances": [
+                    {
+                      "account": "0.0.12345",
+                      "tokens": [{ "token_id": "0.0.1", "balance": 1 }, { "token_id": "0.0.2", "balance": 2 }],
+                      "balance": 77
+                    },
+                    { "account": "0.0.12346", "balance": 88 }
+                  ],
+                  "links": { "next": "/api/v1/balances?account.id=0.0.12345&limit=1" }
+                }
+                """));
+
+        var balance = query.execute(client);
+
+        assertThat(balance.hbars).isEqualTo(Hbar.fromTinybars(77L));
+    }
+
     @Test
     @DisplayName("Given no account id is set, the query fails before making a network call")
     void failsBeforeNetworkCallWhenAccountIdMissing() {
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MirrorPageTest {
+    private Client client;
+    private HttpServer server;
+    private String baseUrl;
+    private final Map<String, Integer> statuses = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/items", exchange -> {
+            requestCount.incrementAndGet();
+            var page = Integer.parseInt(exchange.getRequestURI().getQuery().substring("page=".length()));
+            var status = statuses.getOrDefault(exchange.getRequestURI().getQuery(), 200);
+            statuses.remove(exchange.getRequestURI().getQuery());
+
+            byte[] body = (status == 200 ? newPage(page) : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setRequestTimeout(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.stop(0);
+        client.close();
+    }
+
+    @Test
+    void followsNextLinksUntilTheLastPage() {
+        try (var pages = newPages()) {
+            var items = new ArrayList<Integer>();
+            pages.forEachRemaining(items::add);
+
+            assertThat(items).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+        }
+
+        assertThat(requestCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void requestsNothingBeforeTheFirstItemIsNeeded() {
+        try (var pages = newPages()) {
+            assertThat(requestCount.get()).isZero();
+            assertThat(pages.next()).isZero();
+        }
+    }
+
+    @Test
+    void stopsRequestingWhenTheStreamIsClosedEarly() {
+        List<Integer> items;
+        try (var stream = newPages().stream()) {
+            items = stream.limit(2).collect(Collectors.toList());
+        }
+
+        assertThat(items).containsExactly(0, 1);
+        // the first page and, at most, the one requested in advance
+        assertThat(requestCount.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void retriesTransientFailures() {
+        statuses.put("page=1", 503);
+
+        try (var pages = newPages().setMaxBackoff(Duration.ofMillis(500))) {
+            var items = new ArrayList<Integer>();
+            pages.forEachRemaining(items::add);
+
+            assertThat(items).hasSize(9);
+        }
+
+        assertThat(requestCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        statuses.put("page=0", 400);
+
+        try (var pages = newPages()) {
+            assertThatThrownBy(pages::hasNext)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("400");
+        }
+
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    private MirrorPage<Integer> newPages() {
+        return new MirrorPage<>(
+                client, baseUrl, "/items?page=0", "items", json -> json.get("n").getAsInt());
+    }
+
+    private static String newPage(int page) {
+        var next = page < 2 ? "\"/items?page=" + (page + 1) + "\"" : "null";
+        var first = page * 3;
+
+        return """
+                {
+                  "items": [ { "n": %d }, { "n": %d }, { "n": %d } ],
+                  "links": { "next": %s }
+                }
+                """.formatted(first, first + 1, first + 2, next);
+    }
+}
@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class MirrorRestClientTest {
+    @Test
+    void isSharedByEveryRequestOfAClient() throws Exception {
+        try (var client = Client.forNetwork(Collections.emptyMap())) {
+            assertThat(client.getMirrorRestClient()).isSameAs(client.getMirrorRestClient());
+        }
+    }
+
+    @Test
+    void plainHttpRequestsStayOnHttp11() {
+        var mirrorRestClient = new MirrorRestClient(Runnable::run);
+
+        var local = mirrorRestClient
+                .newRequest("http://localhost:5551/api/v1/accounts/0.0.3", Duration.ofSeconds(1))
+                .build();
+        var remote = mirrorRestClient
+                .newRequest("https://testnet.mirrornode.hedera.com/api/v1/accounts/0.0.3", Duration.ofSeconds(1))
+                .build();
+
+        assertThat(local.version()).contains(HttpClient.Version.HTTP_1_1);
+        assertThat(remote.version()).isEmpty();
+        assertThat(remote.timeout()).contains(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void retriesTransientFailures() {
+        assertThat(MirrorRestClient.shouldRetry(503)).isTrue();
+        assertThat(MirrorRestClient.shouldRetry(429)).isTrue();
+        assertThat(MirrorRestClient.shouldRetry(404)).isFalse();
+        assertThat(MirrorRestClient.shouldRetry(new IOException())).isTrue();
+        assertThat(MirrorRestClient.shouldRetry(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    void backoffDoublesUpToTheMaximum() {
+        var maxBackoff = Duration.ofSeconds(8);
+
+        assertThat(MirrorRestClient.getBackoffMillis(1, maxBackoff)).isEqualTo(1000);
+        assertThat(MirrorRestClient.getBackoffMillis(2, maxBackoff)).isEqualTo(2000);
+        assertThat(MirrorRestClient.getBackoffMillis(10, maxBackoff)).isEqualTo(8000);
+        assertThat(MirrorRestClient.getBackoffMillis(100, maxBackoff)).isEqualTo(8000);
+    }
+
+    @Test
+    void setMaxConnectionsRejectsNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new MirrorRestClient(Runnable::run).setMaxConnections(0));
+    }
+}
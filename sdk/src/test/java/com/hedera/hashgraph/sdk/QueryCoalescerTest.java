@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class QueryCoalescerTest {
+    private static final TransactionId transactionId =
+            TransactionId.withValidStart(AccountId.fromString("0.0.5005"), Instant.ofEpochSecond(1_554_158_542L));
+
+    private static Response receiptResponse() {
+        return Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                                .setStatus(ResponseCodeEnum.SUCCESS)))
+                .build();
+    }
+
+    private static Function<Object, Object> delayedReceiptResponse(CountDownLatch release) {
+        return request -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return receiptResponse();
+        };
+    }
+
+    private static TransactionReceiptQuery spawnQuery() {
+        return new TransactionReceiptQuery().setTransactionId(transactionId);
+    }
+
+    @Test
+    void concurrentIdenticalQueriesShareOneRequest() throws Exception {
+        var release = new CountDownLatch(1);
+
+        try (var mocker = Mocker.withResponses(List.of(List.of(delayedReceiptResponse(release))))) {
+            var coalescer = mocker.client.getQueryCoalescer().setEnabled(TransactionReceiptQuery.class, true);
+
+            var first = spawnQuery().executeAsync(mocker.client);
+            var second = spawnQuery().executeAsync(mocker.client);
+            var third = spawnQuery().executeAsync(mocker.client);
+
+            assertThat(coalescer.getInFlightCount()).isEqualTo(1);
+            release.countDown();
+
+            // the node has a single response, so all three must have come from it
+            assertThat(first.get(10, TimeUnit.SECONDS).status).isEqualTo(Status.SUCCESS);
+            assertThat(second.get(10, TimeUnit.SECONDS).status).isEqualTo(Status.SUCCESS);
+            assertThat(third.get(10, TimeUnit.SECONDS).status).isEqualTo(Status.SUCCESS);
+            assertThat(coalescer.getCoalescedCount()).isEqualTo(2);
+            assertThat(coalescer.getInFlightCount()).isZero();
+        }
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotCancelTheOthers() throws Exception {
+        var release = new CountDownLatch(1);
+
+        try (var mocker = Mocker.withResponses(List.of(List.of(delayedReceiptResponse(release))))) {
+            mocker.client.getQueryCoalescer().setEnabled(TransactionReceiptQuery.class, true);
+
+            var first = spawnQuery().executeAsync(mocker.client);
+            var second = spawnQuery().executeAsync(mocker.client);
+
+            first.cancel(true);
+            release.countDown();
+
+            assertThat(second.get(10, TimeUnit.SECONDS).status).isEqualTo(Status.SUCCESS);
+        }
+    }
+
+    @Test
+    void completedQueriesAreNotShared() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse(), receiptResponse())))) {
+            var coalescer = mocker.client.getQueryCoalescer().setEnabled(TransactionReceiptQuery.class, true);
+
+            spawnQuery().execute(mocker.client);
+            spawnQuery().execute(mocker.client);
+
+            assertThat(coalescer.getCoalescedCount()).isZero();
+        }
+    }
+
+    @Test
+    void disabledTypesAreNotCoalesced() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse())))) {
+            var coalescer = mocker.client.getQueryCoalescer();
+
+            spawnQuery().execute(mocker.client);
+
+            assertThat(coalescer.isEnabled(TransactionReceiptQuery.class)).isFalse();
+            assertThat(coalescer.getCoalescedCount()).isZero();
+        }
+    }
+}
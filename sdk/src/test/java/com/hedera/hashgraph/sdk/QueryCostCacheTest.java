@@ -0,0 +1,154 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hashgraph.sdk.proto.CryptoGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class QueryCostCacheTest {
+    private static final PrivateKey accountKey = PrivateKey.fromString(
+            "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final AccountId accountId = AccountId.fromString("0.0.5005");
+
+    private static Response costResponse(long cost) {
+        return Response.newBuilder()
+                .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setCost(cost)))
+                .build();
+    }
+
+    private static Response infoResponse(ResponseCodeEnum precheckCode) {
+        return Response.newBuilder()
+                .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheckCode))
+                        .setAccountInfo(CryptoGetInfoResponse.AccountInfo.newBuilder()
+                                .setAccountID(accountId.toProtobuf())
+                                .setKey(accountKey.getPublicKey().toProtobufKey())))
+                .build();
+    }
+
+    private static AccountInfoQuery spawnQuery() {
+        return new AccountInfoQuery().setAccountId(accountId);
+    }
+
+    @Test
+    void reusesCachedCost() throws Exception {
+        var responses = List.<Object>of(
+                costResponse(10), infoResponse(ResponseCodeEnum.OK), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            mocker.client.getQueryCostCache().setEnabled(true);
+
+            assertThat(spawnQuery().execute(mocker.client).accountId).isEqualTo(accountId);
+
+            // without the cache the second query would need another cost answer, which the node no longer has
+            assertThat(spawnQuery().execute(mocker.client).accountId).isEqualTo(accountId);
+            assertThat(mocker.client.getQueryCostCache().size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void reusesCachedCostAsync() throws Exception {
+        var responses = List.<Object>of(
+                costResponse(10), infoResponse(ResponseCodeEnum.OK), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            mocker.client.getQueryCostCache().setEnabled(true);
+
+            assertThat(spawnQuery().executeAsync(mocker.client).get().accountId).isEqualTo(accountId);
+            assertThat(spawnQuery().executeAsync(mocker.client).get().accountId).isEqualTo(accountId);
+        }
+    }
+
+    @Test
+    void requestsCostAgainWhenCachedCostIsTooLow() throws Exception {
+        var responses = List.<Object>of(
+                infoResponse(ResponseCodeEnum.INSUFFICIENT_TX_FEE),
+                costResponse(10),
+                infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var cache = mocker.client.getQueryCostCache().setEnabled(true);
+            cache.put(spawnQuery(), Hbar.fromTinybars(1));
+
+            assertThat(spawnQuery().execute(mocker.client).accountId).isEqualTo(accountId);
+            assertThat(cache.get(QueryKey.of(spawnQuery()))).isEqualTo(Hbar.fromTinybars(10));
+        }
+    }
+
+    @Test
+    void requestsCostAgainWhenCachedCostIsTooLowAsync() throws Exception {
+        var responses = List.<Object>of(
+                infoResponse(ResponseCodeEnum.INSUFFICIENT_TX_FEE),
+                costResponse(10),
+                infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var cache = mocker.client.getQueryCostCache().setEnabled(true);
+            cache.put(spawnQuery(), Hbar.fromTinybars(1));
+
+            assertThat(spawnQuery().executeAsync(mocker.client).get().accountId).isEqualTo(accountId);
+            assertThat(cache.get(QueryKey.of(spawnQuery()))).isEqualTo(Hbar.fromTinybars(10));
+        }
+    }
+
+    @Test
+    void differentQueriesDoNotShareCosts() {
+        var cache = new QueryCostCache().setEnabled(true);
+        cache.put(spawnQuery(), Hbar.fromTinybars(10));
+
+        var otherAccount = new AccountInfoQuery().setAccountId(AccountId.fromString("0.0.7"));
+        var otherType = new ContractInfoQuery().setContractId(ContractId.fromString("0.0.5005"));
+
+        assertThat(cache.get(QueryKey.of(spawnQuery()))).isEqualTo(Hbar.fromTinybars(10));
+        assertThat(cache.get(QueryKey.of(otherAccount))).isNull();
+        assertThat(cache.get(QueryKey.of(otherType))).isNull();
+    }
+
+    @Test
+    void ignoresPaymentHeader() {
+        var cache = new QueryCostCache().setEnabled(true);
+        var query = spawnQuery().setQueryPayment(Hbar.fromTinybars(25));
+        cache.put(query, Hbar.fromTinybars(10));
+
+        assertThat(cache.get(QueryKey.of(spawnQuery()))).isEqualTo(Hbar.fromTinybars(10));
+    }
+
+    @Test
+    void disabledCacheKeepsNothing() {
+        var cache = new QueryCostCache();
+        cache.put(spawnQuery(), Hbar.fromTinybars(10));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(QueryKey.of(spawnQuery()))).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() {
+        var cache = new QueryCostCache().setEnabled(true).setMaxSize(2);
+        var first = new AccountInfoQuery().setAccountId(AccountId.fromString("0.0.1"));
+        var second = new AccountInfoQuery().setAccountId(AccountId.fromString("0.0.2"));
+        var third = new AccountInfoQuery().setAccountId(AccountId.fromString("0.0.3"));
+
+        cache.put(first, Hbar.fromTinybars(1));
+        cache.put(second, Hbar.fromTinybars(2));
+        cache.get(QueryKey.of(first));
+        cache.put(third, Hbar.fromTinybars(3));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(QueryKey.of(first))).isEqualTo(Hbar.fromTinybars(1));
+        assertThat(cache.get(QueryKey.of(second))).isNull();
+    }
+
+    @Test
+    void setTtlRejectsNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCostCache().setTtl(Duration.ZERO));
+    }
+}
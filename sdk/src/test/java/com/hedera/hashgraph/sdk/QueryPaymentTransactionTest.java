@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hashgraph.sdk.proto.CryptoGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class QueryPaymentTransactionTest {
+    private static final PrivateKey accountKey = PrivateKey.fromString(
+            "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final AccountId accountId = AccountId.fromString("0.0.5005");
+
+    private final List<Transaction> payments = new CopyOnWriteArrayList<>();
+
+    private Function<Object, Object> infoResponse(ResponseCodeEnum precheckCode) {
+        return request -> {
+            payments.add(((Query) request).getCryptoGetInfo().getHeader().getPayment());
+
+            return Response.newBuilder()
+                    .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                            .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheckCode))
+                            .setAccountInfo(CryptoGetInfoResponse.AccountInfo.newBuilder()
+                                    .setAccountID(accountId.toProtobuf())
+                                    .setKey(accountKey.getPublicKey().toProtobufKey())))
+                    .build();
+        };
+    }
+
+    private Function<Object, Object> unavailable() {
+        return request -> {
+            payments.add(((Query) request).getCryptoGetInfo().getHeader().getPayment());
+            return Status.UNAVAILABLE.asRuntimeException();
+        };
+    }
+
+    @Test
+    void retryOnSameNodeReusesPayment() throws Exception {
+        var responses = List.<Object>of(infoResponse(ResponseCodeEnum.BUSY), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            new AccountInfoQuery()
+                    .setAccountId(accountId)
+                    .setQueryPayment(Hbar.fromTinybars(10))
+                    .execute(mocker.client);
+        }
+
+        assertThat(payments).hasSize(2);
+        assertThat(payments.get(1)).isEqualTo(payments.get(0));
+    }
+
+    @Test
+    void acceptedPaymentIsNotSentAgain() throws Exception {
+        var responses = List.<Object>of(infoResponse(ResponseCodeEnum.OK), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var query = new AccountInfoQuery().setAccountId(accountId).setQueryPayment(Hbar.fromTinybars(10));
+
+            query.execute(mocker.client);
+            query.execute(mocker.client);
+        }
+
+        assertThat(payments).hasSize(2);
+        assertThat(payments.get(1)).isNotEqualTo(payments.get(0));
+    }
+
+    @Test
+    void retryOnSameNodeReusesPaymentAsync() throws Exception {
+        var responses = List.<Object>of(infoResponse(ResponseCodeEnum.BUSY), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            new AccountInfoQuery()
+                    .setAccountId(accountId)
+                    .setQueryPayment(Hbar.fromTinybars(10))
+                    .executeAsync(mocker.client)
+                    .get();
+        }
+
+        assertThat(payments).hasSize(2);
+        assertThat(payments.get(1)).isEqualTo(payments.get(0));
+    }
+
+    @Test
+    void retryAfterTransportFailureSignsNewPayment() throws Exception {
+        var responses = List.<Object>of(unavailable(), infoResponse(ResponseCodeEnum.OK));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            new AccountInfoQuery()
+                    .setAccountId(accountId)
+                    .setQueryPayment(Hbar.fromTinybars(10))
+                    .execute(mocker.client);
+        }
+
+        assertThat(payments).hasSize(2);
+        assertThat(payments.get(1)).isNotEqualTo(payments.get(0));
+    }
+}
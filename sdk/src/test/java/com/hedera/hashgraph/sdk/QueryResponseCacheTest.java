@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class QueryResponseCacheTest {
+    private static final TransactionId transactionId =
+            TransactionId.withValidStart(AccountId.fromString("0.0.5005"), Instant.ofEpochSecond(1_554_158_542L));
+
+    private static Response receiptResponse() {
+        return Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                                .setStatus(ResponseCodeEnum.SUCCESS)))
+                .build();
+    }
+
+    private static TransactionReceiptQuery spawnQuery() {
+        return new TransactionReceiptQuery().setTransactionId(transactionId);
+    }
+
+    @Test
+    void answersRepeatedQueryFromCache() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse())))) {
+            var cache = mocker.client
+                    .getQueryResponseCache()
+                    .setTtl(TransactionReceiptQuery.class, Duration.ofMinutes(1));
+
+            var first = spawnQuery().execute(mocker.client);
+
+            // the node has no second response, so this one must come from the cache
+            var second = spawnQuery().execute(mocker.client);
+
+            assertThat(second.status).isEqualTo(Status.SUCCESS);
+            assertThat(second).isNotSameAs(first);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void answersRepeatedQueryFromCacheAsync() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse())))) {
+            var cache = mocker.client
+                    .getQueryResponseCache()
+                    .setTtl(TransactionReceiptQuery.class, Duration.ofMinutes(1));
+
+            spawnQuery().executeAsync(mocker.client).get();
+            var second = spawnQuery().executeAsync(mocker.client).get();
+
+            assertThat(second.status).isEqualTo(Status.SUCCESS);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void uncachedTypesAreNotStored() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse())))) {
+            var cache = mocker.client.getQueryResponseCache();
+
+            spawnQuery().execute(mocker.client);
+
+            assertThat(cache.size()).isZero();
+            assertThat(cache.getMissCount()).isZero();
+        }
+    }
+
+    @Test
+    void expiredResponsesAreNotReturned() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse(), receiptResponse())))) {
+            var cache = mocker.client
+                    .getQueryResponseCache()
+                    .setTtl(TransactionReceiptQuery.class, Duration.ofMillis(1));
+
+            spawnQuery().execute(mocker.client);
+            Thread.sleep(10);
+            spawnQuery().execute(mocker.client);
+
+            assertThat(cache.getHitCount()).isZero();
+            assertThat(cache.getMissCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void removeTtlDiscardsEntries() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of(receiptResponse())))) {
+            var cache = mocker.client
+                    .getQueryResponseCache()
+                    .setTtl(TransactionReceiptQuery.class, Duration.ofMinutes(1));
+
+            spawnQuery().execute(mocker.client);
+            assertThat(cache.size()).isEqualTo(1);
+
+            cache.removeTtl(TransactionReceiptQuery.class);
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedResponses() throws Exception {
+        var responses = List.<Object>of(receiptResponse(), receiptResponse());
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var cache = mocker.client
+                    .getQueryResponseCache()
+                    .setTtl(TransactionReceiptQuery.class, Duration.ofMinutes(1))
+                    .setMaxSize(1);
+
+            spawnQuery().execute(mocker.client);
+            new TransactionReceiptQuery()
+                    .setTransactionId(TransactionId.withValidStart(transactionId.accountId, Instant.EPOCH))
+                    .execute(mocker.client);
+
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.getEvictionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void setTtlRejectsNonPositive() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new QueryResponseCache().setTtl(TransactionReceiptQuery.class, Duration.ZERO));
+    }
+}
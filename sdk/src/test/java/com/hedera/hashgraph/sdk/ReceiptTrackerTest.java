@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class ReceiptTrackerTest {
+    private static final AccountId nodeId = AccountId.fromString("0.0.3");
+
+    private static Response receiptResponse(ResponseCodeEnum precheckCode, ResponseCodeEnum receiptStatus) {
+        return Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheckCode))
+                        .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                                .setStatus(receiptStatus)))
+                .build();
+    }
+
+    private static TransactionId spawnTransactionId(long seconds) {
+        return TransactionId.withValidStart(AccountId.fromString("0.0.5005"), Instant.ofEpochSecond(seconds));
+    }
+
+    private static ReceiptTracker spawnTracker(Client client) {
+        return client.getReceiptTracker()
+                .setMinPollInterval(Duration.ofMillis(10))
+                .setMaxPollInterval(Duration.ofMillis(10))
+                .setLatencyEstimate(Duration.ZERO);
+    }
+
+    @Test
+    void completesOnceReceiptIsAvailable() throws Exception {
+        var responses = List.<Object>of(
+                receiptResponse(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN),
+                receiptResponse(ResponseCodeEnum.OK, ResponseCodeEnum.UNKNOWN),
+                receiptResponse(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var tracker = spawnTracker(mocker.client);
+            var transactionId = spawnTransactionId(1);
+
+            var receipt = tracker.track(transactionId, nodeId, Duration.ofSeconds(10))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(receipt.status).isEqualTo(Status.SUCCESS);
+            assertThat(receipt.transactionId).isEqualTo(transactionId);
+            assertThat(tracker.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void latencyEstimateFallsWhenTheFirstPollFindsTheReceipt() throws Exception {
+        var responses = List.<Object>of(receiptResponse(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var tracker = spawnTracker(mocker.client).setLatencyEstimate(Duration.ofSeconds(1));
+
+            tracker.track(spawnTransactionId(1), nodeId, Duration.ofSeconds(10)).get(10, TimeUnit.SECONDS);
+
+            assertThat(tracker.getLatencyEstimate()).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void notifiesListeners() throws Exception {
+        var responses = List.<Object>of(
+                receiptResponse(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS),
+                receiptResponse(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var received = new CopyOnWriteArrayList<TransactionReceipt>();
+            var tracker = spawnTracker(mocker.client).addListener(received::addAll);
+
+            var first = tracker.track(spawnTransactionId(1), nodeId, Duration.ofSeconds(10));
+            var second = tracker.track(spawnTransactionId(2), nodeId, Duration.ofSeconds(10));
+
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+
+            // listeners run after the futures of their round complete
+            var deadline = System.currentTimeMillis() + 5_000;
+            while (received.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(received).hasSize(2);
+        }
+    }
+
+    @Test
+    void trackingTheSameTransactionTwiceSharesTheFuture() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var tracker = mocker.client.getReceiptTracker();
+            var transactionId = spawnTransactionId(1);
+
+            var first = tracker.track(transactionId, nodeId, Duration.ofSeconds(10));
+            var second = tracker.track(transactionId, nodeId, Duration.ofSeconds(10));
+
+            assertThat(second).isSameAs(first);
+        }
+    }
+
+    @Test
+    void failsWhenTimeoutPasses() throws Exception {
+        var responses = List.<Object>of(
+                receiptResponse(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN),
+                receiptResponse(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN),
+                receiptResponse(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            var tracker = spawnTracker(mocker.client);
+
+            var future = tracker.track(spawnTransactionId(1), nodeId, Duration.ofMillis(50));
+            var error = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+            assertThat(error.getCause()).isInstanceOf(TimeoutException.class);
+        }
+    }
+
+    @Test
+    void setMinPollIntervalRejectsNonPositive() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mocker.client.getReceiptTracker().setMinPollInterval(Duration.ZERO));
+        }
+    }
+}
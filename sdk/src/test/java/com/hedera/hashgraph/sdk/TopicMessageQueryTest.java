@@ -30,9 +30,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterAll;
@@ -443,6 +446,352 @@ class TopicMessageQueryTest {
         secondHandle.unsubscribe();
     }
 
+    @Test
+    @Timeout(5)
+    void attemptsAreCountedFromTheLastStreamThatReceivedMessages() {
+        topicMessageQuery.setMaxAttempts(1);
+        ConsensusTopicQuery.Builder request = request();
+
+        consensusServiceStub.requests.add(request.build());
+        consensusServiceStub.requests.add(request.setConsensusStartTime(
+                        toTimestamp(toInstant(response(1L).getConsensusTimestamp()).plusNanos(1L)))
+                .build());
+        consensusServiceStub.requests.add(request.setConsensusStartTime(
+                        toTimestamp(toInstant(response(2L).getConsensusTimestamp()).plusNanos(1L)))
+                .build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(Status.UNAVAILABLE.asRuntimeException());
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(Status.UNAVAILABLE.asRuntimeException());
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received)
+                .extracting(t -> t.sequenceNumber)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void unsubscribeWhileWaitingToReconnect() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(Status.UNAVAILABLE.asRuntimeException());
+
+        SubscriptionHandle handle = topicMessageQuery.subscribe(client, received::add);
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        handle.unsubscribe();
+
+        // longer than the backoff, which would have opened a second stream
+        Uninterruptibles.sleepUninterruptibly(700, TimeUnit.MILLISECONDS);
+
+        assertThat(errors).isEmpty();
+        Assertions.assertThat(received).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void publishFollowsDemand() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        var subscriber = new TestSubscriber();
+        topicMessageQuery.publish(client).subscribe(subscriber);
+
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        Assertions.assertThat(subscriber.messages).isEmpty();
+
+        subscriber.subscription.request(2);
+        awaitMessages(subscriber, 2);
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        Assertions.assertThat(subscriber.messages).hasSize(2);
+        assertThat(subscriber.complete).isFalse();
+
+        subscriber.subscription.request(1);
+        awaitMessages(subscriber, 3);
+
+        Assertions.assertThat(subscriber.messages)
+                .extracting(t -> t.sequenceNumber)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(subscriber.error).isNull();
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void publishRequestsTheMissingChunks() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L, 2));
+        consensusServiceStub.responses.add(response(2L, 2));
+
+        var subscriber = new TestSubscriber();
+        topicMessageQuery.publish(client).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        awaitMessages(subscriber, 1);
+        Assertions.assertThat(subscriber.messages)
+                .first()
+                .extracting(t -> t.chunks)
+                .asInstanceOf(InstanceOfAssertFactories.ARRAY)
+                .hasSize(2);
+    }
+
+    @Test
+    @Timeout(3)
+    void publishSignalsErrorsToTheSubscriber() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(Status.INVALID_ARGUMENT.asRuntimeException());
+
+        var subscriber = new TestSubscriber();
+        topicMessageQuery.publish(client).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        while (subscriber.error == null && stopwatch.elapsed(TimeUnit.SECONDS) < 3) {
+            Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(subscriber.error).isInstanceOf(StatusRuntimeException.class);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void resumesFromTheCheckpoint() {
+        var store = new TestCheckpointStore();
+        store.checkpoint = checkpoint(2L, START_TIME.plusSeconds(2L).plusNanos(1L));
+        topicMessageQuery.setCheckpointStore(store);
+
+        consensusServiceStub.requests.add(request()
+                .setConsensusStartTime(toTimestamp(START_TIME.plusSeconds(2L).plusNanos(1L)))
+                .build());
+        consensusServiceStub.responses.add(response(3L));
+        consensusServiceStub.responses.add(response(4L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(3L, 4L);
+        Assertions.assertThat(store.saved).extracting(c -> c.sequenceNumber).containsExactly(4L);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void skipsTheMessagesProcessedBeforeTheCheckpoint() {
+        var store = new TestCheckpointStore();
+        store.checkpoint = checkpoint(2L, START_TIME.plusSeconds(1L));
+        topicMessageQuery.setCheckpointStore(store);
+
+        consensusServiceStub.requests.add(request()
+                .setConsensusStartTime(toTimestamp(START_TIME.plusSeconds(1L)))
+                .build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(3L);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void ignoresACheckpointBeforeTheStartTime() {
+        var store = new TestCheckpointStore();
+        store.checkpoint = checkpoint(0L, START_TIME.minusSeconds(10L));
+        topicMessageQuery.setCheckpointStore(store);
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(1L);
+    }
+
+    @Test
+    @Timeout(3)
+    void savesTheCheckpointInBatches() {
+        var store = new TestCheckpointStore();
+        topicMessageQuery.setCheckpointStore(store).setCheckpointBatchSize(2);
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(store.saved).extracting(c -> c.sequenceNumber).containsExactly(2L, 3L);
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void checkpointResumesFromIncompleteMessages() {
+        var store = new TestCheckpointStore();
+        topicMessageQuery.setCheckpointStore(store);
+
+        // the first chunk of a message, then a message of its own
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L, 2));
+        consensusServiceStub.responses.add(response(2L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(store.saved)
+                .singleElement()
+                .returns(2L, c -> c.sequenceNumber)
+                .returns(START_TIME.plusSeconds(2L), c -> c.consensusTimestamp)
+                .returns(START_TIME.plusSeconds(1L), c -> c.resumeTimestamp);
+    }
+
+    @Test
+    @SuppressWarnings("NullAway")
+    void setCheckpointStoreNull() {
+        assertThatThrownBy(() -> topicMessageQuery.setCheckpointStore(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("checkpointStore must not be null");
+    }
+
+    @Test
+    void setCheckpointBatchSizeZero() {
+        assertThatThrownBy(() -> topicMessageQuery.setCheckpointBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Timeout(3)
+    void subscribeToViews() {
+        ConsensusTopicResponse response1 = response(1L, 2);
+        ConsensusTopicResponse response2 = response(2L, 2);
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response1);
+        consensusServiceStub.responses.add(response2);
+
+        List<TopicMessageView> views = new CopyOnWriteArrayList<>();
+        SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribeToViews(client, views::add);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        while (!complete.get() && stopwatch.elapsed(TimeUnit.SECONDS) < 3) {
+            Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+        }
+        subscriptionHandle.unsubscribe();
+
+        assertThat(errors).isEmpty();
+        Assertions.assertThat(views).singleElement().satisfies(view -> {
+            assertThat(view.getSequenceNumber()).isEqualTo(2L);
+            assertThat(view.getContents()).isEqualTo(response1.getMessage().concat(response2.getMessage()));
+            assertThat(view.getChunkContents(0)).isSameAs(response1.getMessage());
+        });
+    }
+
+    @Test
+    @Timeout(3)
+    void subscribeBatchedFlushesFullBatches() {
+        consensusServiceStub.requests.add(request().build());
+        for (var sequenceNumber = 1L; sequenceNumber <= 5L; sequenceNumber++) {
+            consensusServiceStub.responses.add(response(sequenceNumber));
+        }
+
+        var batches = subscribeBatchedToMirror(2, Duration.ofMinutes(1));
+
+        // what is left is handed over when the subscription completes
+        Assertions.assertThat(batches)
+                .extracting(batch -> batch.stream().map(t -> t.sequenceNumber).toList())
+                .containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void subscribeBatchedFlushesAfterTheLatency() {
+        ConsensusTopicQuery.Builder request = request();
+        consensusServiceStub.requests.add(request.build());
+        consensusServiceStub.requests.add(request.setConsensusStartTime(
+                        toTimestamp(toInstant(response(1L).getConsensusTimestamp()).plusNanos(1L)))
+                .build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(Status.UNAVAILABLE.asRuntimeException());
+        consensusServiceStub.responses.add(response(2L));
+
+        // the first message waits less than the backoff of the reconnect
+        var batches = subscribeBatchedToMirror(10, Duration.ofMillis(50));
+
+        Assertions.assertThat(batches)
+                .extracting(batch -> batch.stream().map(t -> t.sequenceNumber).toList())
+                .containsExactly(List.of(1L), List.of(2L));
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(3)
+    void subscribeBatchedReassemblesChunks() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L, 2));
+        consensusServiceStub.responses.add(response(2L, 2));
+        consensusServiceStub.responses.add(response(3L));
+
+        var batches = subscribeBatchedToMirror(2, Duration.ofMinutes(1));
+
+        Assertions.assertThat(batches).singleElement().satisfies(batch -> {
+            Assertions.assertThat(batch).extracting(t -> t.sequenceNumber).containsExactly(2L, 3L);
+            Assertions.assertThat(batch.get(0).chunks).hasSize(2);
+        });
+    }
+
+    @Test
+    @Timeout(3)
+    void subscribeBatchedSavesTheCheckpointOfEachBatch() {
+        var store = new TestCheckpointStore();
+        topicMessageQuery.setCheckpointStore(store).setCheckpointBatchSize(1);
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeBatchedToMirror(2, Duration.ofMinutes(1));
+
+        Assertions.assertThat(store.saved).extracting(c -> c.sequenceNumber).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void subscribeBatchedRejectsInvalidBatches() {
+        assertThatThrownBy(() -> topicMessageQuery.subscribeBatched(client, 0, Duration.ofSeconds(1), batch -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> topicMessageQuery.subscribeBatched(client, 10, Duration.ZERO, batch -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<List<TopicMessage>> subscribeBatchedToMirror(int maxBatchSize, Duration maxLatency) {
+        List<List<TopicMessage>> batches = new CopyOnWriteArrayList<>();
+        SubscriptionHandle subscriptionHandle =
+                topicMessageQuery.subscribeBatched(client, maxBatchSize, maxLatency, batches::add);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        while (!complete.get() && errors.isEmpty() && stopwatch.elapsed(TimeUnit.SECONDS) < 3) {
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        subscriptionHandle.unsubscribe();
+        return batches;
+    }
+
+    private static SubscriptionCheckpoint checkpoint(long sequenceNumber, Instant resumeTimestamp) {
+        return new SubscriptionCheckpoint(START_TIME.plusSeconds(sequenceNumber), sequenceNumber, resumeTimestamp);
+    }
+
+    private static void awaitMessages(TestSubscriber subscriber, int count) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        while (subscriber.messages.size() < count && stopwatch.elapsed(TimeUnit.SECONDS) < 3) {
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+        }
+    }
+
     private void subscribeToMirror(Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribe(client, onNext);
         Stopwatch stopwatch = Stopwatch.createStarted();
@@ -535,6 +884,52 @@ class TopicMessageQueryTest {
         }
     }
 
+    private static class TestCheckpointStore implements SubscriptionCheckpointStore {
+        private final List<SubscriptionCheckpoint> saved = new CopyOnWriteArrayList<>();
+
+        @Nullable
+        private volatile SubscriptionCheckpoint checkpoint;
+
+        @Override
+        @Nullable
+        public SubscriptionCheckpoint load(TopicId topicId) {
+            return checkpoint;
+        }
+
+        @Override
+        public void save(TopicId topicId, SubscriptionCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            saved.add(checkpoint);
+        }
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+        private final List<TopicMessage> messages = new CopyOnWriteArrayList<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean complete;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            messages.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+    }
+
     private byte[] combine(byte[] array1, byte[] array2) {
         byte[] joinedArray = new byte[array1.length + array2.length];
         System.arraycopy(array1, 0, joinedArray, 0, array1.length);
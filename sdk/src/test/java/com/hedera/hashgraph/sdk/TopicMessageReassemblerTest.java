@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageReassemblerTest {
+    private final List<Throwable> dropped = new ArrayList<>();
+
+    @Test
+    void reassemblesChunksReceivedOutOfOrder() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        assertThat(reassembler.add(chunk(1, 2, 3, 10L))).isNull();
+        assertThat(reassembler.add(chunk(1, 1, 3, 11L))).isNull();
+        var message = reassembler.add(chunk(1, 3, 3, 12L));
+
+        assertThat(message).isNotNull();
+        assertThat(message.getContents().toStringUtf8()).isEqualTo("123");
+        assertThat(message.getSequenceNumber()).isEqualTo(12L);
+        assertThat(message.getChunkCount()).isEqualTo(3);
+        assertThat(reassembler.size()).isZero();
+        assertThat(dropped).isEmpty();
+    }
+
+    @Test
+    void passesSingleMessagesThrough() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        var message = reassembler.add(chunk(1, 1, 1, 10L));
+
+        assertThat(message).isNotNull();
+        assertThat(reassembler.size()).isZero();
+    }
+
+    @Test
+    void ignoresChunksReceivedTwice() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        assertThat(reassembler.add(chunk(1, 1, 2, 10L))).isNull();
+        assertThat(reassembler.add(chunk(1, 1, 2, 10L))).isNull();
+        assertThat(reassembler.add(chunk(1, 2, 2, 11L))).isNotNull();
+    }
+
+    @Test
+    void holdsOnlyTheChunksReceivedOfAHugeMessage() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        assertThat(reassembler.add(chunk(1, 1, Integer.MAX_VALUE, 10L))).isNull();
+        assertThat(reassembler.add(chunk(1, Integer.MAX_VALUE, Integer.MAX_VALUE, 11L))).isNull();
+
+        assertThat(reassembler.size()).isEqualTo(1);
+        assertThat(dropped).isEmpty();
+    }
+
+    @Test
+    void dropsTheOldestIncompleteMessageWhenFull() {
+        var reassembler = newReassembler(2, Duration.ofMinutes(5));
+
+        reassembler.add(chunk(1, 1, 2, 10L));
+        reassembler.add(chunk(2, 1, 2, 11L));
+        reassembler.add(chunk(3, 1, 2, 12L));
+
+        assertThat(reassembler.size()).isEqualTo(2);
+        assertThat(dropped).singleElement().satisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("0.0.1@")
+                .hasMessageContaining("1 of its 2 chunks"));
+
+        // the rest of a dropped message starts over
+        assertThat(reassembler.add(chunk(1, 2, 2, 13L))).isNull();
+    }
+
+    @Test
+    void dropsIncompleteMessagesOnceTooOld() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        reassembler.add(chunk(1, 1, 2, 10L));
+        reassembler.add(chunk(2, 1, 2, 10L + Duration.ofMinutes(6).toSeconds()));
+
+        assertThat(reassembler.size()).isEqualTo(1);
+        assertThat(dropped).hasSize(1);
+    }
+
+    @Test
+    void reportsChunksWithAnInvalidNumber() {
+        var reassembler = newReassembler(10, Duration.ofMinutes(5));
+
+        assertThat(reassembler.add(chunk(1, 3, 2, 10L))).isNull();
+
+        assertThat(reassembler.size()).isZero();
+        assertThat(dropped).hasSize(1);
+    }
+
+    @Test
+    void rejectsNonPositiveMaxPendingMessages() {
+        assertThrows(IllegalArgumentException.class, () -> newReassembler(0, Duration.ofMinutes(5)));
+    }
+
+    private TopicMessageReassembler newReassembler(int maxPendingMessages, Duration maxPendingAge) {
+        return new TopicMessageReassembler(maxPendingMessages, maxPendingAge, dropped::add);
+    }
+
+    private static ConsensusTopicResponse chunk(long account, int number, int total, long sequenceNumber) {
+        var initialTransactionId = TransactionID.newBuilder()
+                .setAccountID(AccountID.newBuilder().setAccountNum(account))
+                .setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_000));
+
+        return ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_000 + sequenceNumber))
+                .setSequenceNumber(sequenceNumber)
+                .setMessage(ByteString.copyFromUtf8(Integer.toString(number)))
+                .setRunningHash(ByteString.copyFromUtf8("hash" + sequenceNumber))
+                .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                        .setInitialTransactionID(initialTransactionId)
+                        .setNumber(number)
+                        .setTotal(total))
+                .build();
+    }
+}
@@ -6,12 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import io.github.jsonSnapshot.SnapshotMatcher;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -177,4 +186,95 @@ public class TopicMessageSubmitTransactionTest {
 
         assertThat(topicMessageSubmitTransaction.getCustomFeeLimits()).containsExactly(customFeeLimitToBeAdded);
     }
+
+    @Test
+    void executeAllSubmitsChunksConcurrently() throws Exception {
+        var chunkNumbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+        try (var mocker = Mocker.withResponses(List.of(chunkResponses(chunkNumbers, -1)))) {
+            mocker.client
+                    .getReceiptTracker()
+                    .setLatencyEstimate(Duration.ZERO)
+                    .setMinPollInterval(Duration.ofMillis(10))
+                    .setMaxPollInterval(Duration.ofMillis(10));
+
+            var transaction = new TopicMessageSubmitTransaction()
+                    .setTopicId(testTopicId)
+                    .setMessage("abcde")
+                    .setChunkSize(1)
+                    .setMaxConcurrentChunks(3);
+
+            var responses = transaction.executeAll(mocker.client);
+
+            assertThat(chunkNumbers).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+            assertThat(responses).hasSize(5);
+            for (var i = 0; i < responses.size(); i++) {
+                assertThat(responses.get(i).transactionId).isEqualTo(transaction.transactionIds.get(i));
+            }
+        }
+    }
+
+    @Test
+    void executeAllFailsWhenAConcurrentChunkIsRejected() throws Exception {
+        var chunkNumbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+        try (var mocker = Mocker.withResponses(List.of(chunkResponses(chunkNumbers, 2)))) {
+            var transaction = new TopicMessageSubmitTransaction()
+                    .setTopicId(testTopicId)
+                    .setMessage("abc")
+                    .setChunkSize(1)
+                    .setMaxConcurrentChunks(3);
+
+            var error = assertThrows(PrecheckStatusException.class, () -> transaction.executeAll(mocker.client));
+            assertThat(error.status).isEqualTo(Status.INVALID_TOPIC_MESSAGE);
+        }
+    }
+
+    @Test
+    void setMaxConcurrentChunksZero() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new TopicMessageSubmitTransaction().setMaxConcurrentChunks(0));
+    }
+
+    /**
+     * Accept every chunk but the rejected one, recording its chunk number, and answer every receipt query.
+     */
+    private static List<Object> chunkResponses(List<Integer> chunkNumbers, int rejectedChunk) {
+        Function<Object, Object> respond = request -> {
+            if (request instanceof Query) {
+                return Response.newBuilder()
+                        .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                                .setHeader(ResponseHeader.newBuilder()
+                                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                                .setReceipt(TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS)))
+                        .build();
+            }
+
+            try {
+                var transaction = (com.hedera.hashgraph.sdk.proto.Transaction) request;
+                var body = TransactionBody.parseFrom(
+                        SignedTransaction.parseFrom(transaction.getSignedTransactionBytes())
+                                .getBodyBytes());
+                var chunkNumber = body.getConsensusSubmitMessage().getChunkInfo().getNumber();
+
+                var status = chunkNumber == rejectedChunk
+                        ? ResponseCodeEnum.INVALID_TOPIC_MESSAGE
+                        : ResponseCodeEnum.OK;
+                chunkNumbers.add(chunkNumber);
+
+                return com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                        .setNodeTransactionPrecheckCode(status)
+                        .build();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        var responses = new ArrayList<Object>();
+        for (var i = 0; i < 20; i++) {
+            responses.add(respond);
+        }
+
+        return responses;
+    }
 }
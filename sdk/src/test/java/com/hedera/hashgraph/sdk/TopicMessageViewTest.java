@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageViewTest {
+    private static final Instant TIMESTAMP = Instant.ofEpochSecond(1554158542);
+    private static final TransactionId TRANSACTION_ID = new TransactionId(new AccountId(0, 0, 1), TIMESTAMP);
+
+    @Test
+    void readsASingleMessageWithoutCopying() {
+        var response = response(1, 1, "hello");
+        var view = TopicMessageView.ofSingle(response);
+
+        assertThat(view.getContents()).isSameAs(response.getMessage());
+        assertThat(view.getContentsAsReadOnlyByteBuffer().isReadOnly()).isTrue();
+        assertThat(view.getContentsSize()).isEqualTo(5);
+        assertThat(view.getConsensusTimestamp()).isEqualTo(TIMESTAMP.plusSeconds(1));
+        assertThat(view.getSequenceNumber()).isEqualTo(1L);
+        assertThat(view.getChunkCount()).isEqualTo(1);
+        assertThat(view.getTransactionId()).isEqualTo(TRANSACTION_ID);
+    }
+
+    @Test
+    void joinsTheChunksOfAMessage() {
+        var first = response(1, 2, "a".repeat(200));
+        var second = response(2, 2, "b".repeat(200));
+        var view = new TopicMessageView(new ConsensusTopicResponse[] {first, second}, second);
+
+        assertThat(view.getContents().toStringUtf8()).isEqualTo("a".repeat(200) + "b".repeat(200));
+        assertThat(view.getContents()).isSameAs(view.getContents());
+        assertThat(view.getContentsSize()).isEqualTo(400);
+        assertThat(view.getContentsAsReadOnlyByteBuffers())
+                .hasSize(2)
+                .allSatisfy(buffer -> assertThat(buffer.isReadOnly()).isTrue())
+                .extracting(ByteBuffer::remaining)
+                .containsExactly(200, 200);
+        assertThat(view.getSequenceNumber()).isEqualTo(2L);
+        assertThat(view.getChunkCount()).isEqualTo(2);
+        assertThat(view.getChunkSequenceNumber(0)).isEqualTo(1L);
+        assertThat(view.getChunkConsensusTimestamp(0)).isEqualTo(TIMESTAMP.plusSeconds(1));
+        assertThat(view.getChunkContents(1)).isSameAs(second.getMessage());
+    }
+
+    @Test
+    void convertsToATopicMessage() {
+        var first = response(1, 2, "a");
+        var second = response(2, 2, "b");
+
+        var message = new TopicMessageView(new ConsensusTopicResponse[] {first, second}, second).toTopicMessage();
+
+        assertThat(message.contents).isEqualTo("ab".getBytes());
+        assertThat(message.sequenceNumber).isEqualTo(2L);
+        assertThat(message.consensusTimestamp).isEqualTo(TIMESTAMP.plusSeconds(2));
+        assertThat(message.chunks).hasSize(2);
+        assertThat(message.transactionId).isEqualTo(TRANSACTION_ID);
+    }
+
+    private static ConsensusTopicResponse response(int number, int total, String contents) {
+        return ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(TIMESTAMP.getEpochSecond() + number))
+                .setMessage(ByteString.copyFromUtf8(contents))
+                .setRunningHash(ByteString.copyFromUtf8("hash" + number))
+                .setSequenceNumber(number)
+                .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                        .setInitialTransactionID(TRANSACTION_ID.toProtobuf())
+                        .setNumber(number)
+                        .setTotal(total))
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TopicPublisherTest {
+    private static final TopicId TOPIC_ID = new TopicId(0, 0, 1000);
+
+    @Test
+    void publishesInOrder() throws Exception {
+        var consensus = new FakeConsensus();
+
+        try (var mocker = Mocker.withResponses(List.of(consensus.responses(60)))) {
+            var publisher = newPublisher(mocker.client);
+            var futures = new ArrayList<CompletableFuture<TopicPublisher.PublishedMessage>>();
+            var published = new ArrayList<String>();
+
+            for (var i = 0; i < 20; i++) {
+                published.add("message " + i);
+                futures.add(publisher.publish(TOPIC_ID, "message " + i));
+            }
+
+            for (var i = 0; i < futures.size(); i++) {
+                var message = futures.get(i).get(10, TimeUnit.SECONDS);
+
+                assertThat(message.sequenceNumber).isEqualTo(i + 1);
+                assertThat(message.runningHash).isEqualTo(ByteString.copyFromUtf8("hash" + (i + 1)));
+                assertThat(message.topicId).isEqualTo(TOPIC_ID);
+            }
+
+            assertThat(consensus.messages).containsExactlyElementsOf(published);
+            assertThat(publisher.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void failsTheMessageRejectedByThePrecheck() throws Exception {
+        var consensus = new FakeConsensus();
+        consensus.rejected.add("rejected");
+
+        try (var mocker = Mocker.withResponses(List.of(consensus.responses(10)))) {
+            var publisher = newPublisher(mocker.client);
+
+            var first = publisher.publish(TOPIC_ID, "first");
+            var rejected = publisher.publish(TOPIC_ID, "rejected");
+            var last = publisher.publish(TOPIC_ID, "last");
+
+            assertThat(first.get(10, TimeUnit.SECONDS).sequenceNumber).isEqualTo(1);
+            var error = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+            assertThat(error.getCause()).isInstanceOf(PrecheckStatusException.class);
+            assertThat(last.get(10, TimeUnit.SECONDS).sequenceNumber).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void rejectsMessagesOnceClosed() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var publisher = newPublisher(mocker.client);
+            publisher.close();
+
+            var future = publisher.publish(TOPIC_ID, "message");
+
+            var error = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+            assertThat(error.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var publisher = newPublisher(mocker.client);
+
+            assertThrows(IllegalArgumentException.class, () -> publisher.publish(TOPIC_ID, ByteString.EMPTY));
+            assertThrows(IllegalArgumentException.class, () -> publisher.setMaxInFlightPerTopic(0));
+            assertThrows(IllegalArgumentException.class, () -> publisher.setMaxSubmitAttempts(0));
+        }
+    }
+
+    private static TopicPublisher newPublisher(Client client) {
+        client.getReceiptTracker()
+                .setMinPollInterval(Duration.ofMillis(10))
+                .setMaxPollInterval(Duration.ofMillis(10))
+                .setLatencyEstimate(Duration.ZERO);
+
+        return new TopicPublisher(client).setMaxInFlightPerTopic(4);
+    }
+
+    /**
+     * Assigns sequence numbers to the messages in the order they are submitted, and answers the receipt queries.
+     */
+    private static final class FakeConsensus {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> rejected = new ArrayList<>();
+        private final Map<TransactionID, Long> sequenceNumbers = new ConcurrentHashMap<>();
+
+        private List<Object> responses(int count) {
+            var responses = new ArrayList<Object>();
+            for (var i = 0; i < count * 4; i++) {
+                responses.add((Function<Object, Object>) this::respond);
+            }
+
+            return responses;
+        }
+
+        private synchronized Object respond(Object request) {
+            try {
+                if (request instanceof Query query) {
+                    var transactionId = query.getTransactionGetReceipt().getTransactionID();
+                    var sequenceNumber = sequenceNumbers.get(transactionId);
+
+                    var receipt = TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS);
+                    if (sequenceNumber != null) {
+                        receipt.setTopicSequenceNumber(sequenceNumber)
+                                .setTopicRunningHash(ByteString.copyFromUtf8("hash" + sequenceNumber));
+                    }
+
+                    return Response.newBuilder()
+                            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                                    .setHeader(ResponseHeader.newBuilder()
+                                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                                    .setReceipt(receipt))
+                            .build();
+                }
+
+                var transaction = (com.hedera.hashgraph.sdk.proto.Transaction) request;
+                var body = TransactionBody.parseFrom(SignedTransaction.parseFrom(
+                                transaction.getSignedTransactionBytes())
+                        .getBodyBytes());
+                var message = body.getConsensusSubmitMessage().getMessage().toStringUtf8();
+
+                if (rejected.contains(message)) {
+                    return TransactionResponse.newBuilder()
+                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.INVALID_TOPIC_MESSAGE)
+                            .build();
+                }
+
+                messages.add(message);
+                sequenceNumbers.put(body.getTransactionID(), (long) messages.size());
+
+                return TransactionResponse.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .build();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class TopicSubscriptionManagerTest {
+    private static final Instant CONSENSUS_TIMESTAMP = Instant.now().minusSeconds(10);
+
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final List<TopicMessage> received = new CopyOnWriteArrayList<>();
+    private Client client;
+    private Server server;
+    private TopicSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setMirrorNetwork(List.of("in-process:topic-subscription-manager"));
+        server = InProcessServerBuilder.forName("topic-subscription-manager")
+                .addService(new OpenStreamService())
+                .directExecutor()
+                .build()
+                .start();
+        manager = new TopicSubscriptionManager(client).setStreamOpenInterval(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        manager.close();
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Test
+    @Timeout(5)
+    void limitsTheStreamsOfAMirrorNode() {
+        manager.setMaxStreamsPerMirrorNode(1);
+
+        var first = manager.subscribe(query(1), received::add);
+        manager.subscribe(query(2), received::add);
+
+        await(() -> received.size() == 1);
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+
+        assertThat(openStreams.get()).isEqualTo(1);
+        var metrics = manager.getMetrics();
+        assertThat(metrics.getOpenStreams()).isEqualTo(1);
+        assertThat(metrics.getWaitingStreams()).isEqualTo(1);
+
+        first.unsubscribe();
+
+        await(() -> received.size() == 2);
+        assertThat(manager.getMetrics().getActiveSubscriptions()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(5)
+    void measuresTheSubscriptions() {
+        var before = manager.getMetrics();
+
+        manager.subscribe(query(1), received::add);
+        manager.subscribe(query(2), received::add);
+        await(() -> received.size() == 2);
+
+        var metrics = manager.getMetrics();
+        assertThat(metrics.getActiveSubscriptions()).isEqualTo(2);
+        assertThat(metrics.getOpenStreams()).isEqualTo(2);
+        assertThat(metrics.getResponsesReceived()).isEqualTo(2);
+        assertThat(metrics.getReconnects()).isZero();
+        assertThat(metrics.getMaxLag()).isGreaterThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(metrics.getResponsesPerSecondSince(before)).isPositive();
+    }
+
+    @Test
+    @Timeout(5)
+    void forgetsEndedSubscriptions() {
+        var subscription = manager.subscribe(query(1), received::add);
+        await(() -> received.size() == 1);
+
+        subscription.unsubscribe();
+
+        assertThat(manager.size()).isZero();
+
+        var metrics = manager.getMetrics();
+        assertThat(metrics.getActiveSubscriptions()).isZero();
+        assertThat(metrics.getResponsesReceived()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(5)
+    void spacesTheOpeningOfStreams() {
+        manager.setStreamOpenInterval(Duration.ofMillis(300));
+        var stopwatch = Stopwatch.createStarted();
+
+        for (var topic = 1; topic <= 3; topic++) {
+            manager.subscribe(query(topic), received::add);
+        }
+
+        await(() -> received.size() == 3);
+        assertThat(stopwatch.elapsed(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(600);
+    }
+
+    @Test
+    @Timeout(5)
+    void closeCancelsEverySubscription() {
+        manager.subscribe(query(1), received::add);
+        await(() -> openStreams.get() == 1);
+
+        manager.close();
+
+        await(() -> openStreams.get() == 0);
+        assertThat(manager.getMetrics().getOpenStreams()).isZero();
+        assertThatThrownBy(() -> manager.subscribe(query(2), received::add))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static TopicMessageQuery query(long topic) {
+        return new TopicMessageQuery().setTopicId(new TopicId(0, 0, topic)).setStartTime(CONSENSUS_TIMESTAMP);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        var stopwatch = Stopwatch.createStarted();
+        while (!condition.getAsBoolean() && stopwatch.elapsed(TimeUnit.SECONDS) < 3) {
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Sends one message on every stream, then keeps it open until cancelled.
+     */
+    private class OpenStreamService extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+        @Override
+        public void subscribeTopic(ConsensusTopicQuery query, StreamObserver<ConsensusTopicResponse> observer) {
+            var serverObserver = (ServerCallStreamObserver<ConsensusTopicResponse>) observer;
+            openStreams.incrementAndGet();
+            serverObserver.setOnCancelHandler(openStreams::decrementAndGet);
+
+            observer.onNext(ConsensusTopicResponse.newBuilder()
+                    .setConsensusTimestamp(Timestamp.newBuilder()
+                            .setSeconds(CONSENSUS_TIMESTAMP.getEpochSecond())
+                            .setNanos(CONSENSUS_TIMESTAMP.getNano()))
+                    .setSequenceNumber(1)
+                    .setMessage(ByteString.copyFromUtf8("topic " + query.getTopicID().getTopicNum()))
+                    .setRunningHash(ByteString.copyFromUtf8("hash"))
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TransactionBatchReaderTest {
+    private static final PrivateKey firstKey = PrivateKey.fromString(
+            "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final PrivateKey secondKey = PrivateKey.generateED25519();
+    private static final AccountId operatorId = AccountId.fromString("0.0.5006");
+    private static final List<AccountId> nodeAccountIds =
+            List.of(AccountId.fromString("0.0.3"), AccountId.fromString("0.0.4"));
+
+    @TempDir
+    Path directory;
+
+    private static TransferTransaction spawnTransaction(int index) {
+        return new TransferTransaction()
+                .setTransactionId(
+                        TransactionId.withValidStart(operatorId, Instant.ofEpochSecond(1_554_158_542L + index)))
+                .setNodeAccountIds(nodeAccountIds)
+                .addHbarTransfer(operatorId, Hbar.fromTinybars(-index - 1))
+                .addHbarTransfer(AccountId.fromString("0.0.1001"), Hbar.fromTinybars(index + 1))
+                .freeze()
+                .sign(firstKey);
+    }
+
+    private Path writeBatch(int count, int signatureReserve) throws IOException {
+        var path = directory.resolve("batch.bin");
+
+        try (var writer = TransactionBatchWriter.create(path).setSignatureReserve(signatureReserve)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(spawnTransaction(i));
+            }
+        }
+
+        return path;
+    }
+
+    @Test
+    void readsTransactionsInOrder() throws IOException {
+        var path = writeBatch(3, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThat(reader.size()).isEqualTo(3);
+
+            var transactions = reader.stream().collect(Collectors.toList());
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(transactions.get(i).toBytes()).isEqualTo(spawnTransaction(i).toBytes());
+            }
+        }
+    }
+
+    @Test
+    void looksUpTransactionsById() throws IOException {
+        var path = writeBatch(3, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+        var expected = spawnTransaction(1);
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            var transaction = reader.get(expected.getTransactionId());
+
+            assertThat(transaction).isNotNull();
+            assertThat(transaction.toBytes()).isEqualTo(expected.toBytes());
+            assertThat(reader.get(TransactionId.withValidStart(operatorId, Instant.EPOCH)))
+                    .isNull();
+        }
+    }
+
+    @Test
+    void appendAddsToExistingBatch() throws IOException {
+        var path = writeBatch(2, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+
+        try (var writer = TransactionBatchWriter.append(path)) {
+            writer.write(spawnTransaction(2));
+        }
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThat(reader.size()).isEqualTo(3);
+            assertThat(reader.get(2).toBytes()).isEqualTo(spawnTransaction(2).toBytes());
+        }
+    }
+
+    @Test
+    void signsTransactionsInPlace() throws IOException {
+        var path = writeBatch(3, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+        var sizeBefore = Files.size(path);
+
+        try (var reader = TransactionBatchReader.openForSigning(path)) {
+            reader.sign(secondKey);
+        }
+
+        assertThat(Files.size(path)).isEqualTo(sizeBefore);
+        assertSignedByBoth(path, 3);
+    }
+
+    @Test
+    void relocatesTransactionsThatOutgrowTheirRecord() throws IOException {
+        var path = writeBatch(3, 0);
+        var sizeBefore = Files.size(path);
+        var id = spawnTransaction(1).getTransactionId();
+
+        try (var reader = TransactionBatchReader.openForSigning(path)) {
+            reader.sign(id, secondKey);
+
+            assertThat(reader.get(id).getSignatures().get(nodeAccountIds.get(0)))
+                    .containsKey(secondKey.getPublicKey());
+        }
+
+        assertThat(Files.size(path)).isGreaterThan(sizeBefore);
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThat(reader.size()).isEqualTo(3);
+
+            var ids = new ArrayList<TransactionId>();
+            reader.forEach(transaction -> ids.add(transaction.getTransactionId()));
+
+            // the relocated record is now the last one in the file
+            assertThat(ids.get(2)).isEqualTo(id);
+            assertThat(reader.get(id).getSignatures().get(nodeAccountIds.get(1)))
+                    .containsKey(secondKey.getPublicKey());
+        }
+    }
+
+    @Test
+    void relocatedTransactionsKeepRoomForSignatures() throws IOException {
+        var path = writeBatch(3, 0);
+        var id = spawnTransaction(1).getTransactionId();
+
+        try (var reader = TransactionBatchReader.openForSigning(path)) {
+            reader.sign(id, secondKey);
+        }
+
+        var sizeAfterRelocation = Files.size(path);
+
+        try (var reader = TransactionBatchReader.openForSigning(path)) {
+            reader.sign(id, PrivateKey.generateED25519());
+        }
+
+        assertThat(Files.size(path)).isEqualTo(sizeAfterRelocation);
+    }
+
+    @Test
+    void readsTheLastCopyOfARecordLeftByAnInterruptedRelocation() throws IOException {
+        var path = writeBatch(3, 0);
+        var signed = spawnTransaction(1).sign(secondKey);
+
+        // as if the signing stopped after the relocated record was written, before the old one was given up
+        try (var writer = TransactionBatchWriter.append(path)) {
+            writer.write(signed);
+        }
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThat(reader.size()).isEqualTo(3);
+            assertThat(reader.get(1).toBytes()).isEqualTo(signed.toBytes());
+            assertThat(reader.get(signed.getTransactionId()).toBytes()).isEqualTo(signed.toBytes());
+        }
+    }
+
+    @Test
+    void signRequiresWritableReader() throws IOException {
+        var path = writeBatch(1, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThrows(IllegalStateException.class, () -> reader.sign(secondKey));
+        }
+    }
+
+    @Test
+    void signUnknownTransactionFails() throws IOException {
+        var path = writeBatch(1, TransactionBatchWriter.DEFAULT_SIGNATURE_RESERVE);
+
+        try (var reader = TransactionBatchReader.openForSigning(path)) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> reader.sign(TransactionId.withValidStart(operatorId, Instant.EPOCH), secondKey));
+        }
+    }
+
+    @Test
+    void openRejectsFilesThatAreNotBatches() throws IOException {
+        var path = directory.resolve("other.bin");
+        Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> TransactionBatchReader.open(path));
+    }
+
+    private static void assertSignedByBoth(Path path, int count) throws IOException {
+        try (var reader = TransactionBatchReader.open(path)) {
+            assertThat(reader.size()).isEqualTo(count);
+
+            for (var transaction : reader) {
+                for (var nodeAccountId : nodeAccountIds) {
+                    assertThat(transaction.getSignatures().get(nodeAccountId))
+                            .containsKeys(firstKey.getPublicKey(), secondKey.getPublicKey());
+                }
+            }
+        }
+    }
+}
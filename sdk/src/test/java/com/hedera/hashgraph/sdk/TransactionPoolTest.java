@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionPoolTest {
+    private static final PrivateKey operatorKey = PrivateKey.fromString(
+            "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final AccountId operatorId = AccountId.fromString("0.0.5006");
+    private static final List<AccountId> nodeAccountIds =
+            List.of(AccountId.fromString("0.0.3"), AccountId.fromString("0.0.4"));
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        var network = new HashMap<String, AccountId>();
+        network.put("127.0.0.1:50211", nodeAccountIds.get(0));
+        network.put("127.0.0.1:50212", nodeAccountIds.get(1));
+        client = Client.forNetwork(network).setOperator(operatorId, operatorKey);
+    }
+
+    @AfterEach
+    void tearDown() throws TimeoutException {
+        client.close();
+    }
+
+    private TransactionPool<TransferTransaction> spawnPool() {
+        return new TransactionPool<TransferTransaction>(client, () -> new TransferTransaction()
+                        .addHbarTransfer(operatorId, Hbar.fromTinybars(-1))
+                        .addHbarTransfer(AccountId.fromString("0.0.1001"), Hbar.fromTinybars(1)))
+                .setNodeAccountIds(nodeAccountIds);
+    }
+
+    @Test
+    void fillPreparesFrozenAndSignedTransactions() {
+        var pool = spawnPool().setSize(3).fill();
+
+        assertThat(pool.available()).isEqualTo(3);
+
+        var transaction = pool.take();
+
+        assertThat(transaction.isFrozen()).isTrue();
+        assertThat(transaction.getNodeAccountIds()).containsExactlyElementsOf(nodeAccountIds);
+        assertThat(transaction.getTransactionId().accountId).isEqualTo(operatorId);
+        assertThat(transaction.getSignatures().get(nodeAccountIds.get(0))).containsKey(operatorKey.getPublicKey());
+        assertThat(transaction.getSignatures().get(nodeAccountIds.get(1))).containsKey(operatorKey.getPublicKey());
+    }
+
+    @Test
+    void takenTransactionsHaveUniqueTransactionIds() {
+        var pool = spawnPool().setSize(4).fill();
+
+        var first = pool.take().getTransactionId();
+        var second = pool.take().getTransactionId();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.validStart).isBefore(second.validStart);
+    }
+
+    @Test
+    void expiredEntriesAreDiscarded() {
+        var prepared = new AtomicInteger();
+        var pool = new TransactionPool<TransferTransaction>(client, () -> {
+                    prepared.incrementAndGet();
+                    return new TransferTransaction();
+                })
+                .setNodeAccountIds(nodeAccountIds)
+                .setSize(2)
+                .setExpiryMargin(Duration.ZERO)
+                .setValidStartOffset(Duration.ofSeconds(-120))
+                .fill();
+
+        assertThat(prepared.get()).isEqualTo(2);
+
+        // Every entry was already at the end of its valid duration when it was prepared, so a new one is needed
+        pool.take();
+
+        assertThat(prepared.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void futureValidStartIsNotHandedOut() {
+        var pool = spawnPool().setSize(1).setValidStartOffset(Duration.ofMinutes(1)).fill();
+
+        var transaction = pool.take();
+
+        assertThat(transaction.getTransactionId().validStart).isBeforeOrEqualTo(Instant.now());
+    }
+
+    @Test
+    void pooledAndOnDemandValidStartsNeverMeet() {
+        var pooled = spawnPool().setSize(1).fill().take();
+        var onDemand = spawnPool().setValidStartOffset(Duration.ofMinutes(1)).take();
+
+        // pooled valid starts have an even nanosecond and those prepared on demand an odd one
+        assertThat(pooled.getTransactionId().validStart.getNano() % 2).isZero();
+        assertThat(onDemand.getTransactionId().validStart.getNano() % 2).isOne();
+    }
+
+    @Test
+    void takeRequiresOperator() throws TimeoutException {
+        var clientWithoutOperator = Client.forNetwork(new HashMap<>());
+        var pool = new TransactionPool<TransferTransaction>(clientWithoutOperator, TransferTransaction::new);
+
+        assertThrows(IllegalStateException.class, pool::take);
+
+        clientWithoutOperator.close();
+    }
+
+    @Test
+    void setSizeRejectsNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> spawnPool().setSize(0));
+    }
+}
@@ -5,6 +5,8 @@ import static com.hedera.hashgraph.sdk.Transaction.fromBytes;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.AccountAmount;
 import com.hedera.hashgraph.sdk.proto.AccountID;
@@ -16,6 +18,9 @@ import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.TransactionList;
 import com.hedera.hashgraph.sdk.proto.TransferList;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -926,4 +931,80 @@ public class TransactionTest {
                 TransactionBody.parseFrom(signableBodiesFalse.get(0).getBody());
         assertThat(bodyFalse.getHighVolume()).isFalse();
     }
+
+    @Test
+    void writeToOutputStreamMatchesToBytes() throws Exception {
+        var transaction = spawnTestTransaction(TransactionBody.getDefaultInstance());
+        var output = new ByteArrayOutputStream();
+
+        transaction.writeTo(output);
+
+        assertThat(output.toByteArray()).isEqualTo(transaction.toBytes());
+    }
+
+    @Test
+    void writeToByteBufferMatchesToBytes() {
+        var transaction = spawnTestTransaction(TransactionBody.getDefaultInstance());
+        var expected = transaction.toBytes();
+        var buffer = ByteBuffer.allocateDirect(expected.length + 8);
+        buffer.position(8);
+
+        var written = transaction.writeTo(buffer);
+
+        assertThat(written).isEqualTo(expected.length);
+        assertThat(buffer.position()).isEqualTo(8 + expected.length);
+
+        var actual = new byte[written];
+        buffer.position(8);
+        buffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void writeToByteBufferFailsWithoutEnoughSpace() {
+        var transaction = spawnTestTransaction(TransactionBody.getDefaultInstance());
+        var buffer = ByteBuffer.allocate(transaction.toBytes().length - 1);
+
+        assertThrows(BufferOverflowException.class, () -> transaction.writeTo(buffer));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void writeToCodedOutputStreamMatchesToBytes() throws Exception {
+        var transaction = spawnTestTransaction(TransactionBody.getDefaultInstance());
+        var output = new ByteArrayOutputStream();
+        var coded = CodedOutputStream.newInstance(output);
+
+        transaction.writeTo(coded);
+        coded.flush();
+
+        assertThat(output.toByteArray()).isEqualTo(transaction.toBytes());
+    }
+
+    @Test
+    void hashOfByteStringMatchesHashOfByteArray() {
+        var bytes = new byte[10_000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        // a rope made of several segments must hash the same as the flat array
+        var rope = ByteString.copyFrom(bytes, 0, 3_000)
+                .concat(ByteString.copyFrom(bytes, 3_000, 4_000))
+                .concat(ByteString.copyFrom(bytes, 7_000, 3_000));
+
+        assertThat(Transaction.hash(rope)).isEqualTo(Transaction.hash(bytes));
+        assertThat(Transaction.hash(ByteString.copyFrom(bytes))).isEqualTo(Transaction.hash(bytes));
+    }
+
+    @Test
+    void transactionHashIsHashOfSignedTransactionBytes() throws Exception {
+        var transaction = spawnTestTransaction(TransactionBody.getDefaultInstance());
+        var signedTransactionBytes = TransactionList.parseFrom(transaction.toBytes())
+                .getTransactionList(0)
+                .getSignedTransactionBytes()
+                .toByteArray();
+
+        assertThat(transaction.getTransactionHash()).isEqualTo(Transaction.hash(signedTransactionBytes));
+    }
 }